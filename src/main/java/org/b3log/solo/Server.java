@@ -40,6 +40,7 @@ import org.b3log.solo.processor.console.*;
 import org.b3log.solo.repository.OptionRepository;
 import org.b3log.solo.service.*;
 import org.b3log.solo.util.Markdowns;
+import org.b3log.solo.util.Statics;
 import org.json.JSONObject;
 
 import java.io.StringWriter;
@@ -49,7 +50,7 @@ import java.util.concurrent.atomic.AtomicInteger;
  * Server.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 3.0.1.7, May 21, 2020
+ * @version 3.0.1.25, Oct 16, 2026
  * @since 1.2.0
  */
 public final class Server extends BaseServer {
@@ -62,7 +63,7 @@ public final class Server extends BaseServer {
     /**
      * Solo version.
      */
-    public static final String VERSION = "4.1.0";
+    public static final String VERSION = "4.2.0";
 
     /**
      * In-Memory tail logger writer.
@@ -300,9 +301,22 @@ public final class Server extends BaseServer {
         final CronMgmtService cronMgmtService = beanManager.getReference(CronMgmtService.class);
         cronMgmtService.start();
 
+        final WarmUpService warmUpService = beanManager.getReference(WarmUpService.class);
+        // 页面缓存清空或者首页、全站页面失效后重新预热
+        Statics.addEvictListener(warmUpService::warmUp);
+
+        if (initService.isInited()) {
+            final ArticleIndexService articleIndexService = beanManager.getReference(ArticleIndexService.class);
+            articleIndexService.buildIndexes();
+
+            warmUpService.warmUp();
+        }
+
         final Server server = new Server();
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             cronMgmtService.stop();
+            Statics.shutdown();
+            Markdowns.shutdown();
             server.shutdown();
             Latkes.shutdown();
         }));
@@ -461,7 +475,8 @@ public final class Server extends BaseServer {
 
         final CommentProcessor commentProcessor = beanManager.getReference(CommentProcessor.class);
         final Dispatcher.RouterGroup commentGroup = Dispatcher.group();
-        commentGroup.post("/article/comments", commentProcessor::addArticleComment);
+        commentGroup.post("/article/comments", commentProcessor::addArticleComment).
+                get("/article/id/{id}/comments", commentProcessor::getArticleComments);
 
         final FeedProcessor feedProcessor = beanManager.getReference(FeedProcessor.class);
         final Dispatcher.RouterGroup feedGroup = Dispatcher.group();
@@ -485,7 +500,8 @@ public final class Server extends BaseServer {
         final SearchProcessor searchProcessor = beanManager.getReference(SearchProcessor.class);
         final Dispatcher.RouterGroup searchGroup = Dispatcher.group();
         searchGroup.get("/opensearch.xml", searchProcessor::showOpensearchXML).
-                get("/search", searchProcessor::search);
+                get("/search", searchProcessor::search).
+                get("/search/suggest", searchProcessor::suggest);
 
         final SitemapProcessor sitemapProcessor = beanManager.getReference(SitemapProcessor.class);
         final Dispatcher.RouterGroup sitemapGroup = Dispatcher.group();
@@ -625,7 +641,8 @@ public final class Server extends BaseServer {
         otherConsoleGroup.middlewares(consoleAdminAuthMidware::handle);
         otherConsoleGroup.delete("/console/archive/unused", otherConsole::removeUnusedArchives).
                 delete("/console/tag/unused", otherConsole::removeUnusedTags);
-        otherConsoleGroup.get("/console/log", otherConsole::getLog);
+        otherConsoleGroup.get("/console/log", otherConsole::getLog).
+                get("/console/stats", otherConsole::getStats);
 
         final UserConsole userConsole = beanManager.getReference(UserConsole.class);
         final Dispatcher.RouterGroup userConsoleGroup = Dispatcher.group();
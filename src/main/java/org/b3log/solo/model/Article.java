@@ -12,8 +12,10 @@
 package org.b3log.solo.model;
 
 import org.apache.commons.lang.StringUtils;
+import org.b3log.solo.util.HtmlPipeline;
 import org.b3log.solo.util.Images;
 import org.b3log.solo.util.Markdowns;
+import org.json.JSONArray;
 import org.json.JSONObject;
 import org.jsoup.Jsoup;
 import org.jsoup.safety.Whitelist;
@@ -22,7 +24,7 @@ import org.jsoup.safety.Whitelist;
  * This class defines all article model relevant keys.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 1.5.0.2, Sep 12, 2019
+ * @version 1.5.2.1, Oct 16, 2026
  * @since 0.3.1
  */
 public final class Article {
@@ -57,6 +59,26 @@ public final class Article {
      */
     public static final String ARTICLE_CONTENT = "articleContent";
 
+    /**
+     * Key of content HTML.
+     */
+    public static final String ARTICLE_CONTENT_HTML = "articleContentHTML";
+
+    /**
+     * Key of abstract HTML.
+     */
+    public static final String ARTICLE_ABSTRACT_HTML = "articleAbstractHTML";
+
+    /**
+     * Key of meta description.
+     */
+    public static final String ARTICLE_META_DESCRIPTION = "articleMetaDescription";
+
+    /**
+     * Key of content ToC, JSON array of the ToC items.
+     */
+    public static final String ARTICLE_CONTENT_TOC = "articleContentToC";
+
     /**
      * Key of created at.
      */
@@ -177,6 +199,21 @@ public final class Article {
      */
     private static final int ARTICLE_ABSTRACT_LENGTH = 500;
 
+    /**
+     * Article meta description max length.
+     */
+    private static final int ARTICLE_META_DESCRIPTION_LENGTH = 2048;
+
+    /**
+     * Article content ToC max length.
+     */
+    private static final int ARTICLE_CONTENT_TOC_LENGTH = 65535;
+
+    /**
+     * Content ToC pipeline.
+     */
+    private static final HtmlPipeline TOC_PIPELINE = new HtmlPipeline(HtmlPipeline.TOC);
+
     /**
      * Width of article first image.
      */
@@ -226,6 +263,39 @@ public final class Article {
         return ret;
     }
 
+    /**
+     * Renders the content HTML, content ToC, abstract HTML and meta description of the specified article, they are
+     * saved along with the article so that the reads need not to convert Markdown again. The headings in the content
+     * HTML get the ids the ToC items link to. A part failed to render is saved as "", which is rendered again on read.
+     *
+     * @param article the specified article
+     */
+    public static void renderHTML(final JSONObject article) {
+        final String contentHTML = Markdowns.tryToHTML(article.optString(Article.ARTICLE_CONTENT));
+        if (null == contentHTML) {
+            // 渲染失败时不保存失败提示，展现时再渲染
+            article.put(Article.ARTICLE_CONTENT_HTML, "");
+            article.put(Article.ARTICLE_CONTENT_TOC, "");
+        } else {
+            final HtmlPipeline.Result toc = TOC_PIPELINE.process(contentHTML);
+            article.put(Article.ARTICLE_CONTENT_HTML, toc.getHTML());
+            final String tocJSON = new JSONArray(toc.getToC()).toString();
+            // 超长的目录不保存，展现时再从正文中提取
+            article.put(Article.ARTICLE_CONTENT_TOC, ARTICLE_CONTENT_TOC_LENGTH < tocJSON.length() ? "" : tocJSON);
+        }
+
+        final String abstractHTML = Markdowns.tryToHTML(article.optString(Article.ARTICLE_ABSTRACT));
+        if (null == abstractHTML) {
+            article.put(Article.ARTICLE_ABSTRACT_HTML, "");
+            article.put(Article.ARTICLE_META_DESCRIPTION, "");
+            return;
+        }
+        article.put(Article.ARTICLE_ABSTRACT_HTML, abstractHTML);
+
+        final String metaDescription = Jsoup.parse(abstractHTML).text();
+        article.put(Article.ARTICLE_META_DESCRIPTION, StringUtils.substring(metaDescription, 0, ARTICLE_META_DESCRIPTION_LENGTH));
+    }
+
     /**
      * Gets the abstract plain text of the specified content.
      *
@@ -11,14 +11,19 @@
  */
 package org.b3log.solo.model;
 
+import org.b3log.solo.util.Markdowns;
 import org.json.JSONException;
 import org.json.JSONObject;
+import org.jsoup.Jsoup;
+import org.jsoup.safety.Whitelist;
+
+import java.nio.charset.StandardCharsets;
 
 /**
  * This class defines all comment model relevant keys.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 1.2.0.2, Apr 19, 2019
+ * @version 1.2.1.1, Oct 16, 2026
  * @since 0.3.1
  */
 public final class Comment {
@@ -38,11 +43,26 @@ public final class Comment {
      */
     public static final String COMMENT_CONTENT = "commentContent";
 
+    /**
+     * Key of content HTML.
+     */
+    public static final String COMMENT_CONTENT_HTML = "commentContentHTML";
+
+    /**
+     * Content HTML max length in bytes, the TEXT column limit of MySQL.
+     */
+    private static final int COMMENT_CONTENT_HTML_LENGTH = 65535;
+
     /**
      * Key of comment name.
      */
     public static final String COMMENT_NAME = "commentName";
 
+    /**
+     * Key of name HTML.
+     */
+    public static final String COMMENT_NAME_HTML = "commentNameHTML";
+
     /**
      * Key of comment URL.
      */
@@ -112,6 +132,24 @@ public final class Comment {
         return article.getString(Article.ARTICLE_PERMALINK) + "#" + commentId;
     }
 
+    /**
+     * Renders the sanitized content HTML and the escaped name of the specified comment, they are saved along with the
+     * comment so that the reads need not to convert Markdown and clean again. The content HTML failed to render or
+     * too long for the column is saved as "", which is rendered again on read.
+     *
+     * @param comment the specified comment
+     */
+    public static void renderHTML(final JSONObject comment) {
+        final String contentHTML = Markdowns.tryCommentToHTML(comment.optString(COMMENT_CONTENT));
+        if (null == contentHTML || COMMENT_CONTENT_HTML_LENGTH < contentHTML.getBytes(StandardCharsets.UTF_8).length) {
+            // 渲染失败时不保存失败提示，表情展开后超长的也不保存，展现时再渲染
+            comment.put(COMMENT_CONTENT_HTML, "");
+        } else {
+            comment.put(COMMENT_CONTENT_HTML, contentHTML);
+        }
+        comment.put(COMMENT_NAME_HTML, Jsoup.clean(comment.optString(COMMENT_NAME), Whitelist.none()));
+    }
+
     /**
      * Private constructor.
      */
@@ -16,7 +16,7 @@ package org.b3log.solo.model;
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
  * @author <a href="https://hacpai.com/member/e">Dongxu Wang</a>
- * @version 1.7.0.9, Apr 30, 2020
+ * @version 1.7.0.10, Oct 16, 2026
  * @since 0.3.1
  */
 public final class Common {
@@ -116,6 +116,11 @@ public final class Common {
      */
     public static final String NEXT_ARTICLE_ABSTRACT = "nextArticleAbstract";
 
+    /**
+     * Cursor of the next page of comments.
+     */
+    public static final String COMMENT_CURSOR = "commentCursor";
+
     /**
      * Is index.
      */
@@ -19,17 +19,13 @@ import org.b3log.latke.http.RequestContext;
 import org.b3log.latke.ioc.BeanManager;
 import org.b3log.latke.plugin.NotInteractivePlugin;
 import org.b3log.latke.plugin.PluginStatus;
+import org.b3log.latke.util.CollectionUtils;
 import org.b3log.solo.event.EventTypes;
 import org.b3log.solo.model.Article;
+import org.b3log.solo.util.HtmlPipeline;
+import org.json.JSONArray;
 import org.json.JSONObject;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.parser.Parser;
-import org.jsoup.select.Elements;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -71,11 +67,16 @@ public class ToCPlugin extends NotInteractivePlugin {
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
  * @author <a href="http://www.annpeter.cn">Ann Peter</a>
  * @author <a href="http://vanessa.b3log.org">Vanessa</a>
- * @version 2.0.0.3, Mar 8, 2020
+ * @version 2.2.0.0, Oct 16, 2026
  * @since 0.6.7
  */
 class ToCEventHandler extends AbstractEventListener<JSONObject> {
 
+    /**
+     * ToC pipeline.
+     */
+    private static final HtmlPipeline PIPELINE = new HtmlPipeline(HtmlPipeline.TOC);
+
     @Override
     public String getEventType() {
         return EventTypes.BEFORE_RENDER_ARTICLE;
@@ -85,31 +86,17 @@ class ToCEventHandler extends AbstractEventListener<JSONObject> {
     public void action(final Event<JSONObject> event) {
         final JSONObject data = event.getData();
         final JSONObject article = data.optJSONObject(Article.ARTICLE);
-        final String content = article.optString(Article.ARTICLE_CONTENT);
-        final Document doc = Jsoup.parse(content, StringUtils.EMPTY, Parser.htmlParser());
-        doc.outputSettings().prettyPrint(false);
+        final String storedToC = data.optString(Article.ARTICLE_CONTENT_TOC);
+        if (StringUtils.isNotBlank(storedToC)) {
+            // 发布时已经生成了目录和标题 id
+            article.put(Article.ARTICLE_T_TOC, (Object) CollectionUtils.jsonArrayToList(new JSONArray(storedToC)));
 
-        final List<JSONObject> toc = new ArrayList<>();
-        final Elements hs = doc.select("body>h1, body>h2, body>h3, body>h4, body>h5, body>h6");
-        for (int i = 0; i < hs.size(); i++) {
-            final Element element = hs.get(i);
-            final String tagName = element.tagName().toLowerCase();
-            final String text = element.text();
-            String id = element.attr("id");
-            if (StringUtils.isBlank(id)) {
-                id = "toc_" + tagName + "_" + i;
-            } else if (StringUtils.startsWith(id, "#")) {
-                id = StringUtils.substringAfter(id, "#");
-            }
-            element.attr("id", id);
-            final JSONObject li = new JSONObject().
-                    put("className", "toc__" + tagName).
-                    put("id", id).
-                    put("text", text);
-            toc.add(li);
+            return;
         }
-        final Element body = doc.getElementsByTag("body").get(0);
-        article.put(Article.ARTICLE_CONTENT, body.html());
-        article.put(Article.ARTICLE_T_TOC, (Object) toc);
+
+        final String content = article.optString(Article.ARTICLE_CONTENT);
+        final HtmlPipeline.Result result = PIPELINE.process(content);
+        article.put(Article.ARTICLE_CONTENT, result.getHTML());
+        article.put(Article.ARTICLE_T_TOC, (Object) result.getToC());
     }
 }
@@ -19,12 +19,13 @@ import org.b3log.latke.http.function.Handler;
 import org.b3log.latke.repository.jdbc.JdbcRepository;
 import org.b3log.latke.util.Stopwatchs;
 import org.b3log.latke.util.Strings;
+import org.b3log.solo.util.Statics;
 
 /**
  * After request handler.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 1.0.0.0, Nov 3, 2019
+ * @version 1.0.0.1, Oct 16, 2026
  * @since 3.6.7
  */
 public class AfterRequestHandler implements Handler {
@@ -33,6 +34,7 @@ public class AfterRequestHandler implements Handler {
 
     @Override
     public void handle(final RequestContext context) {
+        Statics.release(context);
         JdbcRepository.dispose();
         Stopwatchs.end();
 
@@ -39,9 +39,10 @@ import org.b3log.solo.event.EventTypes;
 import org.b3log.solo.model.*;
 import org.b3log.solo.processor.console.ConsoleRenderer;
 import org.b3log.solo.service.*;
-import org.b3log.solo.util.Markdowns;
+import org.b3log.solo.util.MarkdownPreview;
 import org.b3log.solo.util.Skins;
 import org.b3log.solo.util.Solos;
+import org.b3log.solo.util.Statics;
 import org.json.JSONObject;
 import org.jsoup.Jsoup;
 
@@ -52,7 +53,7 @@ import java.util.*;
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
  * @author <a href="https://hacpai.com/member/ZephyrJung">Zephyr</a>
- * @version 2.0.0.1, Apr 18, 2020
+ * @version 2.0.2.2, Oct 16, 2026
  * @since 0.3.1
  */
 @Singleton
@@ -69,6 +70,12 @@ public class ArticleProcessor {
     @Inject
     private ArticleQueryService articleQueryService;
 
+    /**
+     * Relevant article service.
+     */
+    @Inject
+    private RelevantArticleService relevantArticleService;
+
     /**
      * Tag query service.
      */
@@ -124,12 +131,25 @@ public class ArticleProcessor {
     private EventManager eventManager;
 
     /**
-     * Markdowns.
+     * Markdowns. Renders the changed blocks of the draft only, see {@link MarkdownPreview}.
      * <p>
+     * Request json:
+     * <pre>
+     * {
+     *     "markdownText": "",
+     *     "previewId": "", // optional, distinguishes the editors of the same user
+     *     "patch": boolean // optional, responds the block-level patch instead of the whole HTML
+     * }
+     * </pre>
      * Renders the response with a json object, for example,
      * <pre>
      * {
-     *     "html": ""
+     *     "code": 0,
+     *     "data": "" // the whole HTML, or if "patch" is true, for example,
+     *     // {
+     *     //     "hashes": ["", ....], // hashes of the blocks in order
+     *     //     "blocks": {"hash": "", ....} // HTML of the blocks not in the last response
+     *     // }
      * }
      * </pre>
      * </p>
@@ -140,7 +160,8 @@ public class ArticleProcessor {
         final JSONObject result = Solos.newSucc();
         context.renderJSON(result);
 
-        final String markdownText = context.requestJSON().optString("markdownText");
+        final JSONObject requestJSON = context.requestJSON();
+        final String markdownText = requestJSON.optString("markdownText");
         if (StringUtils.isBlank(markdownText)) {
             result.put(Common.DATA, "");
             return;
@@ -153,8 +174,14 @@ public class ArticleProcessor {
         }
 
         try {
-            final String html = Markdowns.toHTML(markdownText);
-            result.put(Common.DATA, html);
+            final String userId = Solos.getCurrentUser(context).optString(Keys.OBJECT_ID);
+            final JSONObject preview = MarkdownPreview.render(userId + ":" + requestJSON.optString("previewId"), markdownText);
+            if (requestJSON.optBoolean("patch")) {
+                preview.remove("html");
+                result.put(Common.DATA, preview);
+            } else {
+                result.put(Common.DATA, preview.optString("html"));
+            }
         } catch (final Exception e) {
             LOGGER.log(Level.ERROR, e.getMessage(), e);
             result.put(Keys.CODE, -1);
@@ -304,13 +331,17 @@ public class ArticleProcessor {
             return;
         }
 
-        final JSONObject article = articleQueryService.getArticleById(articleId);
-        if (null == article) {
-            context.sendError(404);
-            return;
-        }
+        // 优先从内存中的相关文章图取，图未构建或文章未发布时回退按标签查询
+        List<JSONObject> relevantArticles = relevantArticleService.getRelevantArticles(articleId, displayCnt);
+        if (null == relevantArticles) {
+            final JSONObject article = articleQueryService.getArticleById(articleId);
+            if (null == article) {
+                context.sendError(404);
+                return;
+            }
 
-        final List<JSONObject> relevantArticles = articleQueryService.getRelevantArticles(article, preference);
+            relevantArticles = articleQueryService.getRelevantArticles(article, preference);
+        }
         jsonObject.put(Common.RELEVANT_ARTICLES, relevantArticles);
 
         final JsonRenderer renderer = new JsonRenderer();
@@ -576,6 +607,8 @@ public class ArticleProcessor {
                 return;
             }
 
+            Statics.depend(context, Statics.DEP_INDEX);
+
             final List<JSONObject> articles = CollectionUtils.jsonArrayToList(articlesResult.optJSONArray(Keys.RESULTS));
             dataModelService.setArticlesExProperties(context, articles, preference);
             final int pageCount = articlesResult.optJSONObject(Pagination.PAGINATION).optInt(Pagination.PAGINATION_PAGE_COUNT);
@@ -618,6 +651,7 @@ public class ArticleProcessor {
 
             final JSONObject archiveDate = result.getJSONObject(ArchiveDate.ARCHIVE_DATE);
             final String archiveDateId = archiveDate.getString(Keys.OBJECT_ID);
+            Statics.depend(context, Statics.DEP_ARCHIVE + archiveDateString);
 
             final JSONObject preference = optionQueryService.getPreference();
             final int pageSize = preference.getInt(Option.ID_C_ARTICLE_LIST_DISPLAY_COUNT);
@@ -663,15 +697,21 @@ public class ArticleProcessor {
         LOGGER.log(Level.DEBUG, "Article [id={}]", articleId);
 
         final AbstractFreeMarkerRenderer renderer = new SkinRenderer(context, "article.ftl");
+        Statics.depend(context, Statics.DEP_ARTICLE + articleId);
 
         try {
             LOGGER.log(Level.TRACE, "Article [title={}]", article.getString(Article.ARTICLE_TITLE));
+            final String storedMetaDescription = article.optString(Article.ARTICLE_META_DESCRIPTION);
+            final String storedToC = article.optString(Article.ARTICLE_CONTENT_TOC);
             articleQueryService.markdown(article);
 
             article.put(Article.ARTICLE_T_CREATE_DATE, new Date(article.optLong(Article.ARTICLE_CREATED)));
             article.put(Article.ARTICLE_T_UPDATE_DATE, new Date(article.optLong(Article.ARTICLE_UPDATED)));
             // For <meta name="description" content="${article.articleAbstract}"/>
-            final String metaDescription = Jsoup.parse(article.optString(Article.ARTICLE_ABSTRACT)).text();
+            String metaDescription = storedMetaDescription;
+            if (StringUtils.isBlank(metaDescription)) {
+                metaDescription = Jsoup.parse(article.optString(Article.ARTICLE_ABSTRACT)).text();
+            }
             article.put(Article.ARTICLE_ABSTRACT, metaDescription);
             final JSONObject preference = optionQueryService.getPreference();
             if (preference.getBoolean(Option.ID_C_ENABLE_ARTICLE_UPDATE_HINT)) {
@@ -691,7 +731,7 @@ public class ArticleProcessor {
             dataModelService.fillCategory(article);
             final Map<String, Object> dataModel = renderer.getDataModel();
 
-            prepareShowArticle(preference, dataModel, article);
+            prepareShowArticle(context, preference, dataModel, article);
 
             final Response response = context.getResponse();
             dataModelService.fillCommon(context, dataModel, preference);
@@ -702,6 +742,7 @@ public class ArticleProcessor {
             // Fire [Before Render Article] event
             final JSONObject eventData = new JSONObject();
             eventData.put(Article.ARTICLE, article);
+            eventData.put(Article.ARTICLE_CONTENT_TOC, storedToC);
             eventManager.fireEventSynchronously(new Event<>(EventTypes.BEFORE_RENDER_ARTICLE, eventData));
         } catch (final Exception e) {
             LOGGER.log(Level.ERROR, e.getMessage(), e);
@@ -842,12 +883,13 @@ public class ArticleProcessor {
     /**
      * Prepares the specified data model for rendering article.
      *
+     * @param context    the specified request context
      * @param preference the specified preference
      * @param dataModel  the specified data model
      * @param article    the specified article
      * @throws Exception exception
      */
-    private void prepareShowArticle(final JSONObject preference, final Map<String, Object> dataModel, final JSONObject article)
+    private void prepareShowArticle(final RequestContext context, final JSONObject preference, final Map<String, Object> dataModel, final JSONObject article)
             throws Exception {
         article.put(Common.COMMENTABLE, preference.getBoolean(Option.ID_C_COMMENTABLE) && article.getBoolean(Article.ARTICLE_COMMENTABLE));
         article.put(Common.PERMALINK, article.getString(Article.ARTICLE_PERMALINK));
@@ -876,6 +918,7 @@ public class ArticleProcessor {
         final JSONObject nextArticle = articleQueryService.getNextArticle(articleId);
 
         if (null != nextArticle) {
+            Statics.depend(context, Statics.DEP_ARTICLE + nextArticle.optString(Keys.OBJECT_ID));
             dataModel.put(Common.NEXT_ARTICLE_PERMALINK, nextArticle.getString(Article.ARTICLE_PERMALINK));
             dataModel.put(Common.NEXT_ARTICLE_TITLE, nextArticle.getString(Article.ARTICLE_TITLE));
             dataModel.put(Common.NEXT_ARTICLE_ABSTRACT, nextArticle.getString(Article.ARTICLE_ABSTRACT));
@@ -887,6 +930,7 @@ public class ArticleProcessor {
         LOGGER.debug("Getting the previous article....");
         final JSONObject previousArticle = articleQueryService.getPreviousArticle(articleId);
         if (null != previousArticle) {
+            Statics.depend(context, Statics.DEP_ARTICLE + previousArticle.optString(Keys.OBJECT_ID));
             dataModel.put(Common.PREVIOUS_ARTICLE_PERMALINK, previousArticle.getString(Article.ARTICLE_PERMALINK));
             dataModel.put(Common.PREVIOUS_ARTICLE_TITLE, previousArticle.getString(Article.ARTICLE_TITLE));
             dataModel.put(Common.PREVIOUS_ARTICLE_ABSTRACT, previousArticle.getString(Article.ARTICLE_ABSTRACT));
@@ -898,10 +942,14 @@ public class ArticleProcessor {
         LOGGER.debug("Getting article's comments....");
         final int cmtCount = article.getInt(Article.ARTICLE_COMMENT_COUNT);
         if (0 != cmtCount) {
-            final List<JSONObject> articleComments = commentQueryService.getComments(articleId);
-            dataModel.put(Article.ARTICLE_COMMENTS_REF, articleComments);
+            // 只渲染第一页评论，其余的由页面按需加载，静态站点没有加载接口所以渲染全部评论
+            final int firstPageSize = Solos.GEN_STATIC_SITE ? Integer.MAX_VALUE : CommentQueryService.FIRST_PAGE_SIZE;
+            final JSONObject result = commentQueryService.getComments(articleId, null, firstPageSize);
+            dataModel.put(Article.ARTICLE_COMMENTS_REF, result.opt(Comment.COMMENTS));
+            dataModel.put(Common.COMMENT_CURSOR, result.optString(Common.COMMENT_CURSOR));
         } else {
             dataModel.put(Article.ARTICLE_COMMENTS_REF, Collections.emptyList());
+            dataModel.put(Common.COMMENT_CURSOR, "");
         }
         LOGGER.debug("Got article's comments");
         Stopwatchs.end();
@@ -33,6 +33,7 @@ import org.b3log.solo.model.Common;
 import org.b3log.solo.model.Option;
 import org.b3log.solo.service.*;
 import org.b3log.solo.util.Skins;
+import org.b3log.solo.util.Statics;
 import org.json.JSONException;
 import org.json.JSONObject;
 
@@ -43,7 +44,7 @@ import java.util.Map;
  * Category processor.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 2.0.0.2, Apr 18, 2020
+ * @version 2.0.0.3, Oct 16, 2026
  * @since 2.0.0
  */
 @Singleton
@@ -111,6 +112,7 @@ public class CategoryProcessor {
 
             jsonObject.put(Keys.STATUS_CODE, true);
             final String categoryId = category.optString(Keys.OBJECT_ID);
+            Statics.depend(context, Statics.DEP_CATEGORY + categoryId);
             final JSONObject preference = optionQueryService.getPreference();
             final int pageSize = preference.getInt(Option.ID_C_ARTICLE_LIST_DISPLAY_COUNT);
             final JSONObject articlesResult = articleQueryService.getCategoryArticles(categoryId, currentPageNum, pageSize);
@@ -26,16 +26,15 @@ import org.b3log.solo.model.Article;
 import org.b3log.solo.model.Comment;
 import org.b3log.solo.model.Common;
 import org.b3log.solo.model.Option;
-import org.b3log.solo.service.CommentMgmtService;
-import org.b3log.solo.service.OptionQueryService;
-import org.b3log.solo.service.UserMgmtService;
-import org.b3log.solo.service.UserQueryService;
+import org.b3log.solo.service.*;
 import org.b3log.solo.util.Skins;
 import org.b3log.solo.util.Solos;
+import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.io.StringWriter;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -43,7 +42,7 @@ import java.util.Map;
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
  * @author <a href="https://hacpai.com/member/armstrong">ArmstrongCN</a>
- * @version 2.0.0.0, Feb 9, 2020
+ * @version 2.1.0.0, Oct 16, 2026
  * @since 0.3.1
  */
 @Singleton
@@ -84,6 +83,18 @@ public class CommentProcessor {
     @Inject
     private OptionQueryService optionQueryService;
 
+    /**
+     * Article query service.
+     */
+    @Inject
+    private ArticleQueryService articleQueryService;
+
+    /**
+     * Comment query service.
+     */
+    @Inject
+    private CommentQueryService commentQueryService;
+
     /**
      * Adds a comment to an article.
      *
@@ -151,15 +162,7 @@ public class CommentProcessor {
 
             // 添加评论优化 https://github.com/b3log/solo/issues/12246
             try {
-                final String skinDirName = (String) context.attr(Keys.TEMPLATE_DIR_NAME);
-                final Template template = Skins.getSkinTemplate(context, "common-comment.ftl");
-                final JSONObject preference = optionQueryService.getPreference();
-                Skins.fillLangs(preference.optString(Option.ID_C_LOCALE_STRING), skinDirName, dataModel);
-                Keys.fillServer(dataModel);
-                final StringWriter stringWriter = new StringWriter();
-                template.process(dataModel, stringWriter);
-                stringWriter.close();
-                final String cmtTpl = stringWriter.toString();
+                final String cmtTpl = renderComment(context, dataModel);
 
                 addResult.put("cmtTpl", cmtTpl);
             } catch (final Exception e) {
@@ -177,6 +180,87 @@ public class CommentProcessor {
         }
     }
 
+    /**
+     * Gets a page of comments of an article, the comments after the first page rendered in the article page are loaded
+     * by this.
+     *
+     * <p>
+     * Query parameters:
+     * <ul>
+     * <li>cursor: the "commentCursor" returned with the previous page, blank for the first page</li>
+     * </ul>
+     * </p>
+     * <p>
+     * Renders the response with a json object, for example,
+     * <pre>
+     * {
+     *     "sc": true,
+     *     "cmtTpls": ["", ....], // HTML of the comments rendered by the skin
+     *     "commentCursor": "" // cursor of the next page, blank if no more
+     * }
+     * </pre>
+     * </p>
+     *
+     * @param context the specified context
+     */
+    public void getArticleComments(final RequestContext context) {
+        final JSONObject jsonObject = new JSONObject().put(Keys.STATUS_CODE, false);
+        final JsonRenderer renderer = new JsonRenderer();
+        context.setRenderer(renderer);
+        renderer.setJSONObject(jsonObject);
+
+        final String articleId = context.pathVar("id");
+        final JSONObject article = articleQueryService.getArticleById(articleId);
+        if (null == article || Article.ARTICLE_STATUS_C_PUBLISHED != article.optInt(Article.ARTICLE_STATUS)
+                || Solos.needViewPwd(context, article)) {
+            context.sendError(404);
+            return;
+        }
+
+        try {
+            final JSONObject result = commentQueryService.getComments(articleId, context.param("cursor"), CommentQueryService.FIRST_PAGE_SIZE);
+            article.put(Common.COMMENTABLE, optionQueryService.getPreference().optBoolean(Option.ID_C_COMMENTABLE) && article.optBoolean(Article.ARTICLE_COMMENTABLE));
+            article.put(Common.PERMALINK, article.optString(Article.ARTICLE_PERMALINK));
+
+            final JSONArray cmtTpls = new JSONArray();
+            final List<JSONObject> comments = (List<JSONObject>) result.opt(Comment.COMMENTS);
+            for (final JSONObject comment : comments) {
+                final Map<String, Object> dataModel = new HashMap<>();
+                dataModel.put(Comment.COMMENT, comment);
+                dataModel.put(Article.ARTICLE, article);
+                cmtTpls.put(renderComment(context, dataModel));
+            }
+
+            jsonObject.put(Keys.STATUS_CODE, true);
+            jsonObject.put("cmtTpls", cmtTpls);
+            jsonObject.put(Common.COMMENT_CURSOR, result.optString(Common.COMMENT_CURSOR));
+        } catch (final Exception e) {
+            LOGGER.log(Level.ERROR, "Gets comments of article [id=" + articleId + "] failed", e);
+            jsonObject.put(Keys.MSG, langPropsService.get("getFailLabel"));
+        }
+    }
+
+    /**
+     * Renders a comment with the skin template "common-comment.ftl".
+     *
+     * @param context   the specified context
+     * @param dataModel the specified data model, including the comment and the article
+     * @return comment HTML
+     * @throws Exception exception
+     */
+    private String renderComment(final RequestContext context, final Map<String, Object> dataModel) throws Exception {
+        final String skinDirName = (String) context.attr(Keys.TEMPLATE_DIR_NAME);
+        final Template template = Skins.getSkinTemplate(context, "common-comment.ftl");
+        final JSONObject preference = optionQueryService.getPreference();
+        Skins.fillLangs(preference.optString(Option.ID_C_LOCALE_STRING), skinDirName, dataModel);
+        Keys.fillServer(dataModel);
+        final StringWriter stringWriter = new StringWriter();
+        template.process(dataModel, stringWriter);
+        stringWriter.close();
+
+        return stringWriter.toString();
+    }
+
     /**
      * Fills commenter info if logged in.
      *
@@ -24,7 +24,7 @@ import org.b3log.latke.ioc.Inject;
 import org.b3log.latke.ioc.Singleton;
 import org.b3log.latke.model.User;
 import org.b3log.latke.repository.*;
-import org.b3log.latke.service.ServiceException;
+import org.b3log.latke.util.CollectionUtils;
 import org.b3log.latke.util.Locales;
 import org.b3log.solo.Server;
 import org.b3log.solo.model.Article;
@@ -37,7 +37,9 @@ import org.b3log.solo.model.rss.Item;
 import org.b3log.solo.repository.ArticleRepository;
 import org.b3log.solo.service.ArticleQueryService;
 import org.b3log.solo.service.OptionQueryService;
+import org.b3log.solo.util.Conditionals;
 import org.b3log.solo.util.Markdowns;
+import org.b3log.solo.util.Statics;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -45,13 +47,14 @@ import org.json.JSONObject;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Feed (Atom/RSS) processor.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
  * @author <a href="https://hacpai.com/member/nanolikeyou">nanolikeyou</a>
- * @version 3.0.0.0, Feb 9, 2020
+ * @version 3.0.0.2, Oct 16, 2026
  * @since 0.3.1
  */
 @Singleton
@@ -87,7 +90,6 @@ public class FeedProcessor {
      */
     public void blogArticlesAtom(final RequestContext context) {
         final AtomRenderer renderer = new AtomRenderer();
-        context.setRenderer(renderer);
 
         final Feed feed = new Feed();
         try {
@@ -97,7 +99,6 @@ public class FeedProcessor {
             final int outputCnt = preference.getInt(Option.ID_C_FEED_OUTPUT_CNT);
             feed.setTitle(blogTitle);
             feed.setSubtitle(blogSubtitle);
-            feed.setUpdated(new Date());
             feed.setAuthor(blogTitle);
             feed.setLink(Latkes.getServePath() + "/atom.xml");
             feed.setId(Latkes.getServePath() + "/");
@@ -110,9 +111,18 @@ public class FeedProcessor {
                     addSort(Article.ARTICLE_UPDATED, SortDirection.DESCENDING).setPageCount(1);
             final JSONObject articleResult = articleRepository.get(query);
             final JSONArray articles = articleResult.getJSONArray(Keys.RESULTS);
+            final long lastModified = getLastModified(articles);
+            if (Conditionals.isNotModified(context, Conditionals.etag(lastModified), lastModified)) {
+                Conditionals.sendNotModified(context);
+                return;
+            }
+
+            context.setRenderer(renderer);
+            feed.setUpdated(new Date(lastModified));
             final boolean isFullContent = "fullContent".equals(preference.getString(Option.ID_C_FEED_OUTPUT_MODE));
+            final Map<String, JSONObject> authors = articleQueryService.getAuthors(CollectionUtils.jsonArrayToList(articles));
             for (int i = 0; i < articles.length(); i++) {
-                final Entry entry = getEntry(articles, isFullContent, i);
+                final Entry entry = getEntry(articles, isFullContent, i, authors);
                 feed.addEntry(entry);
             }
 
@@ -120,12 +130,13 @@ public class FeedProcessor {
         } catch (final Exception e) {
             LOGGER.log(Level.ERROR, "Get blog article feed error", e);
 
+            context.setRenderer(renderer);
             context.sendError(500);
         }
     }
 
-    private Entry getEntry(final JSONArray articles, final boolean isFullContent, int i)
-            throws JSONException, ServiceException {
+    private Entry getEntry(final JSONArray articles, final boolean isFullContent, int i, final Map<String, JSONObject> authors)
+            throws JSONException {
         final JSONObject article = articles.getJSONObject(i);
         final Entry ret = new Entry();
         final String title = article.getString(Article.ARTICLE_TITLE);
@@ -138,7 +149,7 @@ public class FeedProcessor {
         final String link = Latkes.getServePath() + article.getString(Article.ARTICLE_PERMALINK);
         ret.setLink(link);
         ret.setId(link);
-        final String authorName = articleQueryService.getAuthor(article).getString(User.USER_NAME);
+        final String authorName = authors.get(article.getString(Keys.OBJECT_ID)).getString(User.USER_NAME);
         ret.setAuthor(authorName);
         final String tagsString = article.getString(Article.ARTICLE_TAGS_REF);
         final String[] tagStrings = tagsString.split(",");
@@ -159,13 +170,13 @@ public class FeedProcessor {
      */
     public void blogArticlesRSS(final RequestContext context) {
         final RssRenderer renderer = new RssRenderer();
-        context.setRenderer(renderer);
 
         final Channel channel = new Channel();
 
         try {
             final JSONObject preference = optionQueryService.getPreference();
             if (null == preference) {
+                context.setRenderer(renderer);
                 context.sendError(404);
                 return;
             }
@@ -175,7 +186,6 @@ public class FeedProcessor {
             final int outputCnt = preference.getInt(Option.ID_C_FEED_OUTPUT_CNT);
 
             channel.setTitle(blogTitle);
-            channel.setLastBuildDate(new Date());
             channel.setLink(Latkes.getServePath());
             channel.setAtomLink(Latkes.getServePath() + "/rss.xml");
             channel.setGenerator("Solo, v" + Server.VERSION + ", https://solo.b3log.org");
@@ -193,9 +203,18 @@ public class FeedProcessor {
                     addSort(Article.ARTICLE_UPDATED, SortDirection.DESCENDING);
             final JSONObject articleResult = articleRepository.get(query);
             final JSONArray articles = articleResult.getJSONArray(Keys.RESULTS);
+            final long lastModified = getLastModified(articles);
+            if (Conditionals.isNotModified(context, Conditionals.etag(lastModified), lastModified)) {
+                Conditionals.sendNotModified(context);
+                return;
+            }
+
+            context.setRenderer(renderer);
+            channel.setLastBuildDate(new Date(lastModified));
             final boolean isFullContent = "fullContent".equals(preference.getString(Option.ID_C_FEED_OUTPUT_MODE));
+            final Map<String, JSONObject> authors = articleQueryService.getAuthors(CollectionUtils.jsonArrayToList(articles));
             for (int i = 0; i < articles.length(); i++) {
-                final Item item = getItem(articles, isFullContent, i);
+                final Item item = getItem(articles, isFullContent, i, authors);
                 channel.addItem(item);
             }
 
@@ -203,11 +222,28 @@ public class FeedProcessor {
         } catch (final Exception e) {
             LOGGER.log(Level.ERROR, "Get blog article rss error", e);
 
+            context.setRenderer(renderer);
             context.sendError(500);
         }
     }
 
-    private Item getItem(final JSONArray articles, final boolean isFullContent, int i) throws JSONException, ServiceException {
+    /**
+     * Gets last modified time of the feed, the newest updated time of the specified articles (sorted by updated time
+     * descending) or the latest page cache eviction time (removes, preference updates, etc.), whichever is later.
+     *
+     * @param articles the specified articles
+     * @return last modified time
+     */
+    private static long getLastModified(final JSONArray articles) {
+        long ret = Statics.getLastEvicted();
+        if (0 < articles.length()) {
+            ret = Math.max(ret, articles.optJSONObject(0).optLong(Article.ARTICLE_UPDATED));
+        }
+
+        return ret;
+    }
+
+    private Item getItem(final JSONArray articles, final boolean isFullContent, int i, final Map<String, JSONObject> authors) throws JSONException {
         final JSONObject article = articles.getJSONObject(i);
         final Item ret = new Item();
         String title = article.getString(Article.ARTICLE_TITLE);
@@ -224,7 +260,7 @@ public class FeedProcessor {
         final String link = Latkes.getServePath() + article.getString(Article.ARTICLE_PERMALINK);
         ret.setLink(link);
         ret.setGUID(link);
-        final String authorName = articleQueryService.getAuthor(article).getString(User.USER_NAME);
+        final String authorName = authors.get(article.getString(Keys.OBJECT_ID)).getString(User.USER_NAME);
         ret.setAuthor(authorName);
         final String tagsString = article.getString(Article.ARTICLE_TAGS_REF);
         final String[] tagStrings = tagsString.split(",");
@@ -36,7 +36,7 @@ import org.json.JSONObject;
  * Article permalink  handler.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 1.0.0.5, May 23, 2020
+ * @version 1.0.0.7, Oct 16, 2026
  * @since 3.2.0
  */
 public class PermalinkHandler implements Handler {
@@ -73,11 +73,12 @@ public class PermalinkHandler implements Handler {
             }
 
             // 尝试走静态化缓存
-            final String html = Statics.get(context);
-            if (StringUtils.isNotBlank(html)) {
-                context.getResponse().setContentType("text/html; charset=utf-8");
-                context.sendString(html);
-                context.abort();
+            Statics.Entry page = Statics.get(context);
+            if (null == page) {
+                page = Statics.await(context);
+            }
+            if (null != page) {
+                Statics.send(context, page);
                 return;
             }
 
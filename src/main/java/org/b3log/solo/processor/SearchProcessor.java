@@ -29,10 +29,13 @@ import org.b3log.latke.util.Paginator;
 import org.b3log.solo.model.Article;
 import org.b3log.solo.model.Common;
 import org.b3log.solo.model.Option;
-import org.b3log.solo.service.ArticleQueryService;
 import org.b3log.solo.service.DataModelService;
 import org.b3log.solo.service.OptionQueryService;
+import org.b3log.solo.service.SearchService;
+import org.b3log.solo.service.SuggestService;
 import org.b3log.solo.service.UserQueryService;
+import org.b3log.solo.util.Solos;
+import org.b3log.solo.util.Statics;
 import org.json.JSONObject;
 import org.jsoup.Jsoup;
 import org.jsoup.safety.Whitelist;
@@ -49,7 +52,7 @@ import java.util.Map;
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
  * @author <a href="http://vanessa.b3log.org">Liyuan Li</a>
- * @version 2.0.0.0, Feb 9, 2020
+ * @version 2.1.0.1, Oct 16, 2026
  * @since 2.4.0
  */
 @Singleton
@@ -61,10 +64,16 @@ public class SearchProcessor {
     private static final Logger LOGGER = LogManager.getLogger(SearchProcessor.class);
 
     /**
-     * Article query service.
+     * Search service.
      */
     @Inject
-    private ArticleQueryService articleQueryService;
+    private SearchService searchService;
+
+    /**
+     * Suggest service.
+     */
+    @Inject
+    private SuggestService suggestService;
 
     /**
      * User query service.
@@ -113,6 +122,39 @@ public class SearchProcessor {
         }
     }
 
+    /**
+     * Suggests article titles, tag titles and category titles for the specified query.
+     * <p>
+     * Renders the response with a json object, for example,
+     * <pre>
+     * {
+     *     "code": 0,
+     *     "data": [{
+     *         "oId": "",
+     *         "type": "", // "article"/"tag"/"category"
+     *         "title": "",
+     *         "url": ""
+     *     }, ....]
+     * }
+     * </pre>
+     * </p>
+     *
+     * @param context the specified context
+     */
+    public void suggest(final RequestContext context) {
+        final JSONObject result = Solos.newSucc();
+        context.renderJSON(result);
+
+        final String query = context.param("q");
+        if (StringUtils.isBlank(query)) {
+            result.put(Common.DATA, (Object) Collections.emptyList());
+
+            return;
+        }
+
+        result.put(Common.DATA, (Object) suggestService.suggest(query));
+    }
+
     /**
      * Searches articles.
      *
@@ -125,6 +167,8 @@ public class SearchProcessor {
         final Map<String, Object> dataModel = renderer.getDataModel();
         dataModel.putAll(langs);
 
+        Statics.depend(context, Statics.DEP_SEARCH);
+
         final int pageNum = Paginator.getPage(request);
         String keyword = context.param(Common.KEYWORD);
         if (StringUtils.isBlank(keyword)) {
@@ -133,7 +177,7 @@ public class SearchProcessor {
         keyword = Encode.forHtml(keyword);
 
         dataModel.put(Common.KEYWORD, keyword);
-        final JSONObject result = articleQueryService.searchKeyword(keyword, pageNum, 15);
+        final JSONObject result = searchService.search(keyword, pageNum, 15);
         final List<JSONObject> articles = (List<JSONObject>) result.opt(Article.ARTICLES);
 
         try {
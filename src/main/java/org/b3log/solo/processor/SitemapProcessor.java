@@ -38,6 +38,8 @@ import org.b3log.solo.repository.ArchiveDateRepository;
 import org.b3log.solo.repository.ArticleRepository;
 import org.b3log.solo.repository.PageRepository;
 import org.b3log.solo.repository.TagRepository;
+import org.b3log.solo.util.Conditionals;
+import org.b3log.solo.util.Statics;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
@@ -45,7 +47,7 @@ import org.json.JSONObject;
  * Sitemap processor.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 2.0.0.1, Mar 31, 2020
+ * @version 2.0.0.2, Oct 16, 2026
  * @since 0.3.1
  */
 @Singleton
@@ -87,9 +89,15 @@ public class SitemapProcessor {
      */
     public void sitemap(final RequestContext context) {
         final TextXmlRenderer renderer = new TextXmlRenderer();
-        context.setRenderer(renderer);
 
         try {
+            final long lastModified = getLastModified();
+            if (Conditionals.isNotModified(context, Conditionals.etag(lastModified), lastModified)) {
+                Conditionals.sendNotModified(context);
+                return;
+            }
+
+            context.setRenderer(renderer);
             final Sitemap sitemap = new Sitemap();
             addArticles(sitemap);
             addNavigations(sitemap);
@@ -102,10 +110,32 @@ public class SitemapProcessor {
             renderer.setContent(content);
         } catch (final Exception e) {
             LOGGER.log(Level.ERROR, "Generates sitemap failed", e);
+            context.setRenderer(renderer);
             context.sendError(500);
         }
     }
 
+    /**
+     * Gets last modified time of the sitemap, the newest updated time of published articles or the latest page cache
+     * eviction time (removes, navigation updates, etc.), whichever is later.
+     *
+     * @return last modified time
+     * @throws Exception exception
+     */
+    private long getLastModified() throws Exception {
+        final Query query = new Query().setPage(1, 1).setPageCount(1).
+                setFilter(new PropertyFilter(Article.ARTICLE_STATUS, FilterOperator.EQUAL, Article.ARTICLE_STATUS_C_PUBLISHED)).
+                addSort(Article.ARTICLE_UPDATED, SortDirection.DESCENDING).
+                select(Article.ARTICLE_UPDATED);
+        final JSONArray articles = articleRepository.get(query).getJSONArray(Keys.RESULTS);
+        long ret = Statics.getLastEvicted();
+        if (0 < articles.length()) {
+            ret = Math.max(ret, articles.getJSONObject(0).getLong(Article.ARTICLE_UPDATED));
+        }
+
+        return ret;
+    }
+
     /**
      * Adds articles into the specified sitemap.
      *
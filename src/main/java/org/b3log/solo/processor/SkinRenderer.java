@@ -18,6 +18,7 @@ import org.b3log.latke.Keys;
 import org.b3log.latke.http.Request;
 import org.b3log.latke.http.RequestContext;
 import org.b3log.latke.http.renderer.AbstractFreeMarkerRenderer;
+import org.b3log.solo.util.Conditionals;
 import org.b3log.solo.util.Skins;
 import org.b3log.solo.util.Statics;
 
@@ -28,7 +29,7 @@ import java.util.Map;
  * Skin renderer.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 1.0.0.4, Apr 14, 2020
+ * @version 1.0.0.6, Oct 16, 2026
  * @since 2.9.1
  */
 public final class SkinRenderer extends AbstractFreeMarkerRenderer {
@@ -40,6 +41,11 @@ public final class SkinRenderer extends AbstractFreeMarkerRenderer {
 
     public static final String LATKE_INFO = "\n<!-- Generated by Latke (https://github.com/88250/latke) in %1$dms, %2$s -->";
 
+    /**
+     * Whether answered 304 Not Modified.
+     */
+    private boolean notModified;
+
     /**
      * Constructs a skin renderer with the specified request context and template name.
      *
@@ -65,7 +71,8 @@ public final class SkinRenderer extends AbstractFreeMarkerRenderer {
     }
 
     /**
-     * Processes the specified FreeMarker template with the specified request, data model, pjax hacking.
+     * Processes the specified FreeMarker template with the specified request, data model, pjax hacking. Returns empty
+     * HTML with status 304 if the client's copy matches the ETag of the generated HTML.
      *
      * @param request   the specified request
      * @param dataModel the specified data model
@@ -80,7 +87,7 @@ public final class SkinRenderer extends AbstractFreeMarkerRenderer {
         dataModel.put("pjax", isPJAX);
 
         if (!isPJAX) {
-            return super.genHTML(request, dataModel, template);
+            return conditional(super.genHTML(request, dataModel, template));
         }
 
         final StringWriter stringWriter = new StringWriter();
@@ -97,10 +104,28 @@ public final class SkinRenderer extends AbstractFreeMarkerRenderer {
                 "<!---- pjax {" + pjaxContainer + "} start ---->",
                 "<!---- pjax {" + pjaxContainer + "} end ---->");
         if (null == containers) {
-            return html + latke;
+            return conditional(html + latke);
+        }
+
+        return conditional(String.join("", containers) + latke);
+    }
+
+    /**
+     * Sets ETag of the specified HTML and checks whether the client's copy is still fresh.
+     *
+     * @param html the specified HTML
+     * @return the specified HTML, returns empty if not modified
+     */
+    private String conditional(final String html) {
+        final String etag = Conditionals.etag(html);
+        if (!Conditionals.isNotModified(context, etag, 0)) {
+            return html;
         }
 
-        return String.join("", containers) + latke;
+        notModified = true;
+        context.setStatus(304);
+
+        return "";
     }
 
     @Override
@@ -109,7 +134,13 @@ public final class SkinRenderer extends AbstractFreeMarkerRenderer {
 
     @Override
     protected void afterRender(final RequestContext context) {
-        Statics.put(context);
+        try {
+            if (!notModified) {
+                Statics.put(context);
+            }
+        } finally {
+            Statics.release(context);
+        }
     }
 
     /**
@@ -21,7 +21,7 @@ import org.b3log.solo.util.Statics;
  * 页面静态化. https://github.com/88250/solo/issues/107
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 1.0.0.0, Apr 14, 2020
+ * @version 1.0.2.0, Oct 16, 2026
  * @since 4.1.0
  */
 @Singleton
@@ -33,14 +33,16 @@ public class StaticMidware {
     private static final Logger LOGGER = LogManager.getLogger(StaticMidware.class);
 
     public void handle(final RequestContext context) {
-        final String html = Statics.get(context);
-        if (null == html) {
+        Statics.Entry page = Statics.get(context);
+        if (null == page) {
+            // 同一页面只由一个请求渲染，其他请求等待渲染结果
+            page = Statics.await(context);
+        }
+        if (null == page) {
             context.handle();
             return;
         }
 
-        context.getResponse().setContentType("text/html; charset=utf-8");
-        context.sendString(html);
-        context.abort();
+        Statics.send(context, page);
     }
 }
@@ -29,6 +29,7 @@ import org.b3log.solo.model.Option;
 import org.b3log.solo.model.Tag;
 import org.b3log.solo.service.*;
 import org.b3log.solo.util.Skins;
+import org.b3log.solo.util.Statics;
 import org.json.JSONObject;
 
 import java.util.List;
@@ -38,7 +39,7 @@ import java.util.Map;
  * Tag processor.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 2.0.0.1, Apr 18, 2020
+ * @version 2.0.0.2, Oct 16, 2026
  * @since 0.3.1
  */
 @Singleton
@@ -106,6 +107,7 @@ public class TagProcessor {
 
             final JSONObject tag = result.getJSONObject(Tag.TAG);
             final String tagId = tag.getString(Keys.OBJECT_ID);
+            Statics.depend(context, Statics.DEP_TAG + tagId);
 
             final JSONObject preference = optionQueryService.getPreference();
             Skins.fillLangs(preference.optString(Option.ID_C_LOCALE_STRING), (String) context.attr(Keys.TEMPLATE_DIR_NAME), dataModel);
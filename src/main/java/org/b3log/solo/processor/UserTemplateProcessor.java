@@ -31,6 +31,7 @@ import org.b3log.solo.service.DataModelService;
 import org.b3log.solo.service.OptionQueryService;
 import org.b3log.solo.util.Markdowns;
 import org.b3log.solo.util.Skins;
+import org.b3log.solo.util.Statics;
 import org.json.JSONObject;
 
 import java.io.InputStream;
@@ -45,7 +46,7 @@ import java.util.Map;
  * </p>
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 2.0.0.1, Apr 18, 2020
+ * @version 2.0.0.2, Oct 16, 2026
  * @since 0.4.5
  */
 @Singleton
@@ -113,6 +114,7 @@ public class UserTemplateProcessor {
             final Map<String, String> langs = langPropsService.getAll(Locales.getLocale(request));
             dataModel.putAll(langs);
             final JSONObject preference = optionQueryService.getPreference();
+            Statics.depend(context, Statics.DEP_INDEX);
             dataModelService.fillCommon(context, dataModel, preference);
             dataModelService.fillFaviconURL(dataModel, preference);
             dataModelService.fillUsite(dataModel);
@@ -32,6 +32,7 @@ import org.b3log.solo.service.CategoryMgmtService;
 import org.b3log.solo.service.CategoryQueryService;
 import org.b3log.solo.service.TagQueryService;
 import org.b3log.solo.util.Solos;
+import org.b3log.solo.util.Statics;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
@@ -45,7 +46,7 @@ import java.util.Set;
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
  * @author <a href="https://hacpai.com/member/lzh984294471">lzh984294471</a>
- * @version 2.0.0.1, Feb 27, 2020
+ * @version 2.0.0.2, Oct 16, 2026
  * @since 2.0.0
  */
 @Singleton
@@ -114,6 +115,7 @@ public class CategoryConsole {
             final String direction = requestJSON.getString(Common.DIRECTION);
 
             categoryMgmtService.changeOrder(categoryId, direction);
+            Statics.clear();
 
             ret.put(Keys.STATUS_CODE, true);
             ret.put(Keys.MSG, langPropsService.get("updateSuccLabel"));
@@ -204,6 +206,7 @@ public class CategoryConsole {
         try {
             final String categoryId = context.pathVar("id");
             categoryMgmtService.removeCategory(categoryId);
+            Statics.clear();
 
             jsonObject.put(Keys.STATUS_CODE, true);
             jsonObject.put(Keys.MSG, langPropsService.get("removeSuccLabel"));
@@ -333,6 +336,7 @@ public class CategoryConsole {
 
                 categoryMgmtService.addCategoryTag(categoryTag);
             }
+            Statics.clear();
 
             ret.put(Keys.OBJECT_ID, categoryId);
             ret.put(Keys.MSG, langPropsService.get("updateSuccLabel"));
@@ -460,6 +464,7 @@ public class CategoryConsole {
 
                 categoryMgmtService.addCategoryTag(categoryTag);
             }
+            Statics.clear();
 
             ret.put(Keys.OBJECT_ID, categoryId);
             ret.put(Keys.MSG, langPropsService.get("addSuccLabel"));
@@ -22,14 +22,16 @@ import org.b3log.latke.ioc.Singleton;
 import org.b3log.latke.service.LangPropsService;
 import org.b3log.solo.Server;
 import org.b3log.solo.service.ArchiveDateMgmtService;
+import org.b3log.solo.service.SuggestService;
 import org.b3log.solo.service.TagMgmtService;
+import org.b3log.solo.util.Markdowns;
 import org.json.JSONObject;
 
 /**
  * Other console request processing.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 2.1.0.0, Apr 2, 2020
+ * @version 2.1.0.1, Oct 16, 2026
  * @since 3.4.0
  */
 @Singleton
@@ -79,6 +81,34 @@ public class OtherConsole {
         context.renderJSONValue("log", content);
     }
 
+    /**
+     * Gets in-memory index and cache stats.
+     * <p>
+     * Renders the response with a json object, for example,
+     * <pre>
+     * {
+     *     "sc": boolean,
+     *     "suggest": {
+     *         "entries": int,
+     *         "keys": int,
+     *         "bytes": long
+     *     },
+     *     "markdownRender": {....},
+     *     "markdownCache": {....}
+     * }
+     * </pre>
+     * </p>
+     *
+     * @param context the specified request context
+     */
+    public void getStats(final RequestContext context) {
+        context.renderJSON(true);
+
+        context.renderJSONValue("suggest", SuggestService.getStats());
+        context.renderJSONValue("markdownRender", Markdowns.getRenderStats());
+        context.renderJSONValue("markdownCache", Markdowns.getCacheStats());
+    }
+
     /**
      * Removes all unused archives.
      * <p>
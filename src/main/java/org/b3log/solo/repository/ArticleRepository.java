@@ -15,6 +15,7 @@ import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.b3log.latke.Keys;
+import org.b3log.latke.Latkes;
 import org.b3log.latke.ioc.Inject;
 import org.b3log.latke.repository.*;
 import org.b3log.latke.repository.annotation.Repository;
@@ -25,13 +26,18 @@ import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Article repository.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 1.1.1.14, Jan 16, 2020
+ * @version 1.1.2.1, Oct 16, 2026
  * @since 0.3.1
  */
 @Repository
@@ -92,6 +98,38 @@ public class ArticleRepository extends AbstractRepository {
         articleCache.putArticle(article);
     }
 
+    /**
+     * Gets articles by the specified ids. The articles in cache are served from cache, the others are fetched in one
+     * query and put into cache.
+     *
+     * @param ids the specified ids
+     * @return articles, id to article, the articles not found are absent
+     * @throws RepositoryException repository exception
+     */
+    public Map<String, JSONObject> getByIds(final Collection<String> ids) throws RepositoryException {
+        final Map<String, JSONObject> ret = new HashMap<>();
+        final Set<String> misses = new HashSet<>();
+        for (final String id : ids) {
+            final JSONObject cached = articleCache.getArticle(id);
+            if (null != cached) {
+                ret.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+        if (misses.isEmpty()) {
+            return ret;
+        }
+
+        final Query query = new Query().setFilter(new PropertyFilter(Keys.OBJECT_ID, FilterOperator.IN, misses)).setPageCount(1);
+        for (final JSONObject article : getList(query)) {
+            articleCache.putArticle(article);
+            ret.put(article.optString(Keys.OBJECT_ID), article);
+        }
+
+        return ret;
+    }
+
     @Override
     public List<JSONObject> getRandomly(final int fetchSize) throws RepositoryException {
         final List<JSONObject> ret = new ArrayList<>();
@@ -207,12 +245,13 @@ public class ArticleRepository extends AbstractRepository {
     }
 
     /**
-     * Gets the previous article(by create date) by the specified article id.
+     * Gets the previous article(by create date, oId) by the specified article id.
      *
      * @param articleId the specified article id
      * @return the previous article,
      * <pre>
      * {
+     *     "oId": "",
      *     "articleTitle": "",
      *     "articlePermalink": "",
      *     "articleAbstract: ""
@@ -231,11 +270,16 @@ public class ArticleRepository extends AbstractRepository {
 
         final Query query = new Query().
                 setFilter(CompositeFilterOperator.and(
-                        new PropertyFilter(Article.ARTICLE_CREATED, FilterOperator.LESS_THAN, currentArticleCreated),
+                        CompositeFilterOperator.or(
+                                new PropertyFilter(Article.ARTICLE_CREATED, FilterOperator.LESS_THAN, currentArticleCreated),
+                                CompositeFilterOperator.and(
+                                        new PropertyFilter(Article.ARTICLE_CREATED, FilterOperator.EQUAL, currentArticleCreated),
+                                        new PropertyFilter(Keys.OBJECT_ID, FilterOperator.LESS_THAN, articleId))),
                         new PropertyFilter(Article.ARTICLE_STATUS, FilterOperator.EQUAL, Article.ARTICLE_STATUS_C_PUBLISHED))).
                 addSort(Article.ARTICLE_CREATED, SortDirection.DESCENDING).
+                addSort(Keys.OBJECT_ID, SortDirection.DESCENDING).
                 setPage(1, 1).setPageCount(1).
-                select(Article.ARTICLE_TITLE, Article.ARTICLE_PERMALINK, Article.ARTICLE_ABSTRACT);
+                select(Keys.OBJECT_ID, Article.ARTICLE_TITLE, Article.ARTICLE_PERMALINK, Article.ARTICLE_ABSTRACT);
 
         final JSONObject result = get(query);
         final JSONArray array = result.optJSONArray(Keys.RESULTS);
@@ -247,6 +291,7 @@ public class ArticleRepository extends AbstractRepository {
         final JSONObject article = array.optJSONObject(0);
 
         try {
+            ret.put(Keys.OBJECT_ID, article.getString(Keys.OBJECT_ID));
             ret.put(Article.ARTICLE_TITLE, article.getString(Article.ARTICLE_TITLE));
             ret.put(Article.ARTICLE_PERMALINK, article.getString(Article.ARTICLE_PERMALINK));
             ret.put(Article.ARTICLE_ABSTRACT, article.getString((Article.ARTICLE_ABSTRACT)));
@@ -264,6 +309,7 @@ public class ArticleRepository extends AbstractRepository {
      * @return the next article,
      * <pre>
      * {
+     *     "oId": "",
      *     "articleTitle": "",
      *     "articlePermalink": "",
      *     "articleAbstract: ""
@@ -282,11 +328,16 @@ public class ArticleRepository extends AbstractRepository {
 
         final Query query = new Query().
                 setFilter(CompositeFilterOperator.and(
-                        new PropertyFilter(Article.ARTICLE_CREATED, FilterOperator.GREATER_THAN, currentArticleCreated),
+                        CompositeFilterOperator.or(
+                                new PropertyFilter(Article.ARTICLE_CREATED, FilterOperator.GREATER_THAN, currentArticleCreated),
+                                CompositeFilterOperator.and(
+                                        new PropertyFilter(Article.ARTICLE_CREATED, FilterOperator.EQUAL, currentArticleCreated),
+                                        new PropertyFilter(Keys.OBJECT_ID, FilterOperator.GREATER_THAN, articleId))),
                         new PropertyFilter(Article.ARTICLE_STATUS, FilterOperator.EQUAL, Article.ARTICLE_STATUS_C_PUBLISHED))).
                 addSort(Article.ARTICLE_CREATED, SortDirection.ASCENDING).
+                addSort(Keys.OBJECT_ID, SortDirection.ASCENDING).
                 setPage(1, 1).setPageCount(1).
-                select(Article.ARTICLE_TITLE, Article.ARTICLE_PERMALINK, Article.ARTICLE_ABSTRACT);
+                select(Keys.OBJECT_ID, Article.ARTICLE_TITLE, Article.ARTICLE_PERMALINK, Article.ARTICLE_ABSTRACT);
 
         final JSONObject result = get(query);
         final JSONArray array = result.optJSONArray(Keys.RESULTS);
@@ -298,6 +349,7 @@ public class ArticleRepository extends AbstractRepository {
         final JSONObject article = array.optJSONObject(0);
 
         try {
+            ret.put(Keys.OBJECT_ID, article.getString(Keys.OBJECT_ID));
             ret.put(Article.ARTICLE_TITLE, article.getString(Article.ARTICLE_TITLE));
             ret.put(Article.ARTICLE_PERMALINK, article.getString(Article.ARTICLE_PERMALINK));
             ret.put(Article.ARTICLE_ABSTRACT, article.getString((Article.ARTICLE_ABSTRACT)));
@@ -308,6 +360,52 @@ public class ArticleRepository extends AbstractRepository {
         return ret;
     }
 
+    /**
+     * Searches published articles with the specified keyword by the database full-text index, which is created by
+     * {@link org.b3log.solo.service.SearchService#createFullTextIndex()}. H2 matches whole words, MySQL matches the
+     * phrases of the keyword with the ngram parser.
+     *
+     * @param keyword the specified keyword
+     * @param limit   the specified max count of articles
+     * @return ids of the matched articles, ordered by relevance descending
+     * @throws RepositoryException repository exception
+     */
+    public List<String> searchFullText(final String keyword, final int limit) throws RepositoryException {
+        final List<String> ret = new ArrayList<>();
+        final String table = getName();
+        List<JSONObject> result;
+        if (Latkes.RuntimeDatabase.H2 == Latkes.getRuntimeDatabase()) {
+            result = select("SELECT a.oId AS I FROM FT_SEARCH_DATA(?, 0, 0) AS ft, " + table + " AS a " +
+                    "WHERE a.oId = ARRAY_GET(ft.KEYS, 1) AND a.articleStatus = ? ORDER BY ft.SCORE DESC LIMIT " + limit,
+                    keyword, Article.ARTICLE_STATUS_C_PUBLISHED);
+        } else if (Latkes.RuntimeDatabase.MYSQL == Latkes.getRuntimeDatabase()) {
+            final StringBuilder phrases = new StringBuilder();
+            for (final String word : keyword.split("\\s+")) {
+                // 去掉布尔模式的操作符，每个词作为短语必须命中
+                final String phrase = word.replaceAll("[+\\-<>()~*\"@]", "");
+                if (!phrase.isEmpty()) {
+                    phrases.append(" +\"").append(phrase).append('"');
+                }
+            }
+            if (0 == phrases.length()) {
+                return ret;
+            }
+
+            final String match = "MATCH(articleTitle, articleTagsRef, articleContent)";
+            result = select("SELECT oId AS I FROM " + table + " WHERE articleStatus = ? AND " + match + " AGAINST(? IN BOOLEAN MODE) " +
+                            "ORDER BY " + match + " AGAINST(?) DESC LIMIT " + limit,
+                    Article.ARTICLE_STATUS_C_PUBLISHED, phrases.toString().trim(), keyword);
+        } else {
+            throw new RepositoryException("Full-text search is not supported on [" + Latkes.getRuntimeDatabase() + "]");
+        }
+
+        for (final JSONObject row : result) {
+            ret.add(row.optString("I"));
+        }
+
+        return ret;
+    }
+
     /**
      * Determines an article specified by the given article id is published.
      *
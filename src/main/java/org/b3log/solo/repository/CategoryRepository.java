@@ -20,13 +20,17 @@ import org.b3log.solo.model.Category;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Category repository.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 1.2.0.3, Sep 11, 2019
+ * @version 1.2.0.4, Oct 16, 2026
  * @since 2.0.0
  */
 @Repository
@@ -39,6 +43,27 @@ public class CategoryRepository extends AbstractRepository {
         super(Category.CATEGORY);
     }
 
+    /**
+     * Gets categories by the specified ids in one query.
+     *
+     * @param ids the specified ids
+     * @return categories, id to category, the categories not found are absent
+     * @throws RepositoryException repository exception
+     */
+    public Map<String, JSONObject> getByIds(final Collection<String> ids) throws RepositoryException {
+        final Map<String, JSONObject> ret = new HashMap<>();
+        if (ids.isEmpty()) {
+            return ret;
+        }
+
+        final Query query = new Query().setFilter(new PropertyFilter(Keys.OBJECT_ID, FilterOperator.IN, new HashSet<>(ids))).setPageCount(1);
+        for (final JSONObject category : getList(query)) {
+            ret.put(category.optString(Keys.OBJECT_ID), category);
+        }
+
+        return ret;
+    }
+
     /**
      * Gets a category by the specified category title.
      *
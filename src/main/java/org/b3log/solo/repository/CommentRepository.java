@@ -22,14 +22,19 @@ import org.b3log.solo.cache.CommentCache;
 import org.b3log.solo.model.Comment;
 import org.json.JSONObject;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Comment repository.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 1.0.0.6, Jan 15, 2019
+ * @version 1.0.1.1, Oct 16, 2026
  * @since 0.3.1
  */
 @Repository
@@ -91,6 +96,38 @@ public class CommentRepository extends AbstractRepository {
         commentCache.putComment(comment);
     }
 
+    /**
+     * Gets comments by the specified ids. The comments in cache are served from cache, the others are fetched in one
+     * query and put into cache.
+     *
+     * @param ids the specified ids
+     * @return comments, id to comment, the comments not found are absent
+     * @throws RepositoryException repository exception
+     */
+    public Map<String, JSONObject> getByIds(final Collection<String> ids) throws RepositoryException {
+        final Map<String, JSONObject> ret = new HashMap<>();
+        final Set<String> misses = new HashSet<>();
+        for (final String id : ids) {
+            final JSONObject cached = commentCache.getComment(id);
+            if (null != cached) {
+                ret.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+        if (misses.isEmpty()) {
+            return ret;
+        }
+
+        final Query query = new Query().setFilter(new PropertyFilter(Keys.OBJECT_ID, FilterOperator.IN, misses)).setPageCount(1);
+        for (final JSONObject comment : getList(query)) {
+            commentCache.putComment(comment);
+            ret.put(comment.optString(Keys.OBJECT_ID), comment);
+        }
+
+        return ret;
+    }
+
     /**
      * Gets comments with the specified on id, current page number and
      * page size.
@@ -110,6 +147,35 @@ public class CommentRepository extends AbstractRepository {
         return getList(query);
     }
 
+    /**
+     * Gets comments with the specified on id after the specified cursor, in the order of created time descending.
+     *
+     * @param onId      the specified on id
+     * @param created   the specified created time of the cursor, {@code 0} for the first page
+     * @param id        the specified comment id of the cursor
+     * @param fetchSize the specified fetch size
+     * @return a list of comments, returns an empty list if not found
+     * @throws RepositoryException repository exception
+     */
+    public List<JSONObject> getComments(final String onId, final long created, final String id, final int fetchSize) throws RepositoryException {
+        Filter filter = new PropertyFilter(Comment.COMMENT_ON_ID, FilterOperator.EQUAL, onId);
+        if (0 < created) {
+            // 创建时间相同时按 id 区分，避免翻页时遗漏或重复
+            filter = CompositeFilterOperator.and(filter, CompositeFilterOperator.or(
+                    new PropertyFilter(Comment.COMMENT_CREATED, FilterOperator.LESS_THAN, created),
+                    CompositeFilterOperator.and(
+                            new PropertyFilter(Comment.COMMENT_CREATED, FilterOperator.EQUAL, created),
+                            new PropertyFilter(Keys.OBJECT_ID, FilterOperator.LESS_THAN, id))));
+        }
+        final Query query = new Query().
+                addSort(Comment.COMMENT_CREATED, SortDirection.DESCENDING).
+                addSort(Keys.OBJECT_ID, SortDirection.DESCENDING).
+                setFilter(filter).
+                setPage(1, fetchSize).setPageCount(1);
+
+        return getList(query);
+    }
+
     /**
      * Removes comments with the specified on id.
      *
@@ -19,13 +19,17 @@ import org.b3log.solo.model.Tag;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Tag repository.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 1.0.0.5, Jun 20, 2019
+ * @version 1.0.0.6, Oct 16, 2026
  * @since 0.3.1
  */
 @Repository
@@ -38,6 +42,27 @@ public class TagRepository extends AbstractRepository {
         super(Tag.TAG);
     }
 
+    /**
+     * Gets tags by the specified ids in one query.
+     *
+     * @param ids the specified ids
+     * @return tags, id to tag, the tags not found are absent
+     * @throws RepositoryException repository exception
+     */
+    public Map<String, JSONObject> getByIds(final Collection<String> ids) throws RepositoryException {
+        final Map<String, JSONObject> ret = new HashMap<>();
+        if (ids.isEmpty()) {
+            return ret;
+        }
+
+        final Query query = new Query().setFilter(new PropertyFilter(Keys.OBJECT_ID, FilterOperator.IN, new HashSet<>(ids))).setPageCount(1);
+        for (final JSONObject tag : getList(query)) {
+            ret.put(tag.optString(Keys.OBJECT_ID), tag);
+        }
+
+        return ret;
+    }
+
     /**
      * Tag-Article relation repository.
      */
@@ -56,11 +81,16 @@ public class TagRepository extends AbstractRepository {
         final List<JSONObject> ret = new ArrayList<>();
 
         final List<JSONObject> tagArticleRelations = tagArticleRepository.getByArticleId(articleId);
+        final List<String> tagIds = new ArrayList<>();
         for (final JSONObject tagArticleRelation : tagArticleRelations) {
-            final String tagId = tagArticleRelation.optString(Tag.TAG + "_" + Keys.OBJECT_ID);
-            final JSONObject tag = get(tagId);
-
-            ret.add(tag);
+            tagIds.add(tagArticleRelation.optString(Tag.TAG + "_" + Keys.OBJECT_ID));
+        }
+        final Map<String, JSONObject> tags = getByIds(tagIds);
+        for (final String tagId : tagIds) {
+            final JSONObject tag = tags.get(tagId);
+            if (null != tag) {
+                ret.add(tag);
+            }
         }
 
         return ret;
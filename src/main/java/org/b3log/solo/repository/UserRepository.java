@@ -20,11 +20,17 @@ import org.b3log.latke.repository.annotation.Repository;
 import org.b3log.solo.cache.UserCache;
 import org.json.JSONObject;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * User repository.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 1.1.0.3, Jun 6, 2019
+ * @version 1.1.0.4, Oct 16, 2026
  * @since 0.3.1
  */
 @Repository
@@ -79,6 +85,38 @@ public class UserRepository extends AbstractRepository {
         }
     }
 
+    /**
+     * Gets users by the specified ids. The users in cache are served from cache, the others are fetched in one
+     * query and put into cache.
+     *
+     * @param ids the specified ids
+     * @return users, id to user, the users not found are absent
+     * @throws RepositoryException repository exception
+     */
+    public Map<String, JSONObject> getByIds(final Collection<String> ids) throws RepositoryException {
+        final Map<String, JSONObject> ret = new HashMap<>();
+        final Set<String> misses = new HashSet<>();
+        for (final String id : ids) {
+            final JSONObject cached = userCache.getUser(id);
+            if (null != cached) {
+                ret.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+        if (misses.isEmpty()) {
+            return ret;
+        }
+
+        final Query query = new Query().setFilter(new PropertyFilter(Keys.OBJECT_ID, FilterOperator.IN, misses)).setPageCount(1);
+        for (final JSONObject user : getList(query)) {
+            userCache.putUser(user);
+            ret.put(user.optString(Keys.OBJECT_ID), user);
+        }
+
+        return ret;
+    }
+
     /**
      * Gets a user by the specified username.
      *
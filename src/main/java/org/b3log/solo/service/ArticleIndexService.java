@@ -0,0 +1,226 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.service;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.b3log.latke.Keys;
+import org.b3log.latke.ioc.Inject;
+import org.b3log.latke.repository.FilterOperator;
+import org.b3log.latke.repository.PropertyFilter;
+import org.b3log.latke.repository.Query;
+import org.b3log.latke.repository.SortDirection;
+import org.b3log.latke.repository.jdbc.JdbcRepository;
+import org.b3log.latke.service.annotation.Service;
+import org.b3log.solo.model.Article;
+import org.b3log.solo.repository.ArticleRepository;
+import org.json.JSONObject;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Article index service. Registers the in-memory article indexes ({@link ArticleIndexer}), notifies them of the
+ * article writes and builds them.
+ * <p>
+ * A build pages the published articles once for all indexes into fresh indexes without holding any lock, so the
+ * article writes go on meanwhile. The writes during the build are logged, then the fresh indexes are swapped in and
+ * the logged writes are replayed onto them, so a page read before a write does not override it.
+ * </p>
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.4, Oct 16, 2026
+ * @since 4.2.0
+ */
+@Service
+public class ArticleIndexService {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOGGER = LogManager.getLogger(ArticleIndexService.class);
+
+    /**
+     * Index build executor, a single daemon thread so that the builds run one by one.
+     */
+    private static final ExecutorService BUILD_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread ret = new Thread(runnable, "ArticleIndexBuild");
+        ret.setDaemon(true);
+
+        return ret;
+    });
+
+    /**
+     * Page size of the build.
+     */
+    private static final int PAGE_SIZE = 100;
+
+    /**
+     * Article writes during the build, guarded by the class lock.
+     */
+    private static final List<Consumer<ArticleIndexer>> WRITES_WHILE_BUILDING = new ArrayList<>();
+
+    /**
+     * Whether the indexes are being built, guarded by the class lock.
+     */
+    private static boolean building;
+
+    /**
+     * Search service.
+     */
+    @Inject
+    private SearchService searchService;
+
+    /**
+     * Suggest service.
+     */
+    @Inject
+    private SuggestService suggestService;
+
+    /**
+     * Relevant article service.
+     */
+    @Inject
+    private RelevantArticleService relevantArticleService;
+
+    /**
+     * Random article service.
+     */
+    @Inject
+    private RandomArticleService randomArticleService;
+
+    /**
+     * Article navigation service.
+     */
+    @Inject
+    private ArticleNavigationService articleNavigationService;
+
+    /**
+     * Article repository.
+     */
+    @Inject
+    private ArticleRepository articleRepository;
+
+    /**
+     * Adds, updates or removes the specified article in all indexes according to its status, invoked after the write
+     * committed.
+     *
+     * @param article the specified article
+     */
+    public void index(final JSONObject article) {
+        write(indexer -> indexer.index(article));
+    }
+
+    /**
+     * Removes the article specified by the given id from all indexes, invoked after the write committed.
+     *
+     * @param articleId the given id
+     */
+    public void remove(final String articleId) {
+        write(indexer -> indexer.remove(articleId));
+    }
+
+    /**
+     * Builds all indexes with the published articles in background.
+     */
+    public void buildIndexes() {
+        BUILD_EXECUTOR.execute(() -> {
+            final long start = System.currentTimeMillis();
+            synchronized (ArticleIndexService.class) {
+                building = true;
+                WRITES_WHILE_BUILDING.clear();
+            }
+
+            try {
+                final Map<ArticleIndexer, ArticleIndexer.Build> builds = new LinkedHashMap<>();
+                final Set<String> properties = new HashSet<>();
+                for (final ArticleIndexer indexer : getIndexers()) {
+                    final ArticleIndexer.Build build = indexer.startBuild();
+                    if (null != build) {
+                        builds.put(indexer, build);
+                        properties.addAll(build.getProperties());
+                    }
+                }
+                if (builds.isEmpty()) {
+                    return;
+                }
+
+                properties.remove(Keys.OBJECT_ID);
+                int pageNum = 1;
+                while (true) {
+                    final Query query = new Query().
+                            setFilter(new PropertyFilter(Article.ARTICLE_STATUS, FilterOperator.EQUAL, Article.ARTICLE_STATUS_C_PUBLISHED)).
+                            addSort(Keys.OBJECT_ID, SortDirection.ASCENDING).
+                            setPage(pageNum, PAGE_SIZE).setPageCount(1).
+                            select(Keys.OBJECT_ID, properties.toArray(new String[0]));
+                    final List<JSONObject> articles = articleRepository.getList(query);
+                    if (articles.isEmpty()) {
+                        break;
+                    }
+
+                    for (final JSONObject article : articles) {
+                        for (final ArticleIndexer.Build build : builds.values()) {
+                            build.add(article);
+                        }
+                    }
+                    pageNum++;
+                }
+                for (final ArticleIndexer.Build build : builds.values()) {
+                    build.finish();
+                }
+
+                synchronized (ArticleIndexService.class) {
+                    for (final Map.Entry<ArticleIndexer, ArticleIndexer.Build> build : builds.entrySet()) {
+                        build.getValue().swap();
+                        // 分页读到的可能是写入之前的数据，在新索引上按顺序重放构建期间的写入
+                        for (final Consumer<ArticleIndexer> write : WRITES_WHILE_BUILDING) {
+                            write.accept(build.getKey());
+                        }
+                    }
+                }
+
+                LOGGER.log(Level.INFO, "Built article indexes [indexes={}, elapsed={}ms]", builds.size(), System.currentTimeMillis() - start);
+            } catch (final Exception e) {
+                LOGGER.log(Level.ERROR, "Builds article indexes failed", e);
+            } finally {
+                synchronized (ArticleIndexService.class) {
+                    building = false;
+                    WRITES_WHILE_BUILDING.clear();
+                }
+                JdbcRepository.dispose();
+            }
+        });
+    }
+
+    private void write(final Consumer<ArticleIndexer> write) {
+        synchronized (ArticleIndexService.class) {
+            if (building) {
+                WRITES_WHILE_BUILDING.add(write);
+            }
+
+            for (final ArticleIndexer indexer : getIndexers()) {
+                try {
+                    write.accept(indexer);
+                } catch (final Exception e) {
+                    LOGGER.log(Level.ERROR, "Updates article index [" + indexer.getClass().getSimpleName() + "] failed", e);
+                }
+            }
+        }
+    }
+
+    private List<ArticleIndexer> getIndexers() {
+        return Arrays.asList(searchService, suggestService, relevantArticleService, randomArticleService, articleNavigationService);
+    }
+}
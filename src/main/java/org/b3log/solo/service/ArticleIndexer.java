@@ -0,0 +1,80 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.service;
+
+import org.json.JSONObject;
+
+import java.util.Collection;
+
+/**
+ * In-memory index of the published articles. The indexers are registered with {@link ArticleIndexService}, which
+ * notifies them of the article writes once committed and builds them in background.
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.0, Oct 16, 2026
+ * @since 4.2.0
+ */
+public interface ArticleIndexer {
+
+    /**
+     * Adds, updates or removes the specified article in the index according to its status.
+     *
+     * @param article the specified article
+     */
+    void index(final JSONObject article);
+
+    /**
+     * Removes the article specified by the given id from the index.
+     *
+     * @param articleId the given id
+     */
+    void remove(final String articleId);
+
+    /**
+     * Starts building a fresh index, invoked on the build thread.
+     *
+     * @return build, returns {@code null} if there is nothing to build
+     */
+    Build startBuild();
+
+    /**
+     * Fresh index built from the pages of the published articles, the live index is untouched until swapped.
+     */
+    interface Build {
+
+        /**
+         * Gets the article properties the build needs.
+         *
+         * @return article properties
+         */
+        Collection<String> getProperties();
+
+        /**
+         * Adds the specified published article to the fresh index.
+         *
+         * @param article the specified published article
+         */
+        void add(final JSONObject article);
+
+        /**
+         * Completes the fresh index after all articles added.
+         */
+        default void finish() {
+        }
+
+        /**
+         * Swaps the fresh index in. Invoked while the article writes are held, the writes during the build are
+         * replayed onto the swapped index right after.
+         */
+        void swap();
+    }
+}
@@ -21,8 +21,11 @@ import org.b3log.latke.Keys;
 import org.b3log.latke.event.Event;
 import org.b3log.latke.event.EventManager;
 import org.b3log.latke.ioc.Inject;
+import org.b3log.latke.repository.Query;
 import org.b3log.latke.repository.RepositoryException;
+import org.b3log.latke.repository.SortDirection;
 import org.b3log.latke.repository.Transaction;
+import org.b3log.latke.repository.jdbc.JdbcRepository;
 import org.b3log.latke.service.LangPropsService;
 import org.b3log.latke.service.ServiceException;
 import org.b3log.latke.service.annotation.Service;
@@ -38,9 +41,9 @@ import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.text.ParseException;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.b3log.solo.model.Article.*;
 
@@ -48,7 +51,7 @@ import static org.b3log.solo.model.Article.*;
  * Article management service.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 1.3.4.1, Jan 8, 2020
+ * @version 1.3.6.14, Oct 16, 2026
  * @since 0.3.5
  */
 @Service
@@ -59,12 +62,39 @@ public class ArticleMgmtService {
      */
     private static final Logger LOGGER = LogManager.getLogger(ArticleMgmtService.class);
 
+    /**
+     * Articles HTML render executor, a single daemon thread so that the renders run one by one.
+     */
+    private static final ExecutorService RENDER_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread ret = new Thread(runnable, "ArticleHTMLRender");
+        ret.setDaemon(true);
+
+        return ret;
+    });
+
+    /**
+     * Rendered HTML properties of an article, see {@link Article#renderHTML(JSONObject)} for details.
+     */
+    private static final String[] HTML_PROPERTIES = {ARTICLE_CONTENT_HTML, ARTICLE_CONTENT_TOC, ARTICLE_ABSTRACT_HTML, ARTICLE_META_DESCRIPTION};
+
     /**
      * Article query service.
      */
     @Inject
     private ArticleQueryService articleQueryService;
 
+    /**
+     * Article index service.
+     */
+    @Inject
+    private ArticleIndexService articleIndexService;
+
+    /**
+     * Article navigation service.
+     */
+    @Inject
+    private ArticleNavigationService articleNavigationService;
+
     /**
      * Article repository.
      */
@@ -272,11 +302,13 @@ public class ArticleMgmtService {
                 addArticle(addArticleReq);
             } else {
                 article.put(Article.ARTICLE_CONTENT, content);
+                Article.renderHTML(article);
 
                 final String articleId = article.optString(Keys.OBJECT_ID);
                 final Transaction transaction = articleRepository.beginTransaction();
                 articleRepository.update(articleId, article);
                 transaction.commit();
+                articleIndexService.index(article);
             }
 
             final Transaction transaction = pageRepository.beginTransaction();
@@ -348,10 +380,16 @@ public class ArticleMgmtService {
 
         try {
             final JSONObject article = articleRepository.get(articleId);
+            final Set<String> staticDependencies = getStaticDependencies(article);
             article.put(ARTICLE_STATUS, ARTICLE_STATUS_C_DRAFT);
             articleRepository.update(articleId, article, ARTICLE_STATUS);
 
             transaction.commit();
+            articleIndexService.remove(articleId);
+
+            staticDependencies.add(Statics.DEP_INDEX);
+            staticDependencies.add(Statics.DEP_SITE);
+            Statics.evict(staticDependencies);
         } catch (final Exception e) {
             if (transaction.isActive()) {
                 transaction.rollback();
@@ -380,6 +418,8 @@ public class ArticleMgmtService {
             articleRepository.update(articleId, topArticle, ARTICLE_PUT_TOP);
 
             transaction.commit();
+
+            Statics.evict(Arrays.asList(Statics.DEP_INDEX, Statics.DEP_ARTICLE + articleId));
         } catch (final Exception e) {
             if (transaction.isActive()) {
                 transaction.rollback();
@@ -425,6 +465,7 @@ public class ArticleMgmtService {
             final String articleId = article.getString(Keys.OBJECT_ID);
             // Set permalink
             final JSONObject oldArticle = articleRepository.get(articleId);
+            final Set<String> staticDependencies = getStaticDependencies(oldArticle);
             final String permalink = getPermalinkForUpdateArticle(oldArticle, article, oldArticle.optLong(ARTICLE_CREATED));
             article.put(ARTICLE_PERMALINK, permalink);
 
@@ -455,6 +496,7 @@ public class ArticleMgmtService {
 
             final String articleAbstractText = Article.getAbstractText(article);
             article.put(ARTICLE_ABSTRACT_TEXT, articleAbstractText);
+            Article.renderHTML(article);
 
             final boolean postToCommunity = article.optBoolean(Common.POST_TO_COMMUNITY);
             article.remove(Common.POST_TO_COMMUNITY);
@@ -471,8 +513,22 @@ public class ArticleMgmtService {
             }
 
             transaction.commit();
+            articleIndexService.index(article);
 
-            Statics.clear();
+            staticDependencies.addAll(getStaticDependencies(article));
+            final boolean statusChanged = oldArticle.optInt(ARTICLE_STATUS) != article.optInt(ARTICLE_STATUS);
+            if (statusChanged || optionQueryService.getPreference().optBoolean(Option.ID_C_ENABLE_ARTICLE_UPDATE_HINT)) {
+                // 发布状态变化或者按更新时间排序时列表页会变化
+                staticDependencies.add(Statics.DEP_INDEX);
+            }
+            if (statusChanged || Article.ARTICLE_STATUS_C_PUBLISHED == article.optInt(ARTICLE_STATUS) &&
+                    (!oldArticle.optString(ARTICLE_TITLE).equals(article.optString(ARTICLE_TITLE)) ||
+                            !oldArticle.optString(ARTICLE_PERMALINK).equals(permalink) ||
+                            !oldArticle.optString(ARTICLE_TAGS_REF).equals(article.optString(ARTICLE_TAGS_REF)))) {
+                // 最新文章、标签和统计等全站数据变化时所有页面都会变化
+                staticDependencies.add(Statics.DEP_SITE);
+            }
+            Statics.evict(staticDependencies);
         } catch (final ServiceException e) {
             if (transaction.isActive()) {
                 transaction.rollback();
@@ -561,13 +617,20 @@ public class ArticleMgmtService {
 
             final String articleAbstractText = Article.getAbstractText(article);
             article.put(ARTICLE_ABSTRACT_TEXT, articleAbstractText);
+            Article.renderHTML(article);
 
             final boolean postToCommunity = article.optBoolean(Common.POST_TO_COMMUNITY);
             article.remove(Common.POST_TO_COMMUNITY);
             articleRepository.add(article);
             transaction.commit();
+            articleIndexService.index(article);
 
-            Statics.clear();
+            if (Article.ARTICLE_STATUS_C_PUBLISHED == article.optInt(ARTICLE_STATUS)) {
+                final Set<String> staticDependencies = getStaticDependencies(article);
+                staticDependencies.add(Statics.DEP_INDEX);
+                staticDependencies.add(Statics.DEP_SITE);
+                Statics.evict(staticDependencies);
+            }
 
             article.put(Common.POST_TO_COMMUNITY, postToCommunity);
             if (Article.ARTICLE_STATUS_C_PUBLISHED == article.optInt(ARTICLE_STATUS)) {
@@ -595,13 +658,17 @@ public class ArticleMgmtService {
     public void removeArticle(final String articleId) throws ServiceException {
         final Transaction transaction = articleRepository.beginTransaction();
         try {
+            final Set<String> staticDependencies = getStaticDependencies(articleRepository.get(articleId));
+            staticDependencies.add(Statics.DEP_INDEX);
+            staticDependencies.add(Statics.DEP_SITE);
             unArchiveDate(articleId);
             removeTagArticleRelations(articleId);
             articleRepository.remove(articleId);
             commentRepository.removeComments(articleId);
             transaction.commit();
+            articleIndexService.remove(articleId);
 
-            Statics.clear();
+            Statics.evict(staticDependencies);
         } catch (final Exception e) {
             if (transaction.isActive()) {
                 transaction.rollback();
@@ -612,35 +679,118 @@ public class ArticleMgmtService {
         }
     }
 
+    }
+
+    /**
+     * Renders HTML of all articles again in background, invoked after the Markdown preferences changed.
+     */
+    public void renderArticlesHTML() {
+        // 多次调整配置时依次执行，后执行的一次使用最新的配置
+        RENDER_EXECUTOR.execute(() -> {
+            LOGGER.log(Level.INFO, "Rendering articles HTML....");
+            final long start = System.currentTimeMillis();
+            int rendered = 0;
+            try {
+                int pageNum = 1;
+                while (true) {
+                    final Query query = new Query().setPage(pageNum, 50).setPageCount(1).
+                            select(Keys.OBJECT_ID, ARTICLE_CONTENT, ARTICLE_ABSTRACT).
+                            addSort(Keys.OBJECT_ID, SortDirection.ASCENDING);
+                    final List<JSONObject> articles = articleRepository.getList(query);
+                    if (articles.isEmpty()) {
+                        break;
+                    }
+
+                    // 渲染可能较慢，放在事务外进行
+                    for (final JSONObject article : articles) {
+                        Article.renderHTML(article);
+                    }
+
+                    final Transaction transaction = articleRepository.beginTransaction();
+                    for (final JSONObject article : articles) {
+                        final String articleId = article.optString(Keys.OBJECT_ID);
+                        // 重新读取完整的文章，仓库会缓存更新的文章，不能用只查询了部分字段的文章更新
+                        final JSONObject current = articleRepository.get(articleId);
+                        if (null == current || !StringUtils.equals(current.optString(ARTICLE_CONTENT), article.optString(ARTICLE_CONTENT))
+                                || !StringUtils.equals(current.optString(ARTICLE_ABSTRACT), article.optString(ARTICLE_ABSTRACT))) {
+                            // 渲染期间被删除或者编辑过，编辑时已经渲染了新内容
+                            continue;
+                        }
+
+                        for (final String property : HTML_PROPERTIES) {
+                            current.put(property, article.optString(property));
+                        }
+                        articleRepository.update(articleId, current, HTML_PROPERTIES);
+                        rendered++;
+                    }
+                    transaction.commit();
+                    pageNum++;
+                }
+
+                LOGGER.log(Level.INFO, "Rendered [{}] articles HTML in [{}]ms", rendered, System.currentTimeMillis() - start);
+            } catch (final Exception e) {
+                LOGGER.log(Level.ERROR, "Renders articles HTML failed", e);
+            } finally {
+                JdbcRepository.dispose();
+            }
+
+            Statics.clear();
+        });
+    }
+
     /**
-     * Updates the random values of articles fetched with the specified update
-     * count.
+     * Gets the static page dependencies of the specified article, includes the article itself, its tags, categories,
+     * archive, its previous/next articles (their pages link to it) and search results.
      *
-     * @param updateCnt the specified update count
-     * @throws ServiceException service exception
+     * @param article the specified article, may be {@code null}
+     * @return static page dependencies, returns an empty set if the specified article is {@code null}
      */
-    public void updateArticlesRandomValue(final int updateCnt) throws ServiceException {
-        final Transaction transaction = articleRepository.beginTransaction();
+    private Set<String> getStaticDependencies(final JSONObject article) {
+        final Set<String> ret = new HashSet<>();
+        if (null == article) {
+            return ret;
+        }
 
-        try {
-            final List<JSONObject> randomArticles = articleRepository.getRandomly(updateCnt);
+        final String articleId = article.optString(Keys.OBJECT_ID);
+        ret.add(Statics.DEP_ARTICLE + articleId);
+        if (Article.ARTICLE_STATUS_C_PUBLISHED != article.optInt(ARTICLE_STATUS)) {
+            return ret;
+        }
 
-            for (final JSONObject article : randomArticles) {
-                article.put(Article.ARTICLE_RANDOM_DOUBLE, Math.random());
+        try {
+            ret.add(Statics.DEP_SEARCH);
+            ret.add(Statics.DEP_ARCHIVE + DateFormatUtils.format(article.optLong(Keys.OBJECT_ID), "yyyy/MM"));
+            final String[] tagTitles = article.optString(Article.ARTICLE_TAGS_REF).split(",");
+            for (final String tagTitle : tagTitles) {
+                final JSONObject tag = tagRepository.getByTitle(tagTitle.trim());
+                if (null == tag) {
+                    continue;
+                }
 
-                articleRepository.update(article.getString(Keys.OBJECT_ID), article, ARTICLE_RANDOM_DOUBLE);
+                final String tagId = tag.optString(Keys.OBJECT_ID);
+                ret.add(Statics.DEP_TAG + tagId);
+                final JSONArray categoryTags = categoryTagRepository.getByTagId(tagId, 1, Integer.MAX_VALUE).optJSONArray(Keys.RESULTS);
+                for (int i = 0; i < categoryTags.length(); i++) {
+                    ret.add(Statics.DEP_CATEGORY + categoryTags.optJSONObject(i).optString(Category.CATEGORY + "_" + Keys.OBJECT_ID));
+                }
             }
 
-            transaction.commit();
-        } catch (final Exception e) {
-            if (transaction.isActive()) {
-                transaction.rollback();
+            final boolean navigable = articleNavigationService.contains(articleId);
+            final JSONObject previousArticle = navigable ? articleNavigationService.getPreviousArticle(articleId) : articleRepository.getPreviousArticle(articleId);
+            if (null != previousArticle) {
+                ret.add(Statics.DEP_ARTICLE + previousArticle.optString(Keys.OBJECT_ID));
             }
-
-            LOGGER.log(Level.WARN, "Updates article random value failed");
-
-            throw new ServiceException(e);
+            final JSONObject nextArticle = navigable ? articleNavigationService.getNextArticle(articleId) : articleRepository.getNextArticle(articleId);
+            if (null != nextArticle) {
+                ret.add(Statics.DEP_ARTICLE + nextArticle.optString(Keys.OBJECT_ID));
+            }
+        } catch (final Exception e) {
+            LOGGER.log(Level.ERROR, "Gets static dependencies of article [id=" + articleId + "] failed", e);
+            // 无法确定影响范围时失效全部页面
+            ret.add(Statics.DEP_ALL);
         }
+
+        return ret;
     }
 
     /**
@@ -0,0 +1,150 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.service;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.b3log.latke.Keys;
+import org.b3log.latke.service.annotation.Service;
+import org.b3log.solo.model.Article;
+import org.b3log.solo.util.NavigationIndex;
+import org.json.JSONObject;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Article navigation service. Answers the previous and next articles of a published article from an in-memory
+ * {@link NavigationIndex}, which is built and kept up to date by {@link ArticleIndexService}.
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.1, Oct 16, 2026
+ * @since 4.2.0
+ */
+@Service
+public class ArticleNavigationService implements ArticleIndexer {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOGGER = LogManager.getLogger(ArticleNavigationService.class);
+
+    /**
+     * Published articles ordered by created time, swapped by the builds.
+     */
+    private static volatile NavigationIndex index = new NavigationIndex();
+
+    /**
+     * Whether the index is built.
+     */
+    private static volatile boolean ready;
+
+    /**
+     * Determines whether the previous and next articles of the article specified by the given id can be answered by
+     * the index.
+     *
+     * @param articleId the given id
+     * @return {@code true} if the index is built and the article is published, returns {@code false} otherwise
+     */
+    public boolean contains(final String articleId) {
+        return ready && index.contains(articleId);
+    }
+
+    /**
+     * Gets the previous article of the published article specified by the given id.
+     *
+     * @param articleId the given id
+     * @return the previous article, see {@link NavigationIndex#getPrevious(String)} for details, returns {@code null}
+     * if not found
+     */
+    public JSONObject getPreviousArticle(final String articleId) {
+        return index.getPrevious(articleId);
+    }
+
+    /**
+     * Gets the next article of the published article specified by the given id.
+     *
+     * @param articleId the given id
+     * @return the next article, see {@link NavigationIndex#getNext(String)} for details, returns {@code null} if not
+     * found
+     */
+    public JSONObject getNextArticle(final String articleId) {
+        return index.getNext(articleId);
+    }
+
+    /**
+     * Adds, updates or removes the specified article according to its status.
+     *
+     * @param article the specified article
+     */
+    @Override
+    public void index(final JSONObject article) {
+        final String articleId = article.optString(Keys.OBJECT_ID);
+        if (Article.ARTICLE_STATUS_C_PUBLISHED != article.optInt(Article.ARTICLE_STATUS)) {
+            remove(articleId);
+            return;
+        }
+
+        synchronized (ArticleNavigationService.class) {
+            put(index, article);
+        }
+    }
+
+    /**
+     * Removes the article specified by the given id.
+     *
+     * @param articleId the given id
+     */
+    @Override
+    public void remove(final String articleId) {
+        synchronized (ArticleNavigationService.class) {
+            index.remove(articleId);
+        }
+    }
+
+    /**
+     * Starts building a fresh index with all published articles.
+     *
+     * @return build
+     */
+    @Override
+    public Build startBuild() {
+        final NavigationIndex fresh = new NavigationIndex();
+
+        return new Build() {
+            @Override
+            public Collection<String> getProperties() {
+                return Arrays.asList(Article.ARTICLE_CREATED, Article.ARTICLE_TITLE, Article.ARTICLE_PERMALINK, Article.ARTICLE_ABSTRACT);
+            }
+
+            @Override
+            public void add(final JSONObject article) {
+                put(fresh, article);
+            }
+
+            @Override
+            public void swap() {
+                synchronized (ArticleNavigationService.class) {
+                    index = fresh;
+                }
+                ready = true;
+                LOGGER.log(Level.DEBUG, "Built article navigation index [articles={}]", fresh.size());
+            }
+        };
+    }
+
+    private static void put(final NavigationIndex navigationIndex, final JSONObject article) {
+        navigationIndex.put(article.optString(Keys.OBJECT_ID), article.optLong(Article.ARTICLE_CREATED), article.optString(Article.ARTICLE_TITLE),
+                article.optString(Article.ARTICLE_PERMALINK), article.optString(Article.ARTICLE_ABSTRACT));
+    }
+}
@@ -46,7 +46,7 @@ import java.util.*;
  * @author <a href="https://hacpai.com/member/armstrong">ArmstrongCN</a>
  * @author <a href="https://hacpai.com/member/ZephyrJung">Zephyr</a>
  * @author <a href="http://vanessa.b3log.org">Liyuan Li</a>
- * @version 1.3.6.0, Jan 15, 2020
+ * @version 1.3.6.5, Oct 16, 2026
  * @since 0.3.5
  */
 @Service
@@ -111,6 +111,18 @@ public class ArticleQueryService {
     @Inject
     private StatisticQueryService statisticQueryService;
 
+    /**
+     * Random article service.
+     */
+    @Inject
+    private RandomArticleService randomArticleService;
+
+    /**
+     * Article navigation service.
+     */
+    @Inject
+    private ArticleNavigationService articleNavigationService;
+
     /**
      * Language service.
      */
@@ -335,6 +347,44 @@ public class ArticleQueryService {
         }
     }
 
+    /**
+     * Gets the authors of the specified articles.
+     * <p>
+     * The batch version of method {@linkplain #getAuthor(JSONObject)}, fetches the authors in one query.
+     * </p>
+     *
+     * @param articles the specified articles
+     * @return authors, article id to author
+     * @throws ServiceException service exception
+     */
+    public Map<String, JSONObject> getAuthors(final List<JSONObject> articles) throws ServiceException {
+        try {
+            final Set<String> userIds = new HashSet<>();
+            for (final JSONObject article : articles) {
+                userIds.add(article.getString(Article.ARTICLE_AUTHOR_ID));
+            }
+            final Map<String, JSONObject> users = userRepository.getByIds(userIds);
+
+            final Map<String, JSONObject> ret = new HashMap<>();
+            for (final JSONObject article : articles) {
+                JSONObject author = users.get(article.getString(Article.ARTICLE_AUTHOR_ID));
+                if (null == author) {
+                    LOGGER.log(Level.WARN, "Gets author of article failed, assumes the administrator is the author of this article [id={}]",
+                            article.getString(Keys.OBJECT_ID));
+                    // This author may be deleted by admin, use admin as the author of this article
+                    author = userRepository.getAdmin();
+                }
+                ret.put(article.getString(Keys.OBJECT_ID), author);
+            }
+
+            return ret;
+        } catch (final Exception e) {
+            LOGGER.log(Level.ERROR, "Gets authors of articles failed", e);
+
+            throw new ServiceException(e);
+        }
+    }
+
     /**
      * Gets the sign of an article specified by the sign id.
      *
@@ -549,9 +599,10 @@ public class ArticleQueryService {
             JSONArray excludes = requestJSONObject.optJSONArray(Keys.EXCLUDES);
             excludes = null == excludes ? new JSONArray() : excludes;
 
+            final Map<String, JSONObject> authors = getAuthors(CollectionUtils.jsonArrayToList(articles));
             for (int i = 0; i < articles.length(); i++) {
                 final JSONObject article = articles.getJSONObject(i);
-                final JSONObject author = getAuthor(article);
+                final JSONObject author = authors.get(article.getString(Keys.OBJECT_ID));
                 final String authorName = author.getString(User.USER_NAME);
                 article.put(Common.AUTHOR_NAME, authorName);
                 article.put(Article.ARTICLE_CREATE_TIME, article.getLong(Article.ARTICLE_CREATED));
@@ -668,7 +719,8 @@ public class ArticleQueryService {
     }
 
     /**
-     * Gets a list of articles randomly with the specified fetch size.
+     * Gets a list of articles randomly with the specified fetch size. The articles are sampled uniformly from the
+     * in-memory ids of the published articles, or by the random values in the database before the ids loaded.
      * <p>
      * <b>Note</b>: The article content and abstract is raw (no editor type processing).
      * </p>
@@ -679,7 +731,20 @@ public class ArticleQueryService {
      */
     public List<JSONObject> getArticlesRandomly(final int fetchSize) throws ServiceException {
         try {
-            final List<JSONObject> ret = articleRepository.getRandomly(fetchSize);
+            final List<String> ids = randomArticleService.sample(fetchSize);
+            List<JSONObject> ret;
+            if (null == ids) {
+                ret = articleRepository.getRandomly(fetchSize);
+            } else {
+                ret = new ArrayList<>();
+                final Map<String, JSONObject> articles = articleRepository.getByIds(ids);
+                for (final String id : ids) {
+                    final JSONObject article = articles.get(id);
+                    if (null != article) {
+                        ret.add(article);
+                    }
+                }
+            }
             removeUnusedProperties(ret);
 
             return ret;
@@ -706,8 +771,7 @@ public class ArticleQueryService {
             final int maxTagCnt = displayCnt > tagTitles.length ? tagTitles.length : displayCnt;
             final String articleId = article.getString(Keys.OBJECT_ID);
 
-            final List<JSONObject> articles = new ArrayList<>();
-
+            final Set<String> relatedArticleIds = new LinkedHashSet<>();
             for (int i = 0; i < maxTagCnt; i++) { // XXX: should average by tag?
                 final String tagTitle = tagTitles[i];
                 final JSONObject tag = tagRepository.getByTitle(tagTitle);
@@ -725,24 +789,20 @@ public class ArticleQueryService {
                         continue;
                     }
 
-                    final JSONObject relevant = articleRepository.get(relatedArticleId);
-
-                    if (Article.ARTICLE_STATUS_C_PUBLISHED != relevant.optInt(Article.ARTICLE_STATUS)) {
-                        continue;
-                    }
-
-                    boolean existed = false;
-
-                    for (final JSONObject relevantArticle : articles) {
-                        if (relevantArticle.getString(Keys.OBJECT_ID).equals(relevant.getString(Keys.OBJECT_ID))) {
-                            existed = true;
-                        }
-                    }
+                    relatedArticleIds.add(relatedArticleId);
+                }
+            }
 
-                    if (!existed) {
-                        articles.add(relevant);
-                    }
+            // 一次取回所有相关文章
+            final Map<String, JSONObject> relevants = articleRepository.getByIds(relatedArticleIds);
+            final List<JSONObject> articles = new ArrayList<>();
+            for (final String relatedArticleId : relatedArticleIds) {
+                final JSONObject relevant = relevants.get(relatedArticleId);
+                if (null == relevant || Article.ARTICLE_STATUS_C_PUBLISHED != relevant.optInt(Article.ARTICLE_STATUS)) {
+                    continue;
                 }
+
+                articles.add(relevant);
             }
 
             removeUnusedProperties(articles);
@@ -783,6 +843,10 @@ public class ArticleQueryService {
      */
     public JSONObject getNextArticle(final String articleId) throws ServiceException {
         try {
+            if (articleNavigationService.contains(articleId)) {
+                return articleNavigationService.getNextArticle(articleId);
+            }
+
             return articleRepository.getNextArticle(articleId);
         } catch (final RepositoryException e) {
             LOGGER.log(Level.ERROR, "Gets the next article failed[articleId=" + articleId + "]", e);
@@ -808,6 +872,10 @@ public class ArticleQueryService {
      */
     public JSONObject getPreviousArticle(final String articleId) throws ServiceException {
         try {
+            if (articleNavigationService.contains(articleId)) {
+                return articleNavigationService.getPreviousArticle(articleId);
+            }
+
             return articleRepository.getPreviousArticle(articleId);
         } catch (final RepositoryException e) {
             LOGGER.log(Level.ERROR, "Gets the previous article failed[articleId=" + articleId + "]", e);
@@ -890,8 +958,10 @@ public class ArticleQueryService {
             } else {
                 // Markdown to HTML for content and abstract
                 Stopwatchs.start("Get Article Content [Markdown]");
-                String content = article.optString(Article.ARTICLE_CONTENT);
-                content = Markdowns.toHTML(content);
+                String content = article.optString(Article.ARTICLE_CONTENT_HTML);
+                if (StringUtils.isBlank(content)) {
+                    content = Markdowns.toHTML(article.optString(Article.ARTICLE_CONTENT));
+                }
                 article.put(Article.ARTICLE_CONTENT, content);
                 Stopwatchs.end();
             }
@@ -916,25 +986,34 @@ public class ArticleQueryService {
     }
 
     /**
-     * Converts the content and abstract for the specified article to HTML if it is saved by Markdown editor.
+     * Converts the content and abstract for the specified article to HTML if it is saved by Markdown editor. Uses the
+     * HTML rendered on write if present, the articles saved before render-on-write are converted here.
      *
      * @param article the specified article
      */
     public void markdown(final JSONObject article) {
         Stopwatchs.start("Markdown Article [id=" + article.optString(Keys.OBJECT_ID) + "]");
 
-        String content = article.optString(Article.ARTICLE_CONTENT);
-        content = Markdowns.toHTML(content);
+        String content = article.optString(Article.ARTICLE_CONTENT_HTML);
+        if (StringUtils.isBlank(content)) {
+            content = Markdowns.toHTML(article.optString(Article.ARTICLE_CONTENT));
+        }
         article.put(Article.ARTICLE_CONTENT, content);
 
         String abstractContent = article.optString(Article.ARTICLE_ABSTRACT);
         if (StringUtils.isNotBlank(abstractContent)) {
             Stopwatchs.start("Abstract");
-            abstractContent = Markdowns.toHTML(abstractContent);
+            final String abstractHTML = article.optString(Article.ARTICLE_ABSTRACT_HTML);
+            abstractContent = StringUtils.isNotBlank(abstractHTML) ? abstractHTML : Markdowns.toHTML(abstractContent);
             article.put(Article.ARTICLE_ABSTRACT, abstractContent);
             Stopwatchs.end();
         }
 
+        // 已经合并到正文和摘要中，不再占用数据模型
+        article.remove(Article.ARTICLE_CONTENT_HTML);
+        article.remove(Article.ARTICLE_CONTENT_TOC);
+        article.remove(Article.ARTICLE_ABSTRACT_HTML);
+
         Stopwatchs.end();
     }
 
@@ -17,7 +17,6 @@ import org.apache.logging.log4j.Logger;
 import org.b3log.latke.Keys;
 import org.b3log.latke.ioc.Inject;
 import org.b3log.latke.repository.*;
-import org.b3log.latke.repository.annotation.Transactional;
 import org.b3log.latke.service.ServiceException;
 import org.b3log.latke.service.annotation.Service;
 import org.b3log.solo.model.Category;
@@ -31,7 +30,7 @@ import org.json.JSONObject;
  * Category management service.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 1.2.0.0, Apr 1, 2017
+ * @version 1.2.0.2, Oct 16, 2026
  * @since 2.0.0
  */
 @Service
@@ -54,6 +53,12 @@ public class CategoryMgmtService {
     @Inject
     private CategoryTagRepository categoryTagRepository;
 
+    /**
+     * Suggest service.
+     */
+    @Inject
+    private SuggestService suggestService;
+
     /**
      * Changes the order of a category specified by the given category id with the specified direction.
      *
@@ -112,8 +117,8 @@ public class CategoryMgmtService {
      * @param tagId      the specified tag id
      * @throws ServiceException service exception
      */
-    @Transactional
     public void removeCategoryTag(final String categoryId, final String tagId) throws ServiceException {
+        final Transaction transaction = categoryRepository.beginTransaction();
         try {
             final JSONObject category = categoryRepository.get(categoryId);
             category.put(Category.CATEGORY_TAG_CNT, category.optInt(Category.CATEGORY_TAG_CNT) - 1);
@@ -126,13 +131,20 @@ public class CategoryMgmtService {
                             new PropertyFilter(Tag.TAG + "_" + Keys.OBJECT_ID, FilterOperator.EQUAL, tagId)));
 
             final JSONArray relations = categoryTagRepository.get(query).optJSONArray(Keys.RESULTS);
-            if (relations.length() < 1) {
-                return;
+            if (0 < relations.length()) {
+                final JSONObject relation = relations.optJSONObject(0);
+                categoryTagRepository.remove(relation.optString(Keys.OBJECT_ID));
+            }
+
+            transaction.commit();
+
+            // 提交后再更新内存索引，索引读到的是已提交的数据，回滚时也不会残留
+            suggestService.indexCategory(categoryId);
+        } catch (final Exception e) {
+            if (transaction.isActive()) {
+                transaction.rollback();
             }
 
-            final JSONObject relation = relations.optJSONObject(0);
-            categoryTagRepository.remove(relation.optString(Keys.OBJECT_ID));
-        } catch (final RepositoryException e) {
             LOGGER.log(Level.ERROR, "Adds a category-tag relation failed", e);
 
             throw new ServiceException(e);
@@ -145,8 +157,8 @@ public class CategoryMgmtService {
      * @param categoryTag the specified category-tag relation
      * @throws ServiceException service exception
      */
-    @Transactional
     public void addCategoryTag(final JSONObject categoryTag) throws ServiceException {
+        final Transaction transaction = categoryRepository.beginTransaction();
         try {
             categoryTagRepository.add(categoryTag);
 
@@ -158,7 +170,14 @@ public class CategoryMgmtService {
             category.put(Category.CATEGORY_TAG_CNT, tagCount);
 
             categoryRepository.update(categoryId, category);
-        } catch (final RepositoryException e) {
+            transaction.commit();
+
+            suggestService.indexCategory(categoryId);
+        } catch (final Exception e) {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+
             LOGGER.log(Level.ERROR, "Adds a category-tag relation failed", e);
 
             throw new ServiceException(e);
@@ -172,8 +191,8 @@ public class CategoryMgmtService {
      * @return category id
      * @throws ServiceException service exception
      */
-    @Transactional
     public String addCategory(final JSONObject category) throws ServiceException {
+        final Transaction transaction = categoryRepository.beginTransaction();
         try {
             final JSONObject record = new JSONObject();
             record.put(Category.CATEGORY_TAG_CNT, 0);
@@ -187,9 +206,16 @@ public class CategoryMgmtService {
             category.put(Category.CATEGORY_ORDER, order);
 
             final String ret = categoryRepository.add(record);
+            transaction.commit();
+
+            suggestService.indexCategory(ret);
 
             return ret;
-        } catch (final RepositoryException e) {
+        } catch (final Exception e) {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+
             LOGGER.log(Level.ERROR, "Adds a category failed", e);
 
             throw new ServiceException(e);
@@ -203,15 +229,22 @@ public class CategoryMgmtService {
      * @param category   the specified category
      * @throws ServiceException service exception
      */
-    @Transactional
     public void updateCategory(final String categoryId, final JSONObject category) throws ServiceException {
+        final Transaction transaction = categoryRepository.beginTransaction();
         try {
             final JSONObject oldCategory = categoryRepository.get(categoryId);
             category.put(Category.CATEGORY_ORDER, oldCategory.optInt(Category.CATEGORY_ORDER));
             category.put(Category.CATEGORY_TAG_CNT, oldCategory.optInt(Category.CATEGORY_TAG_CNT));
 
             categoryRepository.update(categoryId, category);
-        } catch (final RepositoryException e) {
+            transaction.commit();
+
+            suggestService.indexCategory(categoryId);
+        } catch (final Exception e) {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+
             LOGGER.log(Level.ERROR, "Updates a category [id=" + categoryId + "] failed", e);
 
             throw new ServiceException(e);
@@ -224,12 +257,19 @@ public class CategoryMgmtService {
      * @param categoryId the given category id
      * @throws ServiceException service exception
      */
-    @Transactional
     public void removeCategory(final String categoryId) throws ServiceException {
+        final Transaction transaction = categoryRepository.beginTransaction();
         try {
             categoryTagRepository.removeByCategoryId(categoryId);
             categoryRepository.remove(categoryId);
-        } catch (final RepositoryException e) {
+            transaction.commit();
+
+            suggestService.removeCategory(categoryId);
+        } catch (final Exception e) {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+
             LOGGER.log(Level.ERROR, "Remove a category [id=" + categoryId + "] failed", e);
 
             throw new ServiceException(e);
@@ -242,11 +282,18 @@ public class CategoryMgmtService {
      * @param categoryId the given category id
      * @throws ServiceException service exception
      */
-    @Transactional
     public void removeCategoryTags(final String categoryId) throws ServiceException {
+        final Transaction transaction = categoryRepository.beginTransaction();
         try {
             categoryTagRepository.removeByCategoryId(categoryId);
-        } catch (final RepositoryException e) {
+            transaction.commit();
+
+            suggestService.indexCategory(categoryId);
+        } catch (final Exception e) {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+
             LOGGER.log(Level.ERROR, "Remove category-tag [categoryId=" + categoryId + "] failed", e);
 
             throw new ServiceException(e);
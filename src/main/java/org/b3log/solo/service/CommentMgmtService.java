@@ -19,8 +19,11 @@ import org.apache.logging.log4j.Logger;
 import org.b3log.latke.Keys;
 import org.b3log.latke.event.EventManager;
 import org.b3log.latke.ioc.Inject;
+import org.b3log.latke.repository.Query;
 import org.b3log.latke.repository.RepositoryException;
+import org.b3log.latke.repository.SortDirection;
 import org.b3log.latke.repository.Transaction;
+import org.b3log.latke.repository.jdbc.JdbcRepository;
 import org.b3log.latke.service.LangPropsService;
 import org.b3log.latke.service.ServiceException;
 import org.b3log.latke.service.annotation.Service;
@@ -30,17 +33,21 @@ import org.b3log.solo.model.*;
 import org.b3log.solo.repository.ArticleRepository;
 import org.b3log.solo.repository.CommentRepository;
 import org.b3log.solo.repository.UserRepository;
-import org.b3log.solo.util.Markdowns;
+import org.b3log.solo.util.Statics;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Comment management service.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 1.4.0.4, Mar 31, 2020
+ * @version 1.4.1.4, Oct 16, 2026
  * @since 0.3.5
  */
 @Service
@@ -51,6 +58,16 @@ public class CommentMgmtService {
      */
     private static final Logger LOGGER = LogManager.getLogger(CommentMgmtService.class);
 
+    /**
+     * Comments HTML render executor, a single daemon thread so that the renders run one by one.
+     */
+    private static final ExecutorService RENDER_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread ret = new Thread(runnable, "CommentHTMLRender");
+        ret.setDaemon(true);
+
+        return ret;
+    });
+
     /**
      * Minimum length of comment name.
      */
@@ -275,10 +292,9 @@ public class CommentMgmtService {
             ret.put("commentDate2", date);
             ret.put(Common.COMMENTABLE, preference.getBoolean(Option.ID_C_COMMENTABLE) && article.getBoolean(Article.ARTICLE_COMMENTABLE));
             ret.put(Common.PERMALINK, article.getString(Article.ARTICLE_PERMALINK));
+            Comment.renderHTML(comment);
             ret.put(Comment.COMMENT_NAME, commentName);
-            String cmtContent = Markdowns.toHTML(commentContent);
-            cmtContent = Markdowns.clean(cmtContent);
-            ret.put(Comment.COMMENT_CONTENT, cmtContent);
+            ret.put(Comment.COMMENT_CONTENT, comment.optString(Comment.COMMENT_CONTENT_HTML));
             ret.put(Comment.COMMENT_URL, commentURL);
 
             JSONObject originalComment;
@@ -311,6 +327,9 @@ public class CommentMgmtService {
             articleMgmtService.incArticleCommentCount(articleId);
 
             transaction.commit();
+
+            // 文章页和列出该文章的列表页（评论数）都记录了文章依赖
+            Statics.evict(Collections.singletonList(Statics.DEP_ARTICLE + articleId));
         } catch (final Exception e) {
             if (transaction.isActive()) {
                 transaction.rollback();
@@ -338,6 +357,8 @@ public class CommentMgmtService {
             decArticleCommentCount(articleId);
 
             transaction.commit();
+
+            Statics.evict(Collections.singletonList(Statics.DEP_ARTICLE + articleId));
         } catch (final Exception e) {
             if (transaction.isActive()) {
                 transaction.rollback();
@@ -348,6 +369,62 @@ public class CommentMgmtService {
         }
     }
 
+    /**
+     * Renders HTML of all comments again in background, invoked after upgraded and after the Markdown preferences
+     * changed.
+     */
+    public void renderCommentsHTML() {
+        // 多次调整配置时依次执行，后执行的一次使用最新的配置
+        RENDER_EXECUTOR.execute(() -> {
+            LOGGER.log(Level.INFO, "Rendering comments HTML....");
+            final long start = System.currentTimeMillis();
+            int rendered = 0;
+            try {
+                int pageNum = 1;
+                while (true) {
+                    final Query query = new Query().setPage(pageNum, 100).setPageCount(1).
+                            select(Keys.OBJECT_ID, Comment.COMMENT_CONTENT, Comment.COMMENT_NAME).
+                            addSort(Keys.OBJECT_ID, SortDirection.ASCENDING);
+                    final List<JSONObject> comments = commentRepository.getList(query);
+                    if (comments.isEmpty()) {
+                        break;
+                    }
+
+                    // 渲染可能较慢，放在事务外进行
+                    for (final JSONObject comment : comments) {
+                        Comment.renderHTML(comment);
+                    }
+
+                    final Transaction transaction = commentRepository.beginTransaction();
+                    for (final JSONObject comment : comments) {
+                        final String commentId = comment.optString(Keys.OBJECT_ID);
+                        // 重新读取完整的评论，仓库会缓存更新的评论，不能用只查询了部分字段的评论更新
+                        final JSONObject current = commentRepository.get(commentId);
+                        if (null == current) {
+                            // 渲染期间被删除
+                            continue;
+                        }
+
+                        current.put(Comment.COMMENT_CONTENT_HTML, comment.optString(Comment.COMMENT_CONTENT_HTML));
+                        current.put(Comment.COMMENT_NAME_HTML, comment.optString(Comment.COMMENT_NAME_HTML));
+                        commentRepository.update(commentId, current, Comment.COMMENT_CONTENT_HTML, Comment.COMMENT_NAME_HTML);
+                        rendered++;
+                    }
+                    transaction.commit();
+                    pageNum++;
+                }
+
+                LOGGER.log(Level.INFO, "Rendered [{}] comments HTML in [{}]ms", rendered, System.currentTimeMillis() - start);
+            } catch (final Exception e) {
+                LOGGER.log(Level.ERROR, "Renders comments HTML failed", e);
+            } finally {
+                JdbcRepository.dispose();
+            }
+
+            Statics.clear();
+        });
+    }
+
     /**
      * Article comment count -1 for an article specified by the given article id.
      *
@@ -16,6 +16,7 @@ import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.b3log.latke.Keys;
+import org.b3log.latke.Latkes;
 import org.b3log.latke.ioc.Inject;
 import org.b3log.latke.model.Pagination;
 import org.b3log.latke.model.Role;
@@ -26,6 +27,7 @@ import org.b3log.latke.repository.Transaction;
 import org.b3log.latke.service.ServiceException;
 import org.b3log.latke.service.annotation.Service;
 import org.b3log.latke.util.Paginator;
+import org.b3log.latke.util.Strings;
 import org.b3log.solo.model.Article;
 import org.b3log.solo.model.Comment;
 import org.b3log.solo.model.Common;
@@ -38,15 +40,13 @@ import org.json.JSONObject;
 import org.jsoup.Jsoup;
 import org.jsoup.safety.Whitelist;
 
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.List;
+import java.util.*;
 
 /**
  * Comment query service.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 1.3.2.7, Apr 24, 2019
+ * @version 1.3.4.2, Oct 16, 2026
  * @since 0.3.5
  */
 @Service
@@ -57,6 +57,21 @@ public class CommentQueryService {
      */
     private static final Logger LOGGER = LogManager.getLogger(CommentQueryService.class);
 
+    /**
+     * Size of the first page of comments rendered in an article page, configured by latke.properties
+     * "commentFirstPageSize", {@link Integer#MAX_VALUE} for all comments. The rest are loaded on demand.
+     */
+    public static final int FIRST_PAGE_SIZE;
+
+    static {
+        int firstPageSize = 50;
+        final String firstPageSizeConf = Latkes.getLatkeProperty("commentFirstPageSize");
+        if (Strings.isNumeric(firstPageSizeConf)) {
+            firstPageSize = Integer.parseInt(firstPageSizeConf);
+        }
+        FIRST_PAGE_SIZE = 0 < firstPageSize ? firstPageSize : Integer.MAX_VALUE;
+    }
+
     /**
      * User service.
      */
@@ -157,13 +172,19 @@ public class CommentQueryService {
             final JSONObject result = commentRepository.get(query);
             final JSONArray comments = result.getJSONArray(Keys.RESULTS);
 
+            final Set<String> onIds = new HashSet<>();
+            for (int i = 0; i < comments.length(); i++) {
+                onIds.add(comments.getJSONObject(i).getString(Comment.COMMENT_ON_ID));
+            }
+            final Map<String, JSONObject> articles = articleRepository.getByIds(onIds);
+
             // Sets comment title and content escaping
             for (int i = 0; i < comments.length(); i++) {
                 final JSONObject comment = comments.getJSONObject(i);
                 String title;
 
                 final String onId = comment.getString(Comment.COMMENT_ON_ID);
-                final JSONObject article = articleRepository.get(onId);
+                final JSONObject article = articles.get(onId);
                 if (null == article) {
                     // 某种情况下导致的数据不一致：文章已经被删除了，但是评论还在
                     // 为了保持数据一致性，需要删除该条评论 https://hacpai.com/article/1556060195022
@@ -178,14 +199,7 @@ public class CommentQueryService {
                 comment.put(Common.TYPE, Common.ARTICLE_COMMENT_TYPE);
                 comment.put(Common.COMMENT_TITLE, title);
 
-                String commentContent = comment.optString(Comment.COMMENT_CONTENT);
-                commentContent = Markdowns.toHTML(commentContent);
-                commentContent = Markdowns.clean(commentContent);
-                comment.put(Comment.COMMENT_CONTENT, commentContent);
-
-                String commentName = comment.optString(Comment.COMMENT_NAME);
-                commentName = Jsoup.clean(commentName, Whitelist.none());
-                comment.put(Comment.COMMENT_NAME, commentName);
+                fillHTML(comment);
 
                 comment.put(Comment.COMMENT_TIME, comment.optLong(Comment.COMMENT_CREATED));
                 comment.remove(Comment.COMMENT_CREATED);
@@ -221,38 +235,116 @@ public class CommentQueryService {
             final List<JSONObject> ret = new ArrayList<>();
             final List<JSONObject> comments = commentRepository.getComments(onId, 1, Integer.MAX_VALUE);
             for (final JSONObject comment : comments) {
-                comment.put(Comment.COMMENT_TIME, comment.optLong(Comment.COMMENT_CREATED));
-                comment.put(Comment.COMMENT_T_DATE, new Date(comment.optLong(Comment.COMMENT_CREATED)));
-                comment.put("commentDate2", new Date(comment.optLong(Comment.COMMENT_CREATED))); // 1.9.0 向后兼容
-                comment.put(Comment.COMMENT_NAME, comment.getString(Comment.COMMENT_NAME));
-                String url = comment.getString(Comment.COMMENT_URL);
-                if (StringUtils.contains(url, "<")) { // legacy issue https://github.com/b3log/solo/issues/12091
-                    url = "";
-                }
-                comment.put(Comment.COMMENT_URL, url);
-                comment.put(Common.IS_REPLY, false); // Assumes this comment is not a reply
-
-                if (StringUtils.isNotBlank(comment.optString(Comment.COMMENT_ORIGINAL_COMMENT_ID))) {
-                    // This comment is a reply
-                    comment.put(Common.IS_REPLY, true);
-                }
+                organizeComment(comment);
+                ret.add(comment);
+            }
 
-                String commentContent = comment.optString(Comment.COMMENT_CONTENT);
-                commentContent = Markdowns.toHTML(commentContent);
-                commentContent = Markdowns.clean(commentContent);
-                comment.put(Comment.COMMENT_CONTENT, commentContent);
+            return ret;
+        } catch (final Exception e) {
+            LOGGER.log(Level.ERROR, "Gets comments failed", e);
+            throw new ServiceException(e);
+        }
+    }
 
-                String commentName = comment.optString(Comment.COMMENT_NAME);
-                commentName = Jsoup.clean(commentName, Whitelist.none());
-                comment.put(Comment.COMMENT_NAME, commentName);
+    /**
+     * Gets a page of comments of an article or page specified by the on id, in the order of created time descending.
+     *
+     * @param onId      the specified on id
+     * @param cursor    the specified cursor returned with the previous page, blank for the first page
+     * @param fetchSize the specified fetch size
+     * @return result, for example,
+     * <pre>
+     * {
+     *     "comments": [{
+     *         "oId": "",
+     *         "commentContent": "",
+     *         ....
+     *      }, ....],
+     *     "commentCursor": "" // cursor of the next page, blank if no more
+     * }
+     * </pre>
+     * @throws ServiceException service exception
+     */
+    public JSONObject getComments(final String onId, final String cursor, final int fetchSize) throws ServiceException {
+        long created = 0;
+        String id = "";
+        if (StringUtils.isNotBlank(cursor)) {
+            // 游标格式为 commentCreated-oId
+            final String createdStr = StringUtils.substringBefore(cursor, "-");
+            id = StringUtils.substringAfter(cursor, "-");
+            if (!Strings.isNumeric(createdStr) || !Strings.isNumeric(id)) {
+                throw new ServiceException("Invalid comment cursor [" + cursor + "]");
+            }
+            created = Long.parseLong(createdStr);
+        }
 
-                ret.add(comment);
+        try {
+            final int limit = Integer.MAX_VALUE == fetchSize ? fetchSize : fetchSize + 1; // 多取一条判断是否还有下一页
+            final List<JSONObject> comments = commentRepository.getComments(onId, created, id, limit);
+            String nextCursor = "";
+            if (comments.size() > fetchSize) {
+                comments.remove(fetchSize);
+                final JSONObject last = comments.get(fetchSize - 1);
+                nextCursor = last.optLong(Comment.COMMENT_CREATED) + "-" + last.optString(Keys.OBJECT_ID);
+            }
+            for (final JSONObject comment : comments) {
+                organizeComment(comment);
             }
 
-            return ret;
+            return new JSONObject().
+                    put(Comment.COMMENTS, (Object) comments).
+                    put(Common.COMMENT_CURSOR, nextCursor);
         } catch (final Exception e) {
             LOGGER.log(Level.ERROR, "Gets comments failed", e);
             throw new ServiceException(e);
         }
     }
+
+    /**
+     * Organizes the specified comment for rendering in an article page.
+     *
+     * @param comment the specified comment
+     */
+    private void organizeComment(final JSONObject comment) {
+        comment.put(Comment.COMMENT_TIME, comment.optLong(Comment.COMMENT_CREATED));
+        comment.put(Comment.COMMENT_T_DATE, new Date(comment.optLong(Comment.COMMENT_CREATED)));
+        comment.put("commentDate2", new Date(comment.optLong(Comment.COMMENT_CREATED))); // 1.9.0 向后兼容
+        comment.put(Comment.COMMENT_NAME, comment.getString(Comment.COMMENT_NAME));
+        String url = comment.getString(Comment.COMMENT_URL);
+        if (StringUtils.contains(url, "<")) { // legacy issue https://github.com/b3log/solo/issues/12091
+            url = "";
+        }
+        comment.put(Comment.COMMENT_URL, url);
+        comment.put(Common.IS_REPLY, false); // Assumes this comment is not a reply
+
+        if (StringUtils.isNotBlank(comment.optString(Comment.COMMENT_ORIGINAL_COMMENT_ID))) {
+            // This comment is a reply
+            comment.put(Common.IS_REPLY, true);
+        }
+
+        fillHTML(comment);
+    }
+
+    /**
+     * Fills the content HTML and the escaped name into the content and name of the specified comment. Uses the HTML
+     * rendered on write if present, the comments saved before render-on-write, failed to render or too long to save are
+     * rendered here.
+     *
+     * @param comment the specified comment
+     */
+    private void fillHTML(final JSONObject comment) {
+        if (StringUtils.isBlank(comment.optString(Comment.COMMENT_NAME_HTML))) {
+            comment.put(Comment.COMMENT_NAME_HTML, Jsoup.clean(comment.optString(Comment.COMMENT_NAME), Whitelist.none()));
+        }
+        String contentHTML = comment.optString(Comment.COMMENT_CONTENT_HTML);
+        if (StringUtils.isBlank(contentHTML)) {
+            contentHTML = Markdowns.commentToHTML(comment.optString(Comment.COMMENT_CONTENT));
+        }
+        comment.put(Comment.COMMENT_CONTENT, contentHTML);
+        comment.put(Comment.COMMENT_NAME, comment.optString(Comment.COMMENT_NAME_HTML));
+
+        // 已经合并到内容和名称中，不再占用数据模型
+        comment.remove(Comment.COMMENT_CONTENT_HTML);
+        comment.remove(Comment.COMMENT_NAME_HTML);
+    }
 }
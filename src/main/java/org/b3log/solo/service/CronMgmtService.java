@@ -17,6 +17,7 @@ import org.apache.logging.log4j.Logger;
 import org.b3log.latke.ioc.Inject;
 import org.b3log.latke.service.annotation.Service;
 import org.b3log.latke.util.Stopwatchs;
+import org.b3log.solo.util.Markdowns;
 import org.b3log.solo.util.Solos;
 
 import java.util.concurrent.Executors;
@@ -27,7 +28,7 @@ import java.util.concurrent.TimeUnit;
  * Cron management service.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 1.0.0.5, May 20, 2020
+ * @version 1.0.0.8, Oct 16, 2026
  * @since 2.9.7
  */
 @Service
@@ -82,6 +83,8 @@ public class CronMgmtService {
         SCHEDULED_EXECUTOR_SERVICE.scheduleAtFixedRate(() -> {
             try {
                 StatisticMgmtService.removeExpiredOnlineVisitor();
+                LOGGER.log(Level.INFO, "Markdown render stats {}, cache stats {}", Markdowns.getRenderStats(), Markdowns.getCacheStats());
+                LOGGER.log(Level.INFO, "Suggest index stats {}", SuggestService.getStats());
             } catch (final Exception e) {
                 LOGGER.log(Level.ERROR, "Executes cron failed", e);
             } finally {
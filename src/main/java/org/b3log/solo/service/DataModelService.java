@@ -40,6 +40,7 @@ import org.b3log.solo.repository.*;
 import org.b3log.solo.util.Markdowns;
 import org.b3log.solo.util.Skins;
 import org.b3log.solo.util.Solos;
+import org.b3log.solo.util.Statics;
 import org.json.JSONObject;
 
 import java.io.StringWriter;
@@ -52,7 +53,7 @@ import static org.b3log.solo.model.Article.ARTICLE_CONTENT;
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
  * @author <a href="http://vanessa.b3log.org">Liyuan Li</a>
- * @version 1.7.1.0, May 18, 2020
+ * @version 1.7.2.4, Oct 16, 2026
  * @since 0.3.1
  */
 @Service
@@ -171,6 +172,11 @@ public class DataModelService {
     @Inject
     private UserMgmtService userMgmtService;
 
+    /**
+     * Site snapshot, rebuilt once the page cache generation changed.
+     */
+    private volatile SiteSnapshot siteSnapshot;
+
     /**
      * Fills articles in index.ftl.
      *
@@ -487,24 +493,13 @@ public class DataModelService {
      * @throws ServiceException service exception
      */
     public void fillCommon(final RequestContext context, final Map<String, Object> dataModel, final JSONObject preference) throws ServiceException {
+        // 页头、侧栏和页脚的全站数据变化时所有页面都需要失效
+        Statics.depend(context, Statics.DEP_SITE);
+        final SiteSnapshot snapshot = getSiteSnapshot(preference);
         fillSide(context, dataModel, preference);
-        fillBlogHeader(context, dataModel, preference);
+        fillBlogHeader(context, dataModel, preference, snapshot);
         fillBlogFooter(context, dataModel, preference);
-
-        // 支持配置自定义模板变量 https://github.com/b3log/solo/issues/12535
-        final Map<String, String> customVars = new HashMap<>();
-        final String customVarsStr = preference.optString(Option.ID_C_CUSTOM_VARS);
-        final String[] customVarsArray = customVarsStr.split("\\|");
-        for (final String customVarPair : customVarsArray) {
-            if (StringUtils.isNotBlank(customVarsStr)) {
-                final String customVarKey = StringUtils.substringBefore(customVarPair, "=");
-                final String customVarVal = StringUtils.substringAfter(customVarPair, "=");
-                if (StringUtils.isNotBlank(customVarKey) && StringUtils.isNotBlank(customVarVal)) {
-                    customVars.put(customVarKey, customVarVal);
-                }
-            }
-        }
-        dataModel.put("customVars", customVars);
+        dataModel.put("customVars", snapshot.getCustomVars());
 
         dataModel.put(Common.LUTE_AVAILABLE, Markdowns.LUTE_AVAILABLE);
         String hljsTheme = preference.optString(Option.ID_C_HLJS_THEME);
@@ -529,6 +524,84 @@ public class DataModelService {
         }
     }
 
+    /**
+     * Gets the site snapshot, builds a new one if the rendering inputs changed since the current one built.
+     *
+     * @param preference the specified preference
+     * @return site snapshot
+     * @throws ServiceException service exception
+     */
+    public SiteSnapshot getSiteSnapshot(final JSONObject preference) throws ServiceException {
+        SiteSnapshot ret = siteSnapshot;
+        if (null != ret && Statics.getGeneration() == ret.getGeneration()) {
+            return ret;
+        }
+
+        synchronized (this) {
+            ret = siteSnapshot;
+            final long generation = Statics.getGeneration();
+            if (null != ret && generation == ret.getGeneration()) {
+                return ret;
+            }
+
+            ret = buildSiteSnapshot(preference, generation);
+            siteSnapshot = ret;
+
+            return ret;
+        }
+    }
+
+    /**
+     * Builds a site snapshot with the specified preference and page cache generation.
+     *
+     * @param preference the specified preference
+     * @param generation the specified page cache generation
+     * @return site snapshot
+     * @throws ServiceException service exception
+     */
+    private SiteSnapshot buildSiteSnapshot(final JSONObject preference, final long generation) throws ServiceException {
+        Stopwatchs.start("Build Site Snapshot");
+        try {
+            LOGGER.debug("Building site snapshot....");
+            final Map<String, Object> header = new HashMap<>();
+            // 皮肤不显示访客用户 https://github.com/b3log/solo/issues/12752
+            final Query query = new Query().setPageCount(1).setFilter(new PropertyFilter(User.USER_ROLE, FilterOperator.NOT_EQUAL, Role.VISITOR_ROLE));
+            final List<JSONObject> userList = userRepository.getList(query);
+            header.put(User.USERS, userList);
+            final JSONObject admin = userRepository.getAdmin();
+            header.put(Common.ADMIN_USER, admin);
+            fillPageNavigations(header);
+            fillStatistic(header);
+            fillMostUsedTags(header, preference);
+            fillArchiveDates(header, preference);
+            fillMostUsedCategories(header, preference);
+
+            // 支持配置自定义模板变量 https://github.com/b3log/solo/issues/12535
+            final Map<String, String> customVars = new HashMap<>();
+            final String customVarsStr = preference.optString(Option.ID_C_CUSTOM_VARS);
+            final String[] customVarsArray = customVarsStr.split("\\|");
+            for (final String customVarPair : customVarsArray) {
+                if (StringUtils.isNotBlank(customVarsStr)) {
+                    final String customVarKey = StringUtils.substringBefore(customVarPair, "=");
+                    final String customVarVal = StringUtils.substringAfter(customVarPair, "=");
+                    if (StringUtils.isNotBlank(customVarKey) && StringUtils.isNotBlank(customVarVal)) {
+                        customVars.put(customVarKey, customVarVal);
+                    }
+                }
+            }
+
+            return new SiteSnapshot(generation, header, customVars);
+        } catch (final ServiceException e) {
+            throw e;
+        } catch (final Exception e) {
+            LOGGER.log(Level.ERROR, "Builds site snapshot failed", e);
+
+            throw new ServiceException(e);
+        } finally {
+            Stopwatchs.end();
+        }
+    }
+
     /**
      * Fills footer.ftl.
      *
@@ -589,10 +662,11 @@ public class DataModelService {
      * @param context    the specified HTTP request context
      * @param dataModel  data model
      * @param preference the specified preference
+     * @param snapshot   the specified site snapshot
      * @throws ServiceException service exception
      */
-    private void fillBlogHeader(final RequestContext context, final Map<String, Object> dataModel, final JSONObject preference)
-            throws ServiceException {
+    private void fillBlogHeader(final RequestContext context, final Map<String, Object> dataModel, final JSONObject preference,
+                                final SiteSnapshot snapshot) throws ServiceException {
         Stopwatchs.start("Fill Header");
         try {
             LOGGER.debug("Filling header....");
@@ -622,20 +696,11 @@ public class DataModelService {
             dataModel.put(Common.FAVICON_API, Solos.FAVICON_API);
             final String noticeBoard = preference.getString(Option.ID_C_NOTICE_BOARD);
             dataModel.put(Option.ID_C_NOTICE_BOARD, noticeBoard);
-            // 皮肤不显示访客用户 https://github.com/b3log/solo/issues/12752
-            final Query query = new Query().setPageCount(1).setFilter(new PropertyFilter(User.USER_ROLE, FilterOperator.NOT_EQUAL, Role.VISITOR_ROLE));
-            final List<JSONObject> userList = userRepository.getList(query);
-            dataModel.put(User.USERS, userList);
-            final JSONObject admin = userRepository.getAdmin();
-            dataModel.put(Common.ADMIN_USER, admin);
             final String skinDirName = (String) context.attr(Keys.TEMPLATE_DIR_NAME);
             dataModel.put(Option.ID_C_SKIN_DIR_NAME, skinDirName);
             Keys.fillRuntime(dataModel);
-            fillPageNavigations(dataModel);
-            fillStatistic(dataModel);
-            fillMostUsedTags(dataModel, preference);
-            fillArchiveDates(dataModel, preference);
-            fillMostUsedCategories(dataModel, preference);
+            // 用户、导航、统计、标签、存档和分类等全站数据来自快照
+            dataModel.putAll(snapshot.getHeader());
         } catch (final Exception e) {
             LOGGER.log(Level.ERROR, "Fills blog header failed", e);
 
@@ -781,13 +846,16 @@ public class DataModelService {
      *
      * @param context    the specified HTTP request context
      * @param article    the specified article
+     * @param author     the specified author of the article
      * @param preference the specified preference
      * @throws ServiceException service exception
      * @see #setArticlesExProperties(RequestContext, List, JSONObject)
      */
-    private void setArticleExProperties(final RequestContext context, final JSONObject article, final JSONObject preference) throws ServiceException {
+    private void setArticleExProperties(final RequestContext context, final JSONObject article, final JSONObject author,
+                                        final JSONObject preference) throws ServiceException {
         try {
-            final JSONObject author = articleQueryService.getAuthor(article);
+            Statics.depend(context, Statics.DEP_ARTICLE + article.optString(Keys.OBJECT_ID));
+
             final String authorName = author.getString(User.USER_NAME);
             article.put(Common.AUTHOR_NAME, authorName);
             final String authorId = author.getString(Keys.OBJECT_ID);
@@ -807,13 +875,12 @@ public class DataModelService {
             if (Solos.needViewPwd(context, article)) {
                 final String content = langPropsService.get("articleContentPwd");
                 article.put(ARTICLE_CONTENT, content);
+                article.remove(Article.ARTICLE_CONTENT_HTML);
             }
 
             processArticleAbstract(preference, article);
 
             articleQueryService.markdown(article);
-
-            fillCategory(article);
         } catch (final Exception e) {
             LOGGER.log(Level.ERROR, "Sets article extra properties failed", e);
             throw new ServiceException(e);
@@ -826,54 +893,74 @@ public class DataModelService {
      * @param article the specified article
      */
     public void fillCategory(final JSONObject article) {
-        final String tagsStr = article.optString(Article.ARTICLE_TAGS_REF);
-        final String[] tags = tagsStr.split(",");
-        JSONObject category = null;
-        for (final String tagTitle : tags) {
-            final JSONObject c = getCategoryOfTag(tagTitle);
-            if (null != c) {
-                category = c;
-                break;
-            }
-        }
-        article.put(Category.CATEGORY, category);
+        fillCategories(Collections.singletonList(article));
     }
 
     /**
-     * Gets a category for a tag specified by the given tag title.
+     * Fills category for each of the specified articles, the category of an article is the category of its first tag
+     * which is in a category. Tags, category-tag relations and categories of all the articles are fetched in one query
+     * respectively.
      *
-     * @param tagTitle the given tag title
-     * @return category, returns {@code null} if not found
+     * @param articles the specified articles
      */
-    private JSONObject getCategoryOfTag(final String tagTitle) {
+    public void fillCategories(final List<JSONObject> articles) {
+        final Map<String, JSONObject> tagCategories = new HashMap<>(); // 标签标题 -> 分类
         try {
-            final JSONObject tag = tagRepository.getByTitle(tagTitle);
-            if (null == tag) {
-                return null;
+            final Set<String> tagTitles = new HashSet<>();
+            for (final JSONObject article : articles) {
+                for (final String tagTitle : article.optString(Article.ARTICLE_TAGS_REF).split(",")) {
+                    if (StringUtils.isNotBlank(tagTitle)) {
+                        tagTitles.add(tagTitle);
+                    }
+                }
             }
 
-            final String tagId = tag.optString(Keys.OBJECT_ID);
-            final Query query = new Query().setFilter(new PropertyFilter(Tag.TAG + "_" + Keys.OBJECT_ID, FilterOperator.EQUAL, tagId)).
-                    setPage(1, 1).setPageCount(1);
-            final JSONObject tagCategory = categoryTagRepository.getFirst(query);
-            if (null == tagCategory) {
-                return null;
-            }
+            if (!tagTitles.isEmpty()) {
+                final Map<String, String> tagTitleIds = new HashMap<>(); // 标签 id -> 标签标题
+                final List<JSONObject> tags = tagRepository.getList(new Query().
+                        setFilter(new PropertyFilter(Tag.TAG_TITLE, FilterOperator.IN, tagTitles)).setPageCount(1));
+                for (final JSONObject tag : tags) {
+                    tagTitleIds.put(tag.optString(Keys.OBJECT_ID), tag.optString(Tag.TAG_TITLE));
+                }
 
-            final String categoryId = tagCategory.optString(Category.CATEGORY + "_" + Keys.OBJECT_ID);
+                if (!tagTitleIds.isEmpty()) {
+                    final Map<String, String> tagCategoryIds = new HashMap<>(); // 标签标题 -> 分类 id
+                    final List<JSONObject> categoryTags = categoryTagRepository.getList(new Query().
+                            setFilter(new PropertyFilter(Tag.TAG + "_" + Keys.OBJECT_ID, FilterOperator.IN, tagTitleIds.keySet())).setPageCount(1));
+                    for (final JSONObject categoryTag : categoryTags) {
+                        final String tagTitle = tagTitleIds.get(categoryTag.optString(Tag.TAG + "_" + Keys.OBJECT_ID));
+                        tagCategoryIds.putIfAbsent(tagTitle, categoryTag.optString(Category.CATEGORY + "_" + Keys.OBJECT_ID));
+                    }
 
-            return categoryRepository.get(categoryId);
+                    final Map<String, JSONObject> categories = categoryRepository.getByIds(tagCategoryIds.values());
+                    for (final Map.Entry<String, String> tagCategoryId : tagCategoryIds.entrySet()) {
+                        final JSONObject category = categories.get(tagCategoryId.getValue());
+                        if (null != category) {
+                            tagCategories.put(tagCategoryId.getKey(), category);
+                        }
+                    }
+                }
+            }
         } catch (final Exception e) {
-            LOGGER.log(Level.ERROR, "Gets category of tag [" + tagTitle + "] failed", e);
+            LOGGER.log(Level.ERROR, "Gets categories of articles failed", e);
+        }
 
-            return null;
+        for (final JSONObject article : articles) {
+            JSONObject category = null;
+            for (final String tagTitle : article.optString(Article.ARTICLE_TAGS_REF).split(",")) {
+                category = tagCategories.get(tagTitle);
+                if (null != category) {
+                    break;
+                }
+            }
+            article.put(Category.CATEGORY, category);
         }
     }
 
     /**
      * Sets some extra properties into the specified article with the specified preference.
      * <p>
-     * The batch version of method {@linkplain #setArticleExProperties(RequestContext, JSONObject, JSONObject)}.
+     * The batch version of method {@linkplain #setArticleExProperties(RequestContext, JSONObject, JSONObject, JSONObject)}.
      * </p>
      * <p>
      * Article ext properties:
@@ -894,9 +981,23 @@ public class DataModelService {
      */
     public void setArticlesExProperties(final RequestContext context, final List<JSONObject> articles, final JSONObject preference)
             throws ServiceException {
+        // 没有发布时渲染 HTML 的历史文章先批量渲染，减少逐篇调用 Lute 的往返
+        final List<String> markdowns = new ArrayList<>();
+        for (final JSONObject article : articles) {
+            if (StringUtils.isBlank(article.optString(Article.ARTICLE_CONTENT_HTML)) && !Solos.needViewPwd(context, article)) {
+                markdowns.add(article.optString(ARTICLE_CONTENT));
+            }
+            if (StringUtils.isBlank(article.optString(Article.ARTICLE_ABSTRACT_HTML))) {
+                markdowns.add(article.optString(Article.ARTICLE_ABSTRACT));
+            }
+        }
+        Markdowns.toHTMLs(markdowns);
+
+        final Map<String, JSONObject> authors = articleQueryService.getAuthors(articles);
         for (final JSONObject article : articles) {
-            setArticleExProperties(context, article, preference);
+            setArticleExProperties(context, article, authors.get(article.optString(Keys.OBJECT_ID)), preference);
         }
+        fillCategories(articles);
     }
 
     /**
@@ -926,8 +1027,10 @@ public class DataModelService {
         final String articleListStyle = preference.optString(Option.ID_C_ARTICLE_LIST_STYLE);
         if ("titleOnly".equals(articleListStyle)) {
             article.put(Article.ARTICLE_ABSTRACT, "");
+            article.remove(Article.ARTICLE_ABSTRACT_HTML);
         } else if ("titleAndContent".equals(articleListStyle)) {
             article.put(Article.ARTICLE_ABSTRACT, article.optString(Article.ARTICLE_CONTENT));
+            article.put(Article.ARTICLE_ABSTRACT_HTML, article.optString(Article.ARTICLE_CONTENT_HTML));
         }
     }
 
@@ -47,7 +47,7 @@ import java.util.List;
  * Solo initialization service.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 1.5.2.41, May 20, 2020
+ * @version 1.5.2.54, Oct 16, 2026
  * @since 0.4.0
  */
 @Service
@@ -130,6 +130,18 @@ public class InitService {
     @Inject
     private PluginManager pluginManager;
 
+    /**
+     * Search service.
+     */
+    @Inject
+    private SearchService searchService;
+
+    /**
+     * Article index service.
+     */
+    @Inject
+    private ArticleIndexService articleIndexService;
+
     /**
      * Flag of init status.
      */
@@ -197,6 +209,8 @@ public class InitService {
             LOGGER.log(Level.DEBUG, "Creates table result [tableName={}, isSuccess={}]",
                     createTableResult.getName(), createTableResult.isSuccess());
         }
+
+        searchService.createFullTextIndex();
     }
 
     /**
@@ -235,6 +249,7 @@ public class InitService {
         }
 
         pluginManager.load();
+        articleIndexService.buildIndexes();
     }
 
     /**
@@ -286,6 +301,7 @@ public class InitService {
         comment.put(Keys.OBJECT_ID, commentId);
         final String commentSharpURL = Comment.getCommentSharpURLForArticle(article, commentId);
         comment.put(Comment.COMMENT_SHARP_URL, commentSharpURL);
+        Comment.renderHTML(comment);
 
         commentRepository.add(comment);
 
@@ -310,6 +326,7 @@ public class InitService {
             final JSONArray tags = tag(tagTitles, article);
             addTagArticleRelation(tags, article);
             archiveDate(article);
+            Article.renderHTML(article);
             articleRepository.add(article);
         } catch (final RepositoryException e) {
             LOGGER.log(Level.ERROR, "Adds an article failed", e);
@@ -35,7 +35,7 @@ import java.util.Locale;
  * Preference management service.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 1.4.0.8, May 20, 2020
+ * @version 1.4.0.11, Oct 16, 2026
  * @since 0.4.0
  */
 @Service
@@ -64,6 +64,18 @@ public class PreferenceMgmtService {
     @Inject
     private LangPropsService langPropsService;
 
+    /**
+     * Article management service.
+     */
+    @Inject
+    private ArticleMgmtService articleMgmtService;
+
+    /**
+     * Comment management service.
+     */
+    @Inject
+    private CommentMgmtService commentMgmtService;
+
     /**
      * Updates the preference with the specified preference.
      *
@@ -79,6 +91,7 @@ public class PreferenceMgmtService {
             }
         }
 
+        final String oldMarkdownOptions = Markdowns.getOptionsFingerprint();
         final Transaction transaction = optionRepository.beginTransaction();
         try {
             preference.put(Option.ID_C_SIGNS, preference.get(Option.ID_C_SIGNS).toString());
@@ -255,8 +268,12 @@ public class PreferenceMgmtService {
 
             transaction.commit();
 
-            Markdowns.clearCache();
             Statics.clear();
+            if (!oldMarkdownOptions.equals(Markdowns.getOptionsFingerprint())) {
+                // 文章 HTML 在发布时渲染，Markdown 配置变化后需要重新渲染
+                articleMgmtService.renderArticlesHTML();
+                commentMgmtService.renderCommentsHTML();
+            }
         } catch (final Exception e) {
             if (transaction.isActive()) {
                 transaction.rollback();
@@ -0,0 +1,135 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.service;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.b3log.latke.Keys;
+import org.b3log.latke.service.annotation.Service;
+import org.b3log.solo.model.Article;
+import org.b3log.solo.util.RandomSampler;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Random article service. Samples published articles from an in-memory {@link RandomSampler} of their ids, which is
+ * built and kept up to date by {@link ArticleIndexService}.
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.1, Oct 16, 2026
+ * @since 4.2.0
+ */
+@Service
+public class RandomArticleService implements ArticleIndexer {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOGGER = LogManager.getLogger(RandomArticleService.class);
+
+    /**
+     * Ids of the published articles, swapped by the builds.
+     */
+    private static volatile RandomSampler sampler = new RandomSampler();
+
+    /**
+     * Whether the sampler is built.
+     */
+    private static volatile boolean ready;
+
+    /**
+     * Samples the specified count of distinct published article ids uniformly.
+     *
+     * @param fetchSize the specified count
+     * @return article ids in random order, returns {@code null} if the sampler is not built
+     */
+    public List<String> sample(final int fetchSize) {
+        if (!ready) {
+            return null;
+        }
+
+        return sampler.sample(fetchSize);
+    }
+
+    /**
+     * Adds or removes the specified article according to its status.
+     *
+     * @param article the specified article
+     */
+    @Override
+    public void index(final JSONObject article) {
+        final String articleId = article.optString(Keys.OBJECT_ID);
+        if (Article.ARTICLE_STATUS_C_PUBLISHED != article.optInt(Article.ARTICLE_STATUS)) {
+            remove(articleId);
+            return;
+        }
+
+        synchronized (RandomArticleService.class) {
+            sampler.add(articleId);
+        }
+    }
+
+    /**
+     * Removes the article specified by the given id.
+     *
+     * @param articleId the given id
+     */
+    @Override
+    public void remove(final String articleId) {
+        synchronized (RandomArticleService.class) {
+            sampler.remove(articleId);
+        }
+    }
+
+    /**
+     * Starts building a fresh sampler with all published articles.
+     *
+     * @return build
+     */
+    @Override
+    public Build startBuild() {
+        final List<String> ids = new ArrayList<>();
+        final RandomSampler fresh = new RandomSampler();
+
+        return new Build() {
+            @Override
+            public Collection<String> getProperties() {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public void add(final JSONObject article) {
+                ids.add(article.optString(Keys.OBJECT_ID));
+            }
+
+            @Override
+            public void finish() {
+                fresh.reset(ids);
+                ids.clear();
+            }
+
+            @Override
+            public void swap() {
+                synchronized (RandomArticleService.class) {
+                    sampler = fresh;
+                }
+                ready = true;
+                LOGGER.log(Level.DEBUG, "Built random article sampler [articles={}]", fresh.size());
+            }
+        };
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.service;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.b3log.latke.Keys;
+import org.b3log.latke.service.annotation.Service;
+import org.b3log.solo.model.Article;
+import org.b3log.solo.util.RelevantArticleGraph;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Relevant article service. Keeps the relevant articles of the published articles in an in-memory
+ * {@link RelevantArticleGraph}, which is built and kept up to date by {@link ArticleIndexService}.
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.1, Oct 16, 2026
+ * @since 4.2.0
+ */
+@Service
+public class RelevantArticleService implements ArticleIndexer {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOGGER = LogManager.getLogger(RelevantArticleService.class);
+
+    /**
+     * Count of the relevant articles kept for each article.
+     */
+    private static final int K = 16;
+
+    /**
+     * Relevant articles graph, swapped by the builds.
+     */
+    private static volatile RelevantArticleGraph graph = new RelevantArticleGraph(K);
+
+    /**
+     * Whether the graph is built.
+     */
+    private static volatile boolean ready;
+
+    /**
+     * Gets the relevant articles of the published article specified by the given id.
+     *
+     * @param articleId the given id
+     * @param size      the specified max count of relevant articles
+     * @return relevant articles, for example,
+     * <pre>
+     * [{
+     *     "articleTitle": "",
+     *     "articlePermalink": ""
+     * }, ....]
+     * </pre>, returns {@code null} if the graph is not built or the article is not published
+     */
+    public List<JSONObject> getRelevantArticles(final String articleId, final int size) {
+        if (!ready) {
+            return null;
+        }
+
+        return graph.get(articleId, size);
+    }
+
+    /**
+     * Adds, updates or removes the specified article according to its status.
+     *
+     * @param article the specified article
+     */
+    @Override
+    public void index(final JSONObject article) {
+        final String articleId = article.optString(Keys.OBJECT_ID);
+        if (Article.ARTICLE_STATUS_C_PUBLISHED != article.optInt(Article.ARTICLE_STATUS)) {
+            remove(articleId);
+            return;
+        }
+
+        synchronized (RelevantArticleService.class) {
+            graph.put(articleId, article.optString(Article.ARTICLE_TITLE), article.optString(Article.ARTICLE_PERMALINK),
+                    RelevantArticleGraph.splitTags(article.optString(Article.ARTICLE_TAGS_REF)));
+        }
+    }
+
+    /**
+     * Removes the article specified by the given id.
+     *
+     * @param articleId the given id
+     */
+    @Override
+    public void remove(final String articleId) {
+        synchronized (RelevantArticleService.class) {
+            graph.remove(articleId);
+        }
+    }
+
+    /**
+     * Starts building a fresh graph with all published articles.
+     *
+     * @return build
+     */
+    @Override
+    public Build startBuild() {
+        final List<JSONObject> articles = new ArrayList<>();
+        final RelevantArticleGraph fresh = new RelevantArticleGraph(K);
+
+        return new Build() {
+            @Override
+            public Collection<String> getProperties() {
+                return Arrays.asList(Article.ARTICLE_TITLE, Article.ARTICLE_PERMALINK, Article.ARTICLE_TAGS_REF);
+            }
+
+            @Override
+            public void add(final JSONObject article) {
+                articles.add(article);
+            }
+
+            @Override
+            public void finish() {
+                fresh.putAll(articles);
+                articles.clear();
+            }
+
+            @Override
+            public void swap() {
+                synchronized (RelevantArticleService.class) {
+                    graph = fresh;
+                }
+                ready = true;
+                LOGGER.log(Level.INFO, "Built relevant articles graph [articles={}]", fresh.size());
+            }
+        };
+    }
+}
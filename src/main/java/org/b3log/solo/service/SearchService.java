@@ -0,0 +1,350 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.service;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.b3log.latke.Keys;
+import org.b3log.latke.Latkes;
+import org.b3log.latke.ioc.Inject;
+import org.b3log.latke.model.Pagination;
+import org.b3log.latke.repository.jdbc.util.Connections;
+import org.b3log.latke.service.annotation.Service;
+import org.b3log.latke.util.Paginator;
+import org.b3log.solo.model.Article;
+import org.b3log.solo.model.Option;
+import org.b3log.solo.repository.ArticleRepository;
+import org.b3log.solo.util.SearchIndex;
+import org.json.JSONObject;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.*;
+
+/**
+ * Search service. Searches published articles with the backend configured by latke.properties "searchBackend":
+ * <ul>
+ * <li>memory: an in-memory {@link SearchIndex}, which is built and kept up to date by {@link ArticleIndexService},
+ * searches fall back to LIKE before the index built</li>
+ * <li>db: the full-text index of the database (H2 or MySQL), takes no heap, falls back to LIKE on other databases</li>
+ * <li>like: scans with LIKE</li>
+ * </ul>
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.1.0.2, Oct 16, 2026
+ * @since 4.2.0
+ */
+@Service
+public class SearchService implements ArticleIndexer {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOGGER = LogManager.getLogger(SearchService.class);
+
+    /**
+     * In-memory index backend.
+     */
+    public static final String BACKEND_MEMORY = "memory";
+
+    /**
+     * Database full-text index backend.
+     */
+    public static final String BACKEND_DB = "db";
+
+    /**
+     * LIKE scan backend.
+     */
+    public static final String BACKEND_LIKE = "like";
+
+    /**
+     * Search backend, configured by latke.properties "searchBackend", default is {@link #BACKEND_MEMORY}.
+     */
+    public static final String BACKEND;
+
+    static {
+        String backend = Latkes.getLatkeProperty("searchBackend");
+        if (BACKEND_DB.equals(backend) && Latkes.RuntimeDatabase.H2 != Latkes.getRuntimeDatabase()
+                && Latkes.RuntimeDatabase.MYSQL != Latkes.getRuntimeDatabase()) {
+            LOGGER.log(Level.WARN, "Database full-text search is not supported on [" + Latkes.getRuntimeDatabase() + "], uses LIKE instead");
+            backend = BACKEND_LIKE;
+        }
+        BACKEND = BACKEND_DB.equals(backend) || BACKEND_LIKE.equals(backend) ? backend : BACKEND_MEMORY;
+    }
+
+    /**
+     * Max count of the articles matched by the database full-text index.
+     */
+    private static final int DB_MAX_RESULTS = 1000;
+
+    /**
+     * Name of the database full-text index on MySQL.
+     */
+    private static final String MYSQL_INDEX_NAME = "ft_article";
+
+    /**
+     * Search index, swapped by the builds.
+     */
+    private static volatile SearchIndex index = new SearchIndex();
+
+    /**
+     * Whether the index is built.
+     */
+    private static volatile boolean ready;
+
+    /**
+     * Article repository.
+     */
+    @Inject
+    private ArticleRepository articleRepository;
+
+    /**
+     * Article query service.
+     */
+    @Inject
+    private ArticleQueryService articleQueryService;
+
+    /**
+     * Option query service.
+     */
+    @Inject
+    private OptionQueryService optionQueryService;
+
+    /**
+     * Searches published articles with the specified keyword.
+     *
+     * @param keyword        the specified keyword, a blank keyword matches all published articles the same as the LIKE search
+     * @param currentPageNum the specified current page number
+     * @param pageSize       the specified page size
+     * @return result, for example,
+     * <pre>
+     * {
+     *     "pagination": {
+     *         "paginationPageCount": 100,
+     *         "paginationPageNums": [1, 2, 3, 4, 5]
+     *     },
+     *     "articles": [{
+     *         "oId": "",
+     *         "articleTitle": "",
+     *         ....
+     *      }, ....]
+     * }
+     * </pre>
+     */
+    public JSONObject search(final String keyword, final int currentPageNum, final int pageSize) {
+        if (StringUtils.isBlank(keyword)) {
+            // 空关键字和 LIKE '%%' 一样列出所有已发布文章
+            return articleQueryService.searchKeyword(StringUtils.defaultString(keyword), currentPageNum, pageSize);
+        }
+
+        List<String> ids = null;
+        if (BACKEND_MEMORY.equals(BACKEND) && ready) {
+            ids = index.search(keyword);
+        } else if (BACKEND_DB.equals(BACKEND)) {
+            try {
+                ids = articleRepository.searchFullText(keyword.trim(), DB_MAX_RESULTS);
+            } catch (final Exception e) {
+                LOGGER.log(Level.ERROR, "Searches articles by full-text index failed, uses LIKE instead", e);
+            }
+        }
+        if (null == ids) {
+            return articleQueryService.searchKeyword(keyword, currentPageNum, pageSize);
+        }
+
+        final JSONObject ret = new JSONObject();
+        final JSONObject pagination = new JSONObject();
+        ret.put(Pagination.PAGINATION, pagination);
+
+        final int pageCount = (int) Math.ceil(ids.size() / (double) pageSize);
+        final JSONObject preference = optionQueryService.getPreference();
+        final int windowSize = preference.optInt(Option.ID_C_ARTICLE_LIST_PAGINATION_WINDOW_SIZE);
+        final List<Integer> pageNums = Paginator.paginate(currentPageNum, pageSize, pageCount, windowSize);
+        pagination.put(Pagination.PAGINATION_PAGE_COUNT, pageCount);
+        pagination.put(Pagination.PAGINATION_PAGE_NUMS, (Object) pageNums);
+
+        final List<JSONObject> articles = new ArrayList<>();
+        ret.put(Article.ARTICLES, (Object) articles);
+        final int start = (currentPageNum - 1) * pageSize;
+        if (0 > start || ids.size() <= start) {
+            return ret;
+        }
+
+        final List<String> pageIds = ids.subList(start, Math.min(start + pageSize, ids.size()));
+        try {
+            final Map<String, JSONObject> found = articleRepository.getByIds(pageIds);
+            for (final String id : pageIds) {
+                final JSONObject article = found.get(id);
+                if (null != article) {
+                    articles.add(article);
+                }
+            }
+        } catch (final Exception e) {
+            LOGGER.log(Level.ERROR, "Searches articles error", e);
+        }
+
+        return ret;
+    }
+
+    /**
+     * Adds, updates or removes the specified article in the index according to its status.
+     *
+     * @param article the specified article
+     */
+    @Override
+    public void index(final JSONObject article) {
+        if (!BACKEND_MEMORY.equals(BACKEND)) {
+            return;
+        }
+
+        final String articleId = article.optString(Keys.OBJECT_ID);
+        if (Article.ARTICLE_STATUS_C_PUBLISHED != article.optInt(Article.ARTICLE_STATUS)) {
+            remove(articleId);
+            return;
+        }
+
+        put(index, article);
+    }
+
+    /**
+     * Removes the article specified by the given id from the index.
+     *
+     * @param articleId the given id
+     */
+    @Override
+    public void remove(final String articleId) {
+        if (!BACKEND_MEMORY.equals(BACKEND)) {
+            return;
+        }
+
+        index.remove(articleId);
+    }
+
+    /**
+     * Starts building a fresh index. Creates the database full-text index instead if the search backend is
+     * {@link #BACKEND_DB}.
+     *
+     * @return build, returns {@code null} if the search backend is not {@link #BACKEND_MEMORY}
+     */
+    @Override
+    public Build startBuild() {
+        if (BACKEND_DB.equals(BACKEND)) {
+            createFullTextIndex();
+        }
+        if (!BACKEND_MEMORY.equals(BACKEND)) {
+            return null;
+        }
+
+        final SearchIndex fresh = new SearchIndex();
+
+        return new Build() {
+            @Override
+            public Collection<String> getProperties() {
+                return Arrays.asList(Article.ARTICLE_TITLE, Article.ARTICLE_TAGS_REF, Article.ARTICLE_CONTENT, Article.ARTICLE_UPDATED);
+            }
+
+            @Override
+            public void add(final JSONObject article) {
+                put(fresh, article);
+            }
+
+            @Override
+            public void swap() {
+                index = fresh;
+                ready = true;
+                LOGGER.log(Level.INFO, "Built search index [articles={}]", fresh.size());
+            }
+        };
+    }
+
+    /**
+     * Creates the database full-text index of articles if the search backend is {@link #BACKEND_DB} and the index
+     * does not exist. H2 uses its built-in full-text search, MySQL uses a FULLTEXT index with the ngram parser, both
+     * are kept up to date by the database.
+     */
+    public void createFullTextIndex() {
+        if (!BACKEND_DB.equals(BACKEND)) {
+            return;
+        }
+
+        try (final Connection connection = Connections.getConnection();
+             final Statement statement = connection.createStatement()) {
+            final String table = articleRepository.getName();
+            if (Latkes.RuntimeDatabase.H2 == Latkes.getRuntimeDatabase()) {
+                statement.execute("CREATE ALIAS IF NOT EXISTS FT_INIT FOR \"org.h2.fulltext.FullText.init\"");
+                statement.execute("CALL FT_INIT()");
+                // H2 全文索引按元数据中的原始大小写匹配表名和列名
+                final String h2Table = getH2Name(connection, table, null);
+                try (final ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM FT.INDEXES WHERE `TABLE` = '" + h2Table + "'")) {
+                    if (resultSet.next() && 0 < resultSet.getInt(1)) {
+                        return;
+                    }
+                }
+
+                final String columns = getH2Name(connection, table, Article.ARTICLE_TITLE) + ","
+                        + getH2Name(connection, table, Article.ARTICLE_TAGS_REF) + ","
+                        + getH2Name(connection, table, Article.ARTICLE_CONTENT);
+                statement.execute("CALL FT_CREATE_INDEX('PUBLIC', '" + h2Table + "', '" + columns + "')");
+            } else {
+                try (final ResultSet resultSet = statement.executeQuery("SHOW INDEX FROM `" + table + "` WHERE Key_name = '" + MYSQL_INDEX_NAME + "'")) {
+                    if (resultSet.next()) {
+                        return;
+                    }
+                }
+
+                statement.executeUpdate("ALTER TABLE `" + table + "` ADD FULLTEXT INDEX " + MYSQL_INDEX_NAME + " (`"
+                        + Article.ARTICLE_TITLE + "`, `" + Article.ARTICLE_TAGS_REF + "`, `" + Article.ARTICLE_CONTENT + "`) WITH PARSER ngram");
+            }
+            connection.commit();
+
+            LOGGER.log(Level.INFO, "Created full-text index of articles on [" + Latkes.getRuntimeDatabase() + "]");
+        } catch (final Exception e) {
+            LOGGER.log(Level.ERROR, "Creates full-text index of articles failed", e);
+        }
+    }
+
+    private static void put(final SearchIndex searchIndex, final JSONObject article) {
+        searchIndex.put(article.optString(Keys.OBJECT_ID), article.optString(Article.ARTICLE_TITLE), article.optString(Article.ARTICLE_TAGS_REF),
+                article.optString(Article.ARTICLE_CONTENT), article.optLong(Article.ARTICLE_UPDATED));
+    }
+
+    private static String getH2Name(final Connection connection, final String table, final String column) throws SQLException {
+        final DatabaseMetaData metaData = connection.getMetaData();
+        if (null == column) {
+            try (final ResultSet resultSet = metaData.getTables(null, "PUBLIC", null, null)) {
+                while (resultSet.next()) {
+                    final String name = resultSet.getString("TABLE_NAME");
+                    if (name.equalsIgnoreCase(table)) {
+                        return name;
+                    }
+                }
+            }
+
+            return table.toUpperCase();
+        }
+
+        try (final ResultSet resultSet = metaData.getColumns(null, "PUBLIC", getH2Name(connection, table, null), null)) {
+            while (resultSet.next()) {
+                final String name = resultSet.getString("COLUMN_NAME");
+                if (name.equalsIgnoreCase(column)) {
+                    return name;
+                }
+            }
+        }
+
+        return column.toUpperCase();
+    }
+}
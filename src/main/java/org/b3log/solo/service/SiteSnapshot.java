@@ -0,0 +1,92 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Site snapshot, the site-wide data shared by every page (users, admin, navigations, statistic, most used tags,
+ * archive dates, most used categories and custom template variables). It is built by {@link DataModelService} and
+ * replaced as a whole once any of its inputs changed, renderers must treat it as read-only.
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.0, Oct 16, 2026
+ * @since 4.2.0
+ */
+public final class SiteSnapshot {
+
+    /**
+     * Page cache generation this snapshot built with.
+     */
+    private final long generation;
+
+    /**
+     * Header data model.
+     */
+    private final Map<String, Object> header;
+
+    /**
+     * Custom template variables.
+     */
+    private final Map<String, String> customVars;
+
+    /**
+     * Constructs a site snapshot with the specified generation, header data model and custom template variables.
+     *
+     * @param generation the specified generation
+     * @param header     the specified header data model
+     * @param customVars the specified custom template variables
+     */
+    SiteSnapshot(final long generation, final Map<String, Object> header, final Map<String, String> customVars) {
+        this.generation = generation;
+        final Map<String, Object> headerCopy = new HashMap<>();
+        for (final Map.Entry<String, Object> entry : header.entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof List) {
+                value = Collections.unmodifiableList((List<?>) value);
+            }
+            headerCopy.put(entry.getKey(), value);
+        }
+        this.header = Collections.unmodifiableMap(headerCopy);
+        this.customVars = Collections.unmodifiableMap(new HashMap<>(customVars));
+    }
+
+    /**
+     * Gets the page cache generation this snapshot built with.
+     *
+     * @return generation
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Gets the header data model.
+     *
+     * @return header data model
+     */
+    public Map<String, Object> getHeader() {
+        return header;
+    }
+
+    /**
+     * Gets the custom template variables.
+     *
+     * @return custom template variables
+     */
+    public Map<String, String> getCustomVars() {
+        return customVars;
+    }
+}
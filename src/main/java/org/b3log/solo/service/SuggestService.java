@@ -0,0 +1,414 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.service;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.b3log.latke.Keys;
+import org.b3log.latke.Latkes;
+import org.b3log.latke.ioc.Inject;
+import org.b3log.latke.repository.Query;
+import org.b3log.latke.service.annotation.Service;
+import org.b3log.latke.util.URLs;
+import org.b3log.solo.model.Article;
+import org.b3log.solo.model.Category;
+import org.b3log.solo.model.Tag;
+import org.b3log.solo.repository.CategoryRepository;
+import org.b3log.solo.repository.CategoryTagRepository;
+import org.b3log.solo.repository.TagRepository;
+import org.b3log.solo.util.SuggestIndex;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.*;
+
+/**
+ * Search suggestion service. Suggests published article titles, tag titles and category titles with an in-memory
+ * {@link SuggestIndex}, which is built by {@link ArticleIndexService} and updated on article and category writes.
+ * <p>
+ * Articles are ranked by view count, tags by published article count and categories by the sum of the published
+ * article counts of their tags. The tag counts are kept in memory from the tags of the published articles, so
+ * suggesting never touches the database.
+ * </p>
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.1, Oct 16, 2026
+ * @since 4.2.0
+ */
+@Service
+public class SuggestService implements ArticleIndexer {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOGGER = LogManager.getLogger(SuggestService.class);
+
+    /**
+     * Max count of suggestions.
+     */
+    private static final int SIZE = 10;
+
+    /**
+     * Ids of the categories written while building, guarded by the class lock.
+     */
+    private static final Set<String> CATEGORIES_WRITTEN_WHILE_BUILDING = new HashSet<>();
+
+    /**
+     * Index state, swapped by the builds, written under the class lock.
+     */
+    private static volatile State state = new State();
+
+    /**
+     * Whether the index is being built, guarded by the class lock.
+     */
+    private static boolean building;
+
+    /**
+     * Category repository.
+     */
+    @Inject
+    private CategoryRepository categoryRepository;
+
+    /**
+     * Category-Tag repository.
+     */
+    @Inject
+    private CategoryTagRepository categoryTagRepository;
+
+    /**
+     * Tag repository.
+     */
+    @Inject
+    private TagRepository tagRepository;
+
+    /**
+     * Suggests with the specified query.
+     *
+     * @param query the specified query
+     * @return suggestions, for example,
+     * <pre>
+     * [{
+     *     "oId": "",
+     *     "type": "", // "article"/"tag"/"category"
+     *     "title": "",
+     *     "url": ""
+     * }, ....]
+     * </pre>
+     */
+    public List<JSONObject> suggest(final String query) {
+        return state.index.suggest(query, SIZE);
+    }
+
+    /**
+     * Gets the stats of the index.
+     *
+     * @return stats, for example,
+     * <pre>
+     * {
+     *     "entries": int,
+     *     "keys": int,
+     *     "bytes": long // estimated memory footprint
+     * }
+     * </pre>
+     */
+    public static JSONObject getStats() {
+        final SuggestIndex index = state.index;
+
+        return new JSONObject().
+                put("entries", index.size()).
+                put("keys", index.keyCount()).
+                put("bytes", index.memoryBytes());
+    }
+
+    /**
+     * Adds, updates or removes the specified article according to its status.
+     *
+     * @param article the specified article
+     */
+    @Override
+    public void index(final JSONObject article) {
+        final String articleId = article.optString(Keys.OBJECT_ID);
+        if (Article.ARTICLE_STATUS_C_PUBLISHED != article.optInt(Article.ARTICLE_STATUS)) {
+            remove(articleId);
+            return;
+        }
+
+        synchronized (SuggestService.class) {
+            state.putArticle(article);
+        }
+    }
+
+    /**
+     * Removes the article specified by the given id.
+     *
+     * @param articleId the given id
+     */
+    @Override
+    public void remove(final String articleId) {
+        synchronized (SuggestService.class) {
+            state.removeArticle(articleId);
+        }
+    }
+
+    /**
+     * Adds or updates the category specified by the given id, removes it if not found.
+     *
+     * @param categoryId the given id
+     */
+    public void indexCategory(final String categoryId) {
+        try {
+            final JSONObject entry = getCategory(categoryId);
+            if (null == entry) {
+                removeCategory(categoryId);
+                return;
+            }
+
+            synchronized (SuggestService.class) {
+                if (building) {
+                    CATEGORIES_WRITTEN_WHILE_BUILDING.add(categoryId);
+                }
+                state.putCategory(categoryId, entry);
+            }
+        } catch (final Exception e) {
+            LOGGER.log(Level.ERROR, "Indexes category [id=" + categoryId + "] for suggestion failed", e);
+        }
+    }
+
+    /**
+     * Removes the category specified by the given id.
+     *
+     * @param categoryId the given id
+     */
+    public void removeCategory(final String categoryId) {
+        synchronized (SuggestService.class) {
+            if (building) {
+                CATEGORIES_WRITTEN_WHILE_BUILDING.add(categoryId);
+            }
+            state.removeCategory(categoryId);
+        }
+    }
+
+    /**
+     * Starts building a fresh index with all published articles and categories.
+     *
+     * @return build
+     */
+    @Override
+    public Build startBuild() {
+        synchronized (SuggestService.class) {
+            building = true;
+            CATEGORIES_WRITTEN_WHILE_BUILDING.clear();
+        }
+        final State fresh = new State();
+
+        return new Build() {
+            @Override
+            public Collection<String> getProperties() {
+                return Arrays.asList(Article.ARTICLE_TITLE, Article.ARTICLE_TAGS_REF, Article.ARTICLE_PERMALINK, Article.ARTICLE_VIEW_COUNT);
+            }
+
+            @Override
+            public void add(final JSONObject article) {
+                fresh.putArticle(article);
+            }
+
+            @Override
+            public void finish() {
+                try {
+                    for (final JSONObject category : categoryRepository.getList(new Query().select(Keys.OBJECT_ID))) {
+                        final String categoryId = category.optString(Keys.OBJECT_ID);
+                        final JSONObject entry = getCategory(categoryId);
+                        if (null != entry) {
+                            fresh.putCategory(categoryId, entry);
+                        }
+                    }
+                } catch (final Exception e) {
+                    LOGGER.log(Level.ERROR, "Loads categories for suggestion failed", e);
+                }
+            }
+
+            @Override
+            public void swap() {
+                final List<String> categoryIds;
+                synchronized (SuggestService.class) {
+                    state = fresh;
+                    building = false;
+                    categoryIds = new ArrayList<>(CATEGORIES_WRITTEN_WHILE_BUILDING);
+                    CATEGORIES_WRITTEN_WHILE_BUILDING.clear();
+                }
+                // 构建期间修改过的分类重新读取
+                categoryIds.forEach(SuggestService.this::indexCategory);
+                LOGGER.log(Level.INFO, "Built suggest index {}", getStats());
+            }
+        };
+    }
+
+    /**
+     * Gets the suggestion entry of the category specified by the given id.
+     *
+     * @param categoryId the given id
+     * @return category with its tag titles, returns {@code null} if not found
+     * @throws Exception exception
+     */
+    private JSONObject getCategory(final String categoryId) throws Exception {
+        final JSONObject category = categoryRepository.get(categoryId);
+        if (null == category) {
+            return null;
+        }
+
+        final JSONArray categoryTags = categoryTagRepository.getByCategoryId(categoryId, 1, Integer.MAX_VALUE).optJSONArray(Keys.RESULTS);
+        final List<String> tagIds = new ArrayList<>();
+        for (int i = 0; i < categoryTags.length(); i++) {
+            tagIds.add(categoryTags.optJSONObject(i).optString(Tag.TAG + "_" + Keys.OBJECT_ID));
+        }
+        final Set<String> tags = new HashSet<>();
+        for (final JSONObject tag : tagRepository.getByIds(tagIds).values()) {
+            tags.add(tag.optString(Tag.TAG_TITLE));
+        }
+
+        return new JSONObject().
+                put(Category.CATEGORY_TITLE, category.optString(Category.CATEGORY_TITLE)).
+                put(Category.CATEGORY_URI, category.optString(Category.CATEGORY_URI)).
+                put(Category.CATEGORY_T_TAGS, (Object) tags);
+    }
+
+    /**
+     * Index state, the index and the tag counts and categories its entries are derived from.
+     */
+    private static final class State {
+
+        /**
+         * Suggest index.
+         */
+        private final SuggestIndex index = new SuggestIndex();
+
+        /**
+         * Tag titles of the published articles, article id to tag titles.
+         */
+        private final Map<String, List<String>> articleTags = new HashMap<>();
+
+        /**
+         * Published article counts of tags, tag title to count.
+         */
+        private final Map<String, Integer> tagCounts = new HashMap<>();
+
+        /**
+         * Categories, category id to category with its tag titles.
+         */
+        private final Map<String, JSONObject> categories = new HashMap<>();
+
+        /**
+         * Adds or updates the specified published article.
+         *
+         * @param article the specified published article
+         */
+        private void putArticle(final JSONObject article) {
+            final String articleId = article.optString(Keys.OBJECT_ID);
+            final List<String> tags = new ArrayList<>();
+            for (final String tag : article.optString(Article.ARTICLE_TAGS_REF).split(",")) {
+                if (StringUtils.isNotBlank(tag) && !tags.contains(tag.trim())) {
+                    tags.add(tag.trim());
+                }
+            }
+
+            index.put(Article.ARTICLE + ":" + articleId, Article.ARTICLE, article.optString(Article.ARTICLE_TITLE),
+                    Latkes.getServePath() + article.optString(Article.ARTICLE_PERMALINK), article.optLong(Article.ARTICLE_VIEW_COUNT));
+            updateTags(articleTags.put(articleId, tags), tags);
+        }
+
+        /**
+         * Removes the article specified by the given id.
+         *
+         * @param articleId the given id
+         */
+        private void removeArticle(final String articleId) {
+            index.remove(Article.ARTICLE + ":" + articleId);
+            updateTags(articleTags.remove(articleId), null);
+        }
+
+        /**
+         * Adds or updates the specified category.
+         *
+         * @param categoryId the specified category id
+         * @param category   the specified category with its tag titles
+         */
+        private void putCategory(final String categoryId, final JSONObject category) {
+            categories.put(categoryId, category);
+            putCategoryEntry(categoryId, category);
+        }
+
+        /**
+         * Removes the category specified by the given id.
+         *
+         * @param categoryId the given id
+         */
+        private void removeCategory(final String categoryId) {
+            categories.remove(categoryId);
+            index.remove(Category.CATEGORY + ":" + categoryId);
+        }
+
+        /**
+         * Updates the counts of the specified old tags and new tags of an article, and the entries of the tags and
+         * their categories.
+         *
+         * @param oldTags the specified old tags, may be {@code null}
+         * @param newTags the specified new tags, may be {@code null}
+         */
+        private void updateTags(final List<String> oldTags, final List<String> newTags) {
+            final Set<String> changed = new HashSet<>();
+            if (null != oldTags) {
+                for (final String tag : oldTags) {
+                    tagCounts.merge(tag, -1, (c1, c2) -> 0 == c1 + c2 ? null : c1 + c2);
+                    changed.add(tag);
+                }
+            }
+            if (null != newTags) {
+                for (final String tag : newTags) {
+                    tagCounts.merge(tag, 1, Integer::sum);
+                    if (!changed.remove(tag)) {
+                        changed.add(tag);
+                    }
+                }
+            }
+            if (changed.isEmpty()) {
+                return;
+            }
+
+            for (final String tag : changed) {
+                final Integer count = tagCounts.get(tag);
+                if (null == count) {
+                    index.remove(Tag.TAG + ":" + tag);
+                } else {
+                    index.put(Tag.TAG + ":" + tag, Tag.TAG, tag, Latkes.getServePath() + "/tags/" + URLs.encode(tag), count);
+                }
+            }
+            for (final Map.Entry<String, JSONObject> category : categories.entrySet()) {
+                final Set<String> tags = (Set<String>) category.getValue().opt(Category.CATEGORY_T_TAGS);
+                if (!Collections.disjoint(tags, changed)) {
+                    putCategoryEntry(category.getKey(), category.getValue());
+                }
+            }
+        }
+
+        private void putCategoryEntry(final String categoryId, final JSONObject category) {
+            long count = 0;
+            for (final String tag : (Set<String>) category.opt(Category.CATEGORY_T_TAGS)) {
+                count += tagCounts.getOrDefault(tag, 0);
+            }
+
+            index.put(Category.CATEGORY + ":" + categoryId, Category.CATEGORY, category.optString(Category.CATEGORY_TITLE),
+                    Latkes.getServePath() + "/category/" + URLs.encode(category.optString(Category.CATEGORY_URI)), count);
+        }
+    }
+}
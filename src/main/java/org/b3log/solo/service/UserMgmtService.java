@@ -34,6 +34,7 @@ import org.b3log.solo.model.Option;
 import org.b3log.solo.model.UserExt;
 import org.b3log.solo.repository.UserRepository;
 import org.b3log.solo.util.Solos;
+import org.b3log.solo.util.Statics;
 import org.json.JSONObject;
 
 /**
@@ -42,7 +43,7 @@ import org.json.JSONObject;
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
  * @author <a href="https://hacpai.com/member/DASHU">DASHU</a>
  * @author <a href="https://hacpai.com/member/nanolikeyou">nanolikeyou</a>
- * @version 1.1.0.20, Mar 17, 2020
+ * @version 1.1.0.21, Oct 16, 2026
  * @since 0.4.0
  */
 @Service
@@ -201,6 +202,8 @@ public class UserMgmtService {
 
             userRepository.update(oldUserId, oldUser);
             transaction.commit();
+
+            Statics.clear();
         } catch (final RepositoryException e) {
             if (transaction.isActive()) {
                 transaction.rollback();
@@ -239,6 +242,8 @@ public class UserMgmtService {
             userRepository.update(userId, oldUser, User.USER_ROLE);
 
             transaction.commit();
+
+            Statics.clear();
         } catch (final RepositoryException e) {
             if (transaction.isActive()) {
                 transaction.rollback();
@@ -306,6 +311,8 @@ public class UserMgmtService {
             userRepository.add(user);
             transaction.commit();
 
+            Statics.clear();
+
             return user.optString(Keys.OBJECT_ID);
         } catch (final RepositoryException e) {
             if (transaction.isActive()) {
@@ -329,6 +336,8 @@ public class UserMgmtService {
             userRepository.remove(userId);
 
             transaction.commit();
+
+            Statics.clear();
         } catch (final RepositoryException e) {
             if (transaction.isActive()) {
                 transaction.rollback();
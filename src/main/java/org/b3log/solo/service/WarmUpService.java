@@ -0,0 +1,242 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.service;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.b3log.latke.Keys;
+import org.b3log.latke.Latkes;
+import org.b3log.latke.ioc.Inject;
+import org.b3log.latke.repository.FilterOperator;
+import org.b3log.latke.repository.PropertyFilter;
+import org.b3log.latke.repository.Query;
+import org.b3log.latke.repository.SortDirection;
+import org.b3log.latke.repository.jdbc.JdbcRepository;
+import org.b3log.latke.service.annotation.Service;
+import org.b3log.latke.util.Stopwatchs;
+import org.b3log.latke.util.Strings;
+import org.b3log.latke.util.URLs;
+import org.b3log.solo.model.Article;
+import org.b3log.solo.model.Category;
+import org.b3log.solo.model.Tag;
+import org.b3log.solo.repository.ArticleRepository;
+import org.b3log.solo.repository.CategoryRepository;
+import org.b3log.solo.repository.TagArticleRepository;
+import org.b3log.solo.util.Mocks;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.*;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache warm-up service. Pre-renders index pages, the newest articles, feeds, sitemap, the most used tags and the top
+ * categories through the dispatcher after startup and after the page cache cleared or the index or site-wide pages
+ * evicted.
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.1, Oct 16, 2026
+ * @since 4.2.0
+ */
+@Service
+public class WarmUpService {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOGGER = LogManager.getLogger(WarmUpService.class);
+
+    /**
+     * Delay before warming up, merges a burst of cache evictions and leaves time for the triggering transaction.
+     */
+    private static final long DELAY = 3000;
+
+    /**
+     * Min pause between two pre-renders.
+     */
+    private static final long PAUSE = 100;
+
+    /**
+     * User-Agent of the mocked requests, pre-renders desktop pages.
+     */
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/86.0.4240.75 Safari/537.36";
+
+    /**
+     * Warm-up executor, a single low priority daemon thread.
+     */
+    private static final ScheduledThreadPoolExecutor EXECUTOR = new ScheduledThreadPoolExecutor(1, runnable -> {
+        final Thread ret = new Thread(runnable, "WarmUp");
+        ret.setDaemon(true);
+        ret.setPriority(Thread.MIN_PRIORITY);
+
+        return ret;
+    });
+
+    static {
+        EXECUTOR.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Warm-up generation, a running warm-up stops once a newer one is requested.
+     */
+    private static final AtomicLong GENERATION = new AtomicLong();
+
+    /**
+     * Scheduled warm-up.
+     */
+    private static ScheduledFuture<?> scheduled;
+
+    /**
+     * Article repository.
+     */
+    @Inject
+    private ArticleRepository articleRepository;
+
+    /**
+     * Tag-Article repository.
+     */
+    @Inject
+    private TagArticleRepository tagArticleRepository;
+
+    /**
+     * Category repository.
+     */
+    @Inject
+    private CategoryRepository categoryRepository;
+
+    /**
+     * Initialization service.
+     */
+    @Inject
+    private InitService initService;
+
+    /**
+     * Schedules a warm-up, replaces the pending or running one.
+     */
+    public void warmUp() {
+        final long generation = GENERATION.incrementAndGet();
+        synchronized (EXECUTOR) {
+            if (null != scheduled) {
+                scheduled.cancel(false);
+            }
+            scheduled = EXECUTOR.schedule(() -> warmUp(generation), DELAY, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void warmUp(final long generation) {
+        try {
+            if (!initService.isInited()) {
+                return;
+            }
+
+            final List<String> uris = getURIs();
+            JdbcRepository.dispose();
+            LOGGER.log(Level.INFO, "Warming up [{}] pages", uris.size());
+            final long start = System.currentTimeMillis();
+            final Map<String, String> headers = new HashMap<>();
+            headers.put("User-Agent", USER_AGENT);
+            int warmed = 0;
+            for (final String uri : uris) {
+                if (generation != GENERATION.get()) {
+                    LOGGER.log(Level.INFO, "Warm-up interrupted by a newer one [{}/{}]", warmed, uris.size());
+                    return;
+                }
+
+                final long renderStart = System.currentTimeMillis();
+                try {
+                    Mocks.mockRequest(uri, headers);
+                } catch (final Exception e) {
+                    LOGGER.log(Level.WARN, "Warms up [uri=" + uri + "] failed", e);
+                } finally {
+                    Stopwatchs.release();
+                }
+                warmed++;
+                if (0 == warmed % 10) {
+                    LOGGER.log(Level.INFO, "Warmed up [{}/{}]", warmed, uris.size());
+                }
+
+                // 让出时间给真实请求，至少空闲和渲染同样长的时间
+                Thread.sleep(Math.max(PAUSE, System.currentTimeMillis() - renderStart));
+            }
+            LOGGER.log(Level.INFO, "Warmed up [{}] pages in [{}]ms", warmed, System.currentTimeMillis() - start);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final Exception e) {
+            LOGGER.log(Level.ERROR, "Warms up failed", e);
+        }
+    }
+
+    /**
+     * Gets URIs to warm up, configured by latke.properties "warmUpIndexPageCnt" (default 3), "warmUpArticleCnt"
+     * (default 20), "warmUpTagCnt" (default 10) and "warmUpCategoryCnt" (default 10).
+     *
+     * @return URIs
+     * @throws Exception exception
+     */
+    private List<String> getURIs() throws Exception {
+        final List<String> ret = new ArrayList<>();
+
+        final int indexPageCnt = getCount("warmUpIndexPageCnt", 3);
+        for (int i = 1; i <= indexPageCnt; i++) {
+            ret.add(1 == i ? "/" : "/?p=" + i);
+        }
+
+        final int articleCnt = getCount("warmUpArticleCnt", 20);
+        if (0 < articleCnt) {
+            final Query query = new Query().setPage(1, articleCnt).setPageCount(1).
+                    setFilter(new PropertyFilter(Article.ARTICLE_STATUS, FilterOperator.EQUAL, Article.ARTICLE_STATUS_C_PUBLISHED)).
+                    addSort(Article.ARTICLE_CREATED, SortDirection.DESCENDING).
+                    select(Article.ARTICLE_PERMALINK);
+            final JSONArray articles = articleRepository.get(query).getJSONArray(Keys.RESULTS);
+            for (int i = 0; i < articles.length(); i++) {
+                ret.add(articles.getJSONObject(i).getString(Article.ARTICLE_PERMALINK));
+            }
+        }
+
+        ret.add("/atom.xml");
+        ret.add("/rss.xml");
+        ret.add("/sitemap.xml");
+
+        final int tagCnt = getCount("warmUpTagCnt", 10);
+        if (0 < tagCnt) {
+            for (final JSONObject tag : tagArticleRepository.getMostUsedTags(tagCnt)) {
+                if (null != tag) {
+                    ret.add("/tags/" + URLs.encode(tag.getString(Tag.TAG_TITLE)));
+                }
+            }
+        }
+
+        final int categoryCnt = getCount("warmUpCategoryCnt", 10);
+        if (0 < categoryCnt) {
+            final Query query = new Query().setPage(1, categoryCnt).setPageCount(1).
+                    addSort(Category.CATEGORY_ORDER, SortDirection.ASCENDING);
+            for (final JSONObject category : categoryRepository.getList(query)) {
+                ret.add("/category/" + category.getString(Category.CATEGORY_URI));
+            }
+        }
+
+        return ret;
+    }
+
+    private static int getCount(final String name, final int defaultValue) {
+        final String value = Latkes.getLatkeProperty(name);
+        if (!Strings.isNumeric(value)) {
+            return defaultValue;
+        }
+
+        return Integer.parseInt(value);
+    }
+}
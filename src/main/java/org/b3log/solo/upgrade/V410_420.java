@@ -15,17 +15,25 @@ import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.b3log.latke.Keys;
+import org.b3log.latke.Latkes;
 import org.b3log.latke.ioc.BeanManager;
 import org.b3log.latke.repository.Transaction;
+import org.b3log.latke.repository.jdbc.util.Connections;
 import org.b3log.solo.model.Option;
 import org.b3log.solo.repository.OptionRepository;
+import org.b3log.solo.service.ArticleMgmtService;
+import org.b3log.solo.service.CommentMgmtService;
+import org.b3log.solo.service.SearchService;
 import org.json.JSONObject;
 
+import java.sql.Connection;
+import java.sql.Statement;
+
 /**
  * Upgrade script from v4.1.0 to v4.2.0.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 1.0.0.0, May 21, 2020
+ * @version 1.0.0.5, Oct 16, 2026
  * @since 4.2.0
  */
 public final class V410_420 {
@@ -50,6 +58,22 @@ public final class V410_420 {
         final OptionRepository optionRepository = beanManager.getReference(OptionRepository.class);
 
         try {
+            final Connection connection = Connections.getConnection();
+            final Statement statement = connection.createStatement();
+
+            // 文章表新增发布时渲染的 HTML 字段，历史文章在升级后由后台任务补齐
+            final String tablePrefix = Latkes.getLocalProperty("jdbc.tablePrefix") + "_";
+            statement.executeUpdate("ALTER TABLE `" + tablePrefix + "article` ADD COLUMN `articleContentHTML` MEDIUMTEXT");
+            statement.executeUpdate("ALTER TABLE `" + tablePrefix + "article` ADD COLUMN `articleAbstractHTML` MEDIUMTEXT");
+            statement.executeUpdate("ALTER TABLE `" + tablePrefix + "article` ADD COLUMN `articleMetaDescription` TEXT");
+            statement.executeUpdate("ALTER TABLE `" + tablePrefix + "article` ADD COLUMN `articleContentToC` TEXT");
+            // 评论表新增发布时渲染的 HTML 字段，历史评论在升级后由后台任务补齐
+            statement.executeUpdate("ALTER TABLE `" + tablePrefix + "comment` ADD COLUMN `commentContentHTML` TEXT");
+            statement.executeUpdate("ALTER TABLE `" + tablePrefix + "comment` ADD COLUMN `commentNameHTML` VARCHAR(255) DEFAULT '' NOT NULL");
+            statement.close();
+            connection.commit();
+            connection.close();
+
             final Transaction transaction = optionRepository.beginTransaction();
 
             JSONObject githubPATOpt = optionRepository.get(Option.ID_C_GITHUB_PAT);
@@ -68,6 +92,11 @@ public final class V410_420 {
             transaction.commit();
 
             LOGGER.log(Level.INFO, "Upgraded from version [" + fromVer + "] to version [" + toVer + "] successfully");
+
+            beanManager.getReference(ArticleMgmtService.class).renderArticlesHTML();
+            beanManager.getReference(CommentMgmtService.class).renderCommentsHTML();
+            // 配置了数据库全文搜索时创建全文索引
+            beanManager.getReference(SearchService.class).createFullTextIndex();
         } catch (final Exception e) {
             LOGGER.log(Level.ERROR, "Upgrade failed!", e);
 
@@ -0,0 +1,153 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.util;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang.StringUtils;
+import org.b3log.latke.http.RequestContext;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Conditional GET utilities, sets validators (ETag / Last-Modified) and answers 304 Not Modified.
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.0, Oct 16, 2026
+ * @since 4.2.0
+ */
+public final class Conditionals {
+
+    /**
+     * Prefix of the trailing Latke generation info line, which differs on every render.
+     */
+    private static final String LATKE_INFO_PREFIX = "\n<!-- Generated by Latke";
+
+    /**
+     * Calculates a weak ETag of the specified HTML, the trailing Latke generation info line is excluded.
+     *
+     * @param html the specified HTML
+     * @return ETag, for example W/"d41d8cd98f00b204e9800998ecf8427e"
+     */
+    public static String etag(final String html) {
+        String content = html;
+        final int idx = StringUtils.lastIndexOf(content, LATKE_INFO_PREFIX);
+        if (-1 < idx) {
+            content = content.substring(0, idx);
+        }
+
+        return "W/\"" + DigestUtils.md5Hex(content) + "\"";
+    }
+
+    /**
+     * Calculates a weak ETag of the specified last modified time.
+     *
+     * @param lastModified the specified last modified time
+     * @return ETag, for example W/"1757bd2b7e8"
+     */
+    public static String etag(final long lastModified) {
+        return "W/\"" + Long.toHexString(lastModified) + "\"";
+    }
+
+    /**
+     * Sets the specified validators into the response of the specified context and checks whether the client's copy
+     * is still fresh. If-None-Match takes precedence over If-Modified-Since.
+     *
+     * @param context      the specified context
+     * @param etag         the specified ETag, {@code null} if absent
+     * @param lastModified the specified last modified time, {@code 0} if absent
+     * @return {@code true} if not modified, returns {@code false} otherwise
+     */
+    public static boolean isNotModified(final RequestContext context, final String etag, final long lastModified) {
+        if (StringUtils.isNotBlank(etag)) {
+            context.setHeader("ETag", etag);
+        }
+        if (0 < lastModified) {
+            context.setHeader("Last-Modified", formatDate(lastModified));
+        }
+
+        if (!StringUtils.equalsIgnoreCase("get", context.method()) && !StringUtils.equalsIgnoreCase("head", context.method())) {
+            return false;
+        }
+
+        final String ifNoneMatch = context.header("If-None-Match");
+        if (StringUtils.isNotBlank(ifNoneMatch)) {
+            return matches(ifNoneMatch, etag);
+        }
+
+        final String ifModifiedSince = context.header("If-Modified-Since");
+        if (StringUtils.isBlank(ifModifiedSince) || 0 >= lastModified) {
+            return false;
+        }
+
+        final long since = parseDate(ifModifiedSince);
+        // HTTP 日期精确到秒
+        return 0 < since && lastModified / 1000 <= since / 1000;
+    }
+
+    /**
+     * Sends 304 Not Modified without body.
+     *
+     * @param context the specified context
+     */
+    public static void sendNotModified(final RequestContext context) {
+        context.setStatus(304);
+        context.getResponse().sendBytes(new byte[0]);
+        context.abort();
+    }
+
+    /**
+     * Checks whether the specified If-None-Match header matches the specified ETag with the weak comparison.
+     *
+     * @param ifNoneMatch the specified If-None-Match header, for example W/"a", "b"
+     * @param etag        the specified ETag
+     * @return {@code true} if matches, returns {@code false} otherwise
+     */
+    public static boolean matches(final String ifNoneMatch, final String etag) {
+        if (StringUtils.isBlank(ifNoneMatch) || StringUtils.isBlank(etag)) {
+            return false;
+        }
+
+        if ("*".equals(ifNoneMatch.trim())) {
+            return true;
+        }
+
+        final String opaque = StringUtils.removeStart(etag.trim(), "W/");
+        for (final String tag : ifNoneMatch.split(",")) {
+            if (opaque.equals(StringUtils.removeStart(tag.trim(), "W/"))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static String formatDate(final long time) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneOffset.UTC));
+    }
+
+    private static long parseDate(final String date) {
+        try {
+            return ZonedDateTime.parse(date.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (final Exception e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Private constructor.
+     */
+    private Conditionals() {
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.util;
+
+import org.apache.commons.lang.StringUtils;
+import org.b3log.latke.Latkes;
+import org.json.JSONObject;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.parser.Parser;
+import org.jsoup.safety.Cleaner;
+import org.jsoup.safety.Whitelist;
+import org.jsoup.select.NodeVisitor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * HTML post-processing pipeline. Parses the HTML once and walks the DOM once, every stage sees each node in the same
+ * walk. Side data such as the ToC is collected into the {@link Result} together with the HTML.
+ * <p>
+ * A pipeline holds no per-document state, so it can be shared between threads.
+ * </p>
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.0, Oct 16, 2026
+ * @since 4.2.0
+ */
+public final class HtmlPipeline {
+
+    /**
+     * Opens the external links in new windows and removes the link ids.
+     */
+    public static final Stage LINK_TARGET = (node, result) -> {
+        if (!(node instanceof Element) || !"a".equals(((Element) node).tagName())) {
+            return;
+        }
+
+        final Element a = (Element) node;
+        final String href = a.attr("href");
+        if (!StringUtils.startsWithIgnoreCase(href, Latkes.getServePath()) && !StringUtils.startsWithIgnoreCase(href, "#")) {
+            a.attr("target", "_blank");
+        }
+        a.removeAttr("id");
+    };
+
+    /**
+     * Converts the emoji codes in text, except the text in code blocks.
+     */
+    public static final Stage EMOJI = (node, result) -> {
+        if (!(node instanceof TextNode) || !(node.parent() instanceof Element)) {
+            return;
+        }
+
+        final TextNode textNode = (TextNode) node;
+        final Element parentElem = (Element) node.parent();
+        if (parentElem.tagName().equals("code") || parentElem.tagName().equals("pre")) {
+            return;
+        }
+
+        if (parentElem.tagName().equals("span") && StringUtils.startsWithIgnoreCase(parentElem.attr("class"), "hljs")) {
+            return;
+        }
+
+        String text = textNode.getWholeText();
+        text = Emotions.convert(text);
+        if (text.contains("@<a href=") || text.contains("<img")) {
+            // 新节点插在当前节点之前，不会再被遍历到；当前节点在遍历结束后移除
+            final List<Node> nodes = Parser.parseFragment(text, parentElem, "");
+            parentElem.insertChildren(textNode.siblingIndex(), nodes);
+            result.toRemove.add(textNode);
+        } else {
+            textNode.text(text);
+        }
+    };
+
+    /**
+     * Rewrites the uploaded image URLs with the Qiniu image processing parameters.
+     */
+    public static final Stage IMAGE = (node, result) -> {
+        if (!(node instanceof Element) || !"img".equals(((Element) node).tagName())) {
+            return;
+        }
+
+        final Element img = (Element) node;
+        img.attr("src", Images.qiniuImgProcessing(img.attr("src")));
+    };
+
+    /**
+     * Extracts the top level headings into the ToC, a heading without id gets id "toc_h[1-6]_[index]".
+     */
+    public static final Stage TOC = (node, result) -> {
+        if (!(node instanceof Element) || !(node.parent() instanceof Element) || !"body".equals(((Element) node.parent()).tagName())) {
+            return;
+        }
+
+        final Element element = (Element) node;
+        final String tagName = element.tagName().toLowerCase();
+        if (2 != tagName.length() || 'h' != tagName.charAt(0) || '1' > tagName.charAt(1) || '6' < tagName.charAt(1)) {
+            return;
+        }
+
+        String id = element.attr("id");
+        if (StringUtils.isBlank(id)) {
+            id = "toc_" + tagName + "_" + result.toc.size();
+        } else if (StringUtils.startsWith(id, "#")) {
+            id = StringUtils.substringAfter(id, "#");
+        }
+        element.attr("id", id);
+        final JSONObject li = new JSONObject().
+                put("className", "toc__" + tagName).
+                put("id", id).
+                put("text", element.text());
+        result.toc.add(li);
+    };
+
+    /**
+     * Sanitizes the HTML with the relaxed whitelist plus the code highlight classes. Runs after the walk and copies the
+     * safe nodes into a new document, so it should be the last stage.
+     */
+    public static final Stage SANITIZE = new Stage() {
+
+        /**
+         * Cleaner.
+         */
+        private final Cleaner cleaner = new Cleaner(newWhitelist());
+
+        @Override
+        public void head(final Node node, final Result result) {
+        }
+
+        @Override
+        public Document end(final Document doc) {
+            return cleaner.clean(doc);
+        }
+    };
+
+    /**
+     * Stages.
+     */
+    private final List<Stage> stages;
+
+    /**
+     * Constructs a pipeline with the specified stages.
+     *
+     * @param stages the specified stages, run in the specified order on each node
+     */
+    public HtmlPipeline(final Stage... stages) {
+        this.stages = Arrays.asList(stages);
+    }
+
+    /**
+     * Processes the specified HTML.
+     *
+     * @param html the specified HTML
+     * @return result
+     */
+    public Result process(final String html) {
+        final Result ret = new Result();
+        Document doc = Jsoup.parse(html);
+        doc.outputSettings().prettyPrint(false);
+        doc.traverse(new NodeVisitor() {
+            @Override
+            public void head(final Node node, final int depth) {
+                for (final Stage stage : stages) {
+                    stage.head(node, ret);
+                }
+            }
+
+            @Override
+            public void tail(final Node node, final int depth) {
+            }
+        });
+        ret.toRemove.forEach(Node::remove);
+        ret.toRemove.clear();
+
+        for (final Stage stage : stages) {
+            doc = stage.end(doc);
+        }
+        ret.html = StringUtils.trim(doc.body().html());
+
+        return ret;
+    }
+
+    /**
+     * Creates a whitelist for user generated HTML, the relaxed whitelist plus the code highlight classes.
+     *
+     * @return whitelist
+     */
+    static Whitelist newWhitelist() {
+        final Whitelist ret = Whitelist.relaxed();
+        // 允许代码块语言高亮信息
+        ret.addAttributes("pre", "class").
+                addAttributes("div", "class").
+                addAttributes("span", "class").
+                addAttributes("code", "class");
+
+        return ret;
+    }
+
+    /**
+     * Pipeline stage.
+     *
+     * @author <a href="http://88250.b3log.org">Liang Ding</a>
+     * @version 1.0.0.0, Oct 16, 2026
+     * @since 4.2.0
+     */
+    @FunctionalInterface
+    public interface Stage {
+
+        /**
+         * Processes the specified node, called for each node in document order. A stage may modify the node and its
+         * attributes, new siblings must be inserted before the node.
+         *
+         * @param node   the specified node
+         * @param result the specified result of the current document
+         */
+        void head(final Node node, final Result result);
+
+        /**
+         * Called after the walk.
+         *
+         * @param doc the specified document
+         * @return the document to serialize and to pass to the next stage
+         */
+        default Document end(final Document doc) {
+            return doc;
+        }
+    }
+
+    /**
+     * Pipeline result.
+     *
+     * @author <a href="http://88250.b3log.org">Liang Ding</a>
+     * @version 1.0.0.0, Oct 16, 2026
+     * @since 4.2.0
+     */
+    public static final class Result {
+
+        /**
+         * HTML.
+         */
+        private String html;
+
+        /**
+         * ToC items.
+         */
+        private final List<JSONObject> toc = new ArrayList<>();
+
+        /**
+         * Nodes to remove after the walk.
+         */
+        private final List<Node> toRemove = new ArrayList<>();
+
+        /**
+         * Gets the HTML.
+         *
+         * @return HTML
+         */
+        public String getHTML() {
+            return html;
+        }
+
+        /**
+         * Gets the ToC items, empty if the pipeline has no {@link #TOC} stage.
+         *
+         * @return ToC items, for example,
+         * <pre>
+         * [{
+         *     "className": "toc__h2",
+         *     "id": "toc_h2_0",
+         *     "text": ""
+         * }, ....]
+         * </pre>
+         */
+        public List<JSONObject> getToC() {
+            return toc;
+        }
+    }
+}
@@ -29,7 +29,7 @@ import java.util.concurrent.ThreadLocalRandom;
  * Image utilities.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 1.2.0.1, May 15, 2020
+ * @version 1.2.1.0, Oct 16, 2026
  * @since 2.7.0
  */
 public final class Images {
@@ -66,16 +66,24 @@ public final class Images {
         }
 
         for (final Element img : imgs) {
-            String imgSrc = img.attr("src");
-            if (!uploaded(imgSrc) ||
-                    StringUtils.contains(imgSrc, ".gif") || StringUtils.containsIgnoreCase(imgSrc, "imageView") ||
-                    StringUtils.containsIgnoreCase(imgSrc, "data:")) {
-                continue;
-            }
+            img.attr("src", qiniuImgProcessing(img.attr("src")));
+        }
+    }
 
-            imgSrc += "?imageView2/2/w/1280/format/jpg/interlace/1/q/100";
-            img.attr("src", imgSrc);
+    /**
+     * Qiniu image processing.
+     *
+     * @param imgSrc the specified image URL
+     * @return processed image URL, returns the specified image URL if it needs no processing
+     */
+    public static String qiniuImgProcessing(final String imgSrc) {
+        if (!uploaded(imgSrc) ||
+                StringUtils.contains(imgSrc, ".gif") || StringUtils.containsIgnoreCase(imgSrc, "imageView") ||
+                StringUtils.containsIgnoreCase(imgSrc, "data:")) {
+            return imgSrc;
         }
+
+        return imgSrc + "?imageView2/2/w/1280/format/jpg/interlace/1/q/100";
     }
 
     /**
@@ -0,0 +1,347 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.util;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <a href="https://github.com/88250/lute-http">Lute HTTP</a> client.
+ * <ul>
+ * <li>Reuses the connections, a fully read response returns its connection to the JDK keep-alive cache</li>
+ * <li>Renders a batch of documents concurrently, bounded by the max connections</li>
+ * <li>Opens the circuit after consecutive failed or slow calls, callers then go straight to the built-in engine until
+ * the cool-down ends and a probe call succeeds</li>
+ * <li>Records a latency histogram</li>
+ * </ul>
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.1, Oct 16, 2026
+ * @since 4.2.0
+ */
+final class LuteClient {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOGGER = LogManager.getLogger(LuteClient.class);
+
+    /**
+     * Upper bounds of the latency histogram buckets in milliseconds, the last bucket holds the slower calls.
+     */
+    private static final long[] LATENCY_BUCKETS = {5, 10, 25, 50, 100, 250, 500, 1000, 2500};
+
+    /**
+     * Connect timeout in milliseconds.
+     */
+    private final int connectTimeout;
+
+    /**
+     * Read timeout in milliseconds.
+     */
+    private final int readTimeout;
+
+    /**
+     * Calls slower than this are counted as failures.
+     */
+    private final long slowMillis;
+
+    /**
+     * Consecutive failures to open the circuit.
+     */
+    private final int failureThreshold;
+
+    /**
+     * Cool-down of the open circuit in milliseconds.
+     */
+    private final long coolDownMillis;
+
+    /**
+     * Batch render pool, its size is the max connections.
+     */
+    private final ThreadPoolExecutor batchPool;
+
+    /**
+     * Consecutive failures.
+     */
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    /**
+     * Time the open circuit allows a probe call, {@code 0} if the circuit is closed.
+     */
+    private volatile long openUntil;
+
+    /**
+     * Whether a probe call is in flight.
+     */
+    private final AtomicBoolean probing = new AtomicBoolean();
+
+    /**
+     * Latency histogram.
+     */
+    private final AtomicLongArray latencies = new AtomicLongArray(LATENCY_BUCKETS.length + 1);
+
+    /**
+     * Success count.
+     */
+    private final LongAdder successCnt = new LongAdder();
+
+    /**
+     * Failure count.
+     */
+    private final LongAdder failureCnt = new LongAdder();
+
+    /**
+     * Count of calls short-circuited by the open circuit.
+     */
+    private final LongAdder shortCircuitCnt = new LongAdder();
+
+    /**
+     * Constructs a Lute client.
+     *
+     * @param connectTimeout   the specified connect timeout in milliseconds
+     * @param readTimeout      the specified read timeout in milliseconds
+     * @param slowMillis       the specified slow call threshold in milliseconds
+     * @param failureThreshold the specified consecutive failures to open the circuit
+     * @param coolDownMillis   the specified cool-down of the open circuit in milliseconds
+     * @param maxConnections   the specified max concurrent connections of a batch
+     */
+    LuteClient(final int connectTimeout, final int readTimeout, final long slowMillis, final int failureThreshold,
+               final long coolDownMillis, final int maxConnections) {
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.slowMillis = slowMillis;
+        this.failureThreshold = failureThreshold;
+        this.coolDownMillis = coolDownMillis;
+
+        final AtomicInteger threadNum = new AtomicInteger();
+        batchPool = new ThreadPoolExecutor(maxConnections, maxConnections, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(256), runnable -> {
+            final Thread ret = new Thread(runnable, "LuteBatch-" + threadNum.incrementAndGet());
+            ret.setDaemon(true);
+
+            return ret;
+        });
+        batchPool.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Checks whether a call is allowed by the circuit. Once the cool-down of the open circuit ended, only one probe call
+     * is allowed until it completes.
+     *
+     * @return {@code true} if allowed, returns {@code false} otherwise
+     */
+    boolean allowRequest() {
+        final long until = openUntil;
+        if (0 == until) {
+            return true;
+        }
+
+        if (System.currentTimeMillis() >= until && probing.compareAndSet(false, true)) {
+            return true;
+        }
+
+        shortCircuitCnt.increment();
+
+        return false;
+    }
+
+    /**
+     * Renders the specified markdown text.
+     *
+     * @param url          the specified Lute HTTP URL
+     * @param markdownText the specified markdown text
+     * @param headers      the specified render option headers
+     * @return HTML
+     * @throws IOException if the call failed
+     */
+    String render(final String url, final String markdownText, final Map<String, String> headers) throws IOException {
+        final long start = System.currentTimeMillis();
+        boolean succeeded = false;
+        try {
+            final String ret = post(url, markdownText, headers);
+            succeeded = true;
+
+            return ret;
+        } finally {
+            // 任何方式退出都要结算熔断状态，否则试探请求占用的 probing 不会被释放
+            final long elapsed = System.currentTimeMillis() - start;
+            recordLatency(elapsed);
+            if (succeeded && elapsed <= slowMillis) {
+                onSuccess();
+            } else {
+                onFailure();
+            }
+        }
+    }
+
+    /**
+     * Renders the specified markdown texts concurrently.
+     *
+     * @param url           the specified Lute HTTP URL
+     * @param markdownTexts the specified markdown texts
+     * @param headers       the specified render option headers
+     * @return HTML list in the same order, an element is {@code null} if the document failed or was short-circuited
+     */
+    List<String> renderAll(final String url, final List<String> markdownTexts, final Map<String, String> headers) {
+        final List<Future<String>> futures = new ArrayList<>(markdownTexts.size());
+        for (final String markdownText : markdownTexts) {
+            try {
+                futures.add(batchPool.submit(() -> allowRequest() ? render(url, markdownText, headers) : null));
+            } catch (final RejectedExecutionException e) {
+                futures.add(null);
+            }
+        }
+
+        final List<String> ret = new ArrayList<>(markdownTexts.size());
+        final long deadline = System.currentTimeMillis() + connectTimeout + readTimeout;
+        for (final Future<String> future : futures) {
+            if (null == future) {
+                ret.add(null);
+                continue;
+            }
+
+            try {
+                ret.add(future.get(Math.max(1, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                ret.add(null);
+            } catch (final Exception e) {
+                future.cancel(true);
+                ret.add(null);
+            }
+        }
+
+        return ret;
+    }
+
+    /**
+     * Gets the statistics.
+     *
+     * @return statistics, for example,
+     * <pre>
+     * {
+     *     "circuit": "closed", // "open", "halfOpen"
+     *     "successCnt": long,
+     *     "failureCnt": long,
+     *     "shortCircuitCnt": long,
+     *     "latencies": {
+     *         "<=5ms": long,
+     *         ....
+     *         ">2500ms": long
+     *     }
+     * }
+     * </pre>
+     */
+    JSONObject getStats() {
+        final JSONObject histogram = new JSONObject();
+        for (int i = 0; i < LATENCY_BUCKETS.length; i++) {
+            histogram.put("<=" + LATENCY_BUCKETS[i] + "ms", latencies.get(i));
+        }
+        histogram.put(">" + LATENCY_BUCKETS[LATENCY_BUCKETS.length - 1] + "ms", latencies.get(LATENCY_BUCKETS.length));
+
+        final long until = openUntil;
+        final String circuit = 0 == until ? "closed" : (System.currentTimeMillis() < until ? "open" : "halfOpen");
+
+        return new JSONObject().
+                put("circuit", circuit).
+                put("successCnt", successCnt.sum()).
+                put("failureCnt", failureCnt.sum()).
+                put("shortCircuitCnt", shortCircuitCnt.sum()).
+                put("latencies", histogram);
+    }
+
+    /**
+     * Shutdowns the batch render pool.
+     */
+    void shutdown() {
+        batchPool.shutdownNow();
+    }
+
+    private String post(final String url, final String markdownText, final Map<String, String> headers) throws IOException {
+        final HttpURLConnection conn = (HttpURLConnection) new URL(url).openConnection();
+        for (final Map.Entry<String, String> header : headers.entrySet()) {
+            conn.setRequestProperty(header.getKey(), header.getValue());
+        }
+        conn.setConnectTimeout(connectTimeout);
+        conn.setReadTimeout(readTimeout);
+        conn.setDoOutput(true);
+        final byte[] body = markdownText.getBytes(StandardCharsets.UTF_8);
+        conn.setFixedLengthStreamingMode(body.length);
+
+        try (final OutputStream outputStream = conn.getOutputStream()) {
+            outputStream.write(body);
+        }
+
+        // 不调用 disconnect()，响应读完后连接回到 JDK 的 keep-alive 缓存中复用
+        final int status = conn.getResponseCode();
+        if (HttpURLConnection.HTTP_OK != status) {
+            try (final InputStream errorStream = conn.getErrorStream()) {
+                if (null != errorStream) {
+                    IOUtils.toByteArray(errorStream);
+                }
+            }
+
+            throw new IOException("Lute responded [" + status + "]");
+        }
+
+        try (final InputStream inputStream = conn.getInputStream()) {
+            return IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+        }
+    }
+
+    private void onSuccess() {
+        successCnt.increment();
+        consecutiveFailures.set(0);
+        if (0 != openUntil) {
+            openUntil = 0;
+            probing.set(false);
+            LOGGER.log(Level.INFO, "Lute circuit closed");
+        }
+    }
+
+    private void onFailure() {
+        failureCnt.increment();
+        final int failures = consecutiveFailures.incrementAndGet();
+        if (probing.get() || (0 == openUntil && failures >= failureThreshold)) {
+            openUntil = System.currentTimeMillis() + coolDownMillis;
+            probing.set(false);
+            LOGGER.log(Level.WARN, "Lute circuit opened for [{}]ms after [{}] consecutive failures", coolDownMillis, failures);
+        }
+    }
+
+    private void recordLatency(final long elapsed) {
+        int bucket = 0;
+        while (bucket < LATENCY_BUCKETS.length && elapsed > LATENCY_BUCKETS[bucket]) {
+            bucket++;
+        }
+        latencies.incrementAndGet(bucket);
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.util;
+
+import org.json.JSONObject;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Markdown HTML cache bounded by total weight in bytes, evicts with segmented LRU. New entries go into the probation
+ * segment and are promoted to the protected segment on the second hit, so one-off renders (for example a burst of new
+ * comments) can not flush the hot entries.
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.1, Oct 16, 2026
+ * @since 4.2.0
+ */
+final class MarkdownCache {
+
+    /**
+     * Percentage of the capacity for the protected segment.
+     */
+    private static final int PROTECTED_PERCENT = 80;
+
+    /**
+     * Probation segment.
+     */
+    private final Map<String, String> probation = new LinkedHashMap<>(256, 0.75f, true);
+
+    /**
+     * Protected segment.
+     */
+    private final Map<String, String> protect = new LinkedHashMap<>(256, 0.75f, true);
+
+    /**
+     * Max total bytes.
+     */
+    private final long capacity;
+
+    /**
+     * Max bytes of the protected segment.
+     */
+    private final long protectedCapacity;
+
+    /**
+     * Bytes of the probation segment.
+     */
+    private long probationBytes;
+
+    /**
+     * Bytes of the protected segment.
+     */
+    private long protectedBytes;
+
+    /**
+     * Hit count.
+     */
+    private long hitCnt;
+
+    /**
+     * Miss count.
+     */
+    private long missCnt;
+
+    /**
+     * Eviction count.
+     */
+    private long evictionCnt;
+
+    /**
+     * Constructs a cache with the specified capacity.
+     *
+     * @param capacity the specified capacity in bytes
+     */
+    MarkdownCache(final long capacity) {
+        this.capacity = capacity;
+        protectedCapacity = capacity * PROTECTED_PERCENT / 100;
+    }
+
+    /**
+     * Gets the HTML by the specified key.
+     *
+     * @param key the specified key
+     * @return HTML, returns {@code null} if not found
+     */
+    synchronized String get(final String key) {
+        String ret = protect.get(key);
+        if (null != ret) {
+            hitCnt++;
+
+            return ret;
+        }
+
+        ret = probation.remove(key);
+        if (null == ret) {
+            missCnt++;
+
+            return null;
+        }
+
+        hitCnt++;
+        final long weight = weight(key, ret);
+        probationBytes -= weight;
+        protect.put(key, ret);
+        protectedBytes += weight;
+
+        // 保护区超出时将其中最久未访问的降级回试用区
+        final Iterator<Map.Entry<String, String>> eldest = protect.entrySet().iterator();
+        while (protectedBytes > protectedCapacity && eldest.hasNext()) {
+            final Map.Entry<String, String> entry = eldest.next();
+            eldest.remove();
+            final long entryWeight = weight(entry.getKey(), entry.getValue());
+            protectedBytes -= entryWeight;
+            probation.put(entry.getKey(), entry.getValue());
+            probationBytes += entryWeight;
+        }
+        evict();
+
+        return ret;
+    }
+
+    /**
+     * Checks whether the specified key is cached, neither counts as a hit nor refreshes the entry.
+     *
+     * @param key the specified key
+     * @return {@code true} if cached, returns {@code false} otherwise
+     */
+    synchronized boolean contains(final String key) {
+        return protect.containsKey(key) || probation.containsKey(key);
+    }
+
+    /**
+     * Puts the specified HTML with the specified key. Ignores the HTML if it is larger than the whole capacity.
+     *
+     * @param key  the specified key
+     * @param html the specified HTML
+     */
+    synchronized void put(final String key, final String html) {
+        final long weight = weight(key, html);
+        if (weight > capacity) {
+            return;
+        }
+
+        remove(key);
+        probation.put(key, html);
+        probationBytes += weight;
+        evict();
+    }
+
+    /**
+     * Clears the cache.
+     */
+    synchronized void clear() {
+        probation.clear();
+        protect.clear();
+        probationBytes = 0;
+        protectedBytes = 0;
+    }
+
+    /**
+     * Gets the statistics.
+     *
+     * @return statistics, for example,
+     * <pre>
+     * {
+     *     "size": int,
+     *     "bytes": long,
+     *     "capacity": long,
+     *     "hitCnt": long,
+     *     "missCnt": long,
+     *     "evictionCnt": long
+     * }
+     * </pre>
+     */
+    synchronized JSONObject getStats() {
+        return new JSONObject().
+                put("size", probation.size() + protect.size()).
+                put("bytes", probationBytes + protectedBytes).
+                put("capacity", capacity).
+                put("hitCnt", hitCnt).
+                put("missCnt", missCnt).
+                put("evictionCnt", evictionCnt);
+    }
+
+    private void remove(final String key) {
+        String old = probation.remove(key);
+        if (null != old) {
+            probationBytes -= weight(key, old);
+        }
+        old = protect.remove(key);
+        if (null != old) {
+            protectedBytes -= weight(key, old);
+        }
+    }
+
+    private void evict() {
+        // 先淘汰试用区，试用区为空时才淘汰保护区
+        while (probationBytes + protectedBytes > capacity) {
+            final boolean fromProbation = !probation.isEmpty();
+            final Iterator<Map.Entry<String, String>> eldest = (fromProbation ? probation : protect).entrySet().iterator();
+            if (!eldest.hasNext()) {
+                return;
+            }
+
+            final Map.Entry<String, String> entry = eldest.next();
+            eldest.remove();
+            final long weight = weight(entry.getKey(), entry.getValue());
+            if (fromProbation) {
+                probationBytes -= weight;
+            } else {
+                protectedBytes -= weight;
+            }
+            evictionCnt++;
+        }
+    }
+
+    /**
+     * Estimates the heap bytes of an entry, two bytes per char plus the map entry overhead.
+     *
+     * @param key  the specified key
+     * @param html the specified HTML
+     * @return weight in bytes
+     */
+    private static long weight(final String key, final String html) {
+        return 2L * (key.length() + html.length()) + 96;
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.util;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang.StringUtils;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.TextNode;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Incremental Markdown preview for the editor. A draft is split into blocks by {@link MarkdownSplitter}, each preview
+ * session keeps the HTML of the blocks of its last draft and only the changed blocks are rendered and post-processed
+ * again. The post-processing stages work on single nodes, so the post-processed blocks joined are the same as the saved
+ * render as long as no block leaves an element open. Otherwise (a raw HTML element spans blocks for example) the engine
+ * HTML of the blocks is joined and post-processed as a whole.
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.2, Oct 16, 2026
+ * @since 4.2.0
+ */
+public final class MarkdownPreview {
+
+    /**
+     * Sessions idle longer than this are evicted.
+     */
+    private static final long IDLE_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    /**
+     * Drafts shorter than this length are rendered as one block.
+     */
+    private static final int BLOCK_LENGTH = 4 * 1024;
+
+    /**
+     * Id of the mark appended to a block to check whether the block leaves an element open.
+     */
+    private static final String END_MARK_ID = "solo-preview-end";
+
+    /**
+     * Mark appended to a block, an inline element with text so that an open element (even a formatting element closed
+     * by its parent) takes it in.
+     */
+    private static final String END_MARK = "<span id=\"" + END_MARK_ID + "\">.</span>";
+
+    /**
+     * Preview sessions, session id to session.
+     */
+    private static final Map<String, Session> SESSIONS = new ConcurrentHashMap<>();
+
+    /**
+     * Renders the specified markdown text for the specified preview session.
+     *
+     * @param sessionId    the specified preview session id
+     * @param markdownText the specified markdown text
+     * @return result, for example,
+     * <pre>
+     * {
+     *     "html": "", // the whole HTML
+     *     "hashes": ["", ....], // hashes of the blocks in order
+     *     "blocks": { // HTML of the blocks not in the last preview of the session
+     *         "hash": "",
+     *         ....
+     *     }
+     * }
+     * </pre>
+     * the whole draft is returned as one block if a block leaves an element open, for example a raw HTML element spans
+     * blocks
+     * @throws IllegalStateException if a block failed to render
+     */
+    public static JSONObject render(final String sessionId, final String markdownText) {
+        final long now = System.currentTimeMillis();
+        SESSIONS.values().removeIf(session -> now - session.accessed > IDLE_MILLIS);
+
+        final Session session = SESSIONS.computeIfAbsent(sessionId, id -> new Session());
+        JSONArray hashes = new JSONArray();
+        JSONObject blocks = new JSONObject();
+        final String html;
+        synchronized (session) {
+            session.accessed = now;
+            final Map<String, Block> rendered = new HashMap<>();
+            final List<Block> draftBlocks = new ArrayList<>();
+            final String fingerprint = Markdowns.getOptionsFingerprint();
+            boolean closed = true;
+            for (final String markdownBlock : split(markdownText)) {
+                final String hash = DigestUtils.md5Hex(fingerprint + markdownBlock);
+                Block block = rendered.get(hash);
+                if (null == block) {
+                    block = session.blocks.get(hash);
+                }
+                if (null == block) {
+                    final String blockEngineHTML = Markdowns.tryToEngineHTML(markdownBlock);
+                    if (null == blockEngineHTML) {
+                        throw new IllegalStateException("Renders markdown block failed");
+                    }
+
+                    block = new Block(blockEngineHTML, Markdowns.postProcess(blockEngineHTML), isClosed(blockEngineHTML));
+                    blocks.put(hash, block.html);
+                }
+                rendered.put(hash, block);
+                hashes.put(hash);
+                draftBlocks.add(block);
+                closed &= block.closed;
+            }
+
+            // 只保留本次的块，会话占用的内存不超过一篇草稿
+            session.blocks = rendered;
+
+            if (closed || 1 == draftBlocks.size()) {
+                // 后处理只作用于单个节点，各块没有未闭合的元素时拼接逐块后处理的结果即和保存时一致
+                final StringBuilder blocksHTML = new StringBuilder();
+                for (final Block block : draftBlocks) {
+                    blocksHTML.append(getLeadingWhitespace(block.engineHTML)).append(block.html).append(getTrailingWhitespace(block.engineHTML));
+                }
+                html = StringUtils.trim(blocksHTML.toString());
+            } else {
+                // 原生 HTML 跨块时和保存时一样对整篇的引擎 HTML 后处理一次，补丁退化为整篇一块
+                final StringBuilder engineHTML = new StringBuilder();
+                for (final Block block : draftBlocks) {
+                    engineHTML.append(block.engineHTML);
+                }
+                html = Markdowns.postProcess(engineHTML.toString());
+                final String hash = DigestUtils.md5Hex(fingerprint + markdownText);
+                hashes = new JSONArray().put(hash);
+                blocks = new JSONObject().put(hash, html);
+            }
+        }
+
+        return new JSONObject().
+                put("html", html).
+                put("hashes", hashes).
+                put("blocks", blocks);
+    }
+
+    /**
+     * Checks whether the specified engine HTML of a block closes all elements it opens, so that it is parsed the same
+     * alone and joined with the other blocks.
+     *
+     * @param engineHTML the specified engine HTML
+     * @return {@code true} if closed, returns {@code false} otherwise
+     */
+    static boolean isClosed(final String engineHTML) {
+        final Element last = Jsoup.parse(engineHTML + END_MARK).body().children().last();
+
+        return null != last && END_MARK_ID.equals(last.id()) && 1 == last.childNodeSize() && last.childNode(0) instanceof TextNode;
+    }
+
+    private static String getLeadingWhitespace(final String html) {
+        int i = 0;
+        while (i < html.length() && isWhitespace(html.charAt(i))) {
+            i++;
+        }
+
+        return html.substring(0, i);
+    }
+
+    private static String getTrailingWhitespace(final String html) {
+        int i = html.length();
+        while (0 < i && isWhitespace(html.charAt(i - 1))) {
+            i--;
+        }
+        if (0 == i) {
+            // 全是空白时已经作为前导空白
+            return "";
+        }
+
+        return html.substring(i);
+    }
+
+    private static boolean isWhitespace(final char c) {
+        return ' ' == c || '\t' == c || '\n' == c || '\f' == c || '\r' == c;
+    }
+
+    private static List<String> split(final String markdownText) {
+        if (BLOCK_LENGTH > markdownText.length() || (Markdowns.LUTE_AVAILABLE && Markdowns.FOOTNOTES)) {
+            // Lute 的脚注需要在整篇中渲染
+            return Collections.singletonList(markdownText);
+        }
+
+        return MarkdownSplitter.split(markdownText, BLOCK_LENGTH);
+    }
+
+    /**
+     * Preview session.
+     */
+    private static final class Session {
+
+        /**
+         * Blocks of the last preview, block hash to block.
+         */
+        private Map<String, Block> blocks = Collections.emptyMap();
+
+        /**
+         * Last access time.
+         */
+        private volatile long accessed = System.currentTimeMillis();
+    }
+
+    /**
+     * Rendered block.
+     */
+    private static final class Block {
+
+        /**
+         * Engine HTML, joined with the other blocks and then post-processed as the whole HTML if a block is not closed.
+         */
+        private final String engineHTML;
+
+        /**
+         * Post-processed HTML of this block alone.
+         */
+        private final String html;
+
+        /**
+         * Whether this block closes all elements it opens.
+         */
+        private final boolean closed;
+
+        /**
+         * Constructs a block with the specified engine HTML, post-processed HTML and closed flag.
+         *
+         * @param engineHTML the specified engine HTML
+         * @param html       the specified post-processed HTML
+         * @param closed     the specified closed flag
+         */
+        private Block(final String engineHTML, final String html, final boolean closed) {
+            this.engineHTML = engineHTML;
+            this.html = html;
+            this.closed = closed;
+        }
+    }
+
+    /**
+     * Private constructor.
+     */
+    private MarkdownPreview() {
+    }
+}
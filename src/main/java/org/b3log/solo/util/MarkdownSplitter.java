@@ -0,0 +1,218 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Splits a large markdown document into segments which render to the same HTML as the whole document once their HTML
+ * are concatenated.
+ * <p>
+ * A segment only starts at a line beginning with "#" right after a blank line, such a line always closes the previous
+ * paragraph, list, block quote, table and indented code. Fenced code and the HTML blocks which may contain blank lines
+ * (&lt;pre&gt;, &lt;script&gt;, &lt;style&gt;, comments, processing instructions, declarations and CDATA) are tracked,
+ * no segment starts inside them. Link reference definitions apply to the whole document, so they are collected and
+ * put at the beginning of every segment, ahead of a blank line. Documents with a link reference definition which can
+ * not be collected safely (nested in a container, continued on the next line etc.) are not split.
+ * </p>
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.0, Oct 16, 2026
+ * @since 4.2.0
+ */
+final class MarkdownSplitter {
+
+    /**
+     * Single line link reference definition pattern.
+     */
+    private static final Pattern DEFINITION_PATTERN = Pattern.compile(
+            " {0,3}\\[[^\\]\\[]*[^\\]\\[\\s][^\\]\\[]*]:[ \\t]*(<[^<>\\n]*>|\\S+)([ \\t]+(\"[^\"]*\"|'[^']*'|\\([^()]*\\)))?[ \\t]*");
+
+    /**
+     * Line possibly being a link reference definition, after the container markers stripped.
+     */
+    private static final Pattern DEFINITION_CANDIDATE_PATTERN = Pattern.compile("[\\s>]*(([-+*]|\\d{1,9}[.)])[\\s>]+)*\\[.*]:.*");
+
+    /**
+     * HTML block start patterns, of which the blocks end at the corresponding {@link #HTML_BLOCK_ENDS}.
+     */
+    private static final Pattern[] HTML_BLOCK_STARTS = {
+            Pattern.compile(" {0,3}<(script|pre|style)([\\s>].*)?", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(" {0,3}<!--.*"),
+            Pattern.compile(" {0,3}<\\?.*"),
+            Pattern.compile(" {0,3}<![A-Z].*"),
+            Pattern.compile(" {0,3}<!\\[CDATA\\[.*")
+    };
+
+    /**
+     * HTML block end patterns.
+     */
+    private static final Pattern[] HTML_BLOCK_ENDS = {
+            Pattern.compile(".*</(script|pre|style)>.*", Pattern.CASE_INSENSITIVE),
+            Pattern.compile(".*-->.*"),
+            Pattern.compile(".*\\?>.*"),
+            Pattern.compile(".*>.*"),
+            Pattern.compile(".*]]>.*")
+    };
+
+    /**
+     * Splits the specified markdown text.
+     *
+     * @param markdownText  the specified markdown text
+     * @param segmentLength the specified min length of a segment
+     * @return segments, a list contains only the specified markdown text if it should not be split
+     */
+    static List<String> split(final String markdownText, final int segmentLength) {
+        final List<String> ret = new ArrayList<>();
+        final StringBuilder definitions = new StringBuilder();
+        String fence = null; // 当前围栏代码块的开始标记
+        Pattern htmlBlockEnd = null; // 当前 HTML 块的结束标记
+        boolean prevBlank = true;
+        boolean prevDefinition = false;
+        int segmentStart = 0;
+        int lineStart = 0;
+        while (lineStart < markdownText.length()) {
+            int lineEnd = markdownText.indexOf('\n', lineStart);
+            if (-1 == lineEnd) {
+                lineEnd = markdownText.length();
+            }
+            String line = markdownText.substring(lineStart, lineEnd);
+            if (line.endsWith("\r")) {
+                line = line.substring(0, line.length() - 1);
+            }
+            final boolean blank = line.trim().isEmpty();
+
+            if (null != fence) {
+                if (closesFence(line, fence)) {
+                    fence = null;
+                }
+            } else if (null != htmlBlockEnd) {
+                if (htmlBlockEnd.matcher(line).matches()) {
+                    htmlBlockEnd = null;
+                }
+            } else {
+                final boolean afterDefinition = prevDefinition;
+                if (afterDefinition && !blank && !DEFINITION_PATTERN.matcher(line).matches()) {
+                    // 下一行可能是定义的标题
+                    return Collections.singletonList(markdownText);
+                }
+
+                prevDefinition = false;
+                if (DEFINITION_CANDIDATE_PATTERN.matcher(line).matches()) {
+                    if (!prevBlank && !afterDefinition || !DEFINITION_PATTERN.matcher(line).matches()) {
+                        return Collections.singletonList(markdownText);
+                    }
+
+                    definitions.append(line).append('\n');
+                    prevDefinition = true;
+                }
+
+                fence = opensFence(line);
+                if (null == fence) {
+                    for (int i = 0; i < HTML_BLOCK_STARTS.length; i++) {
+                        if (HTML_BLOCK_STARTS[i].matcher(line).matches()) {
+                            final String rest = line.substring(line.indexOf('<') + 2);
+                            htmlBlockEnd = HTML_BLOCK_ENDS[i].matcher(rest).matches() ? null : HTML_BLOCK_ENDS[i];
+                            break;
+                        }
+                    }
+                }
+
+                if (prevBlank && line.startsWith("#") && segmentLength <= lineStart - segmentStart) {
+                    ret.add(markdownText.substring(segmentStart, lineStart));
+                    segmentStart = lineStart;
+                }
+            }
+
+            prevBlank = blank;
+            lineStart = lineEnd + 1;
+        }
+        ret.add(markdownText.substring(segmentStart));
+
+        if (1 == ret.size() || 0 == definitions.length()) {
+            return ret;
+        }
+
+        final String prefix = definitions.append('\n').toString();
+        for (int i = 0; i < ret.size(); i++) {
+            ret.set(i, prefix + ret.get(i));
+        }
+
+        return ret;
+    }
+
+    /**
+     * Gets the fence opened by the specified line.
+     *
+     * @param line the specified line
+     * @return fence, for example "```" or "~~~~", returns {@code null} if the specified line does not open a fence
+     */
+    private static String opensFence(final String line) {
+        final int indent = indent(line);
+        if (3 < indent || line.length() < indent + 3) {
+            return null;
+        }
+
+        final char c = line.charAt(indent);
+        if ('`' != c && '~' != c) {
+            return null;
+        }
+
+        int end = indent;
+        while (end < line.length() && c == line.charAt(end)) {
+            end++;
+        }
+        if (3 > end - indent) {
+            return null;
+        }
+
+        if ('`' == c && -1 != line.indexOf('`', end)) {
+            // 反引号围栏的信息串中不能包含反引号
+            return null;
+        }
+
+        return line.substring(indent, end);
+    }
+
+    private static boolean closesFence(final String line, final String fence) {
+        final int indent = indent(line);
+        if (3 < indent) {
+            return false;
+        }
+
+        final char c = fence.charAt(0);
+        int end = indent;
+        while (end < line.length() && c == line.charAt(end)) {
+            end++;
+        }
+
+        return fence.length() <= end - indent && line.substring(end).trim().isEmpty();
+    }
+
+    private static int indent(final String line) {
+        int ret = 0;
+        while (ret < line.length() && ' ' == line.charAt(ret)) {
+            ret++;
+        }
+
+        return ret;
+    }
+
+    /**
+     * Private constructor.
+     */
+    private MarkdownSplitter() {
+    }
+}
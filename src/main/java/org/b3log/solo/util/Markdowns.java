@@ -19,7 +19,6 @@ import com.vladsch.flexmark.html.HtmlRenderer;
 import com.vladsch.flexmark.util.data.DataHolder;
 import com.vladsch.flexmark.util.data.MutableDataSet;
 import org.apache.commons.codec.digest.DigestUtils;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
@@ -29,22 +28,15 @@ import org.b3log.latke.ioc.BeanManager;
 import org.b3log.latke.service.LangPropsService;
 import org.b3log.latke.util.Callstacks;
 import org.b3log.latke.util.Stopwatchs;
+import org.b3log.latke.util.Strings;
 import org.json.JSONObject;
 import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.nodes.Node;
-import org.jsoup.parser.Parser;
 import org.jsoup.safety.Whitelist;
-import org.jsoup.select.NodeVisitor;
 
-import java.io.InputStream;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * <a href="http://en.wikipedia.org/wiki/Markdown">Markdown</a> utilities.
@@ -54,7 +46,7 @@ import java.util.concurrent.*;
  * </p>
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 2.3.1.16, Apr 12, 2020
+ * @version 2.3.6.5, Oct 16, 2026
  * @since 0.4.5
  */
 public final class Markdowns {
@@ -65,15 +57,105 @@ public final class Markdowns {
     private static final Logger LOGGER = LogManager.getLogger(Markdowns.class);
 
     /**
-     * Markdown cache.
+     * Article (and page, user template etc.) HTML cache, bounded by latke.properties "markdownCacheArticleBytes"
+     * (default 16MB).
      */
-    private static final Map<String, JSONObject> MD_CACHE = new ConcurrentHashMap<>();
+    private static final MarkdownCache ARTICLE_CACHE = new MarkdownCache(getLongConf("markdownCacheArticleBytes", 16 * 1024 * 1024));
+
+    /**
+     * Comment HTML cache, bounded by latke.properties "markdownCacheCommentBytes" (default 4MB).
+     */
+    private static final MarkdownCache COMMENT_CACHE = new MarkdownCache(getLongConf("markdownCacheCommentBytes", 4 * 1024 * 1024));
 
     /**
      * Markdown to HTML timeout.
      */
     private static final int MD_TIMEOUT = 10000;
 
+    /**
+     * Markdown text shorter than this length is rendered in the caller thread.
+     */
+    private static final int CALLER_RUNS_LENGTH = 1024;
+
+    /**
+     * Markdown text longer than this length is split into segments rendered in parallel by the built-in engine,
+     * configured by latke.properties "markdownParallelLength" (default 65536).
+     */
+    private static final int PARALLEL_LENGTH = (int) getLongConf("markdownParallelLength", 64 * 1024);
+
+    /**
+     * Min length of the segments rendered in parallel.
+     */
+    private static final int SEGMENT_LENGTH = 16 * 1024;
+
+    /**
+     * Segment render pool.
+     */
+    private static final ForkJoinPool SEGMENT_POOL = new ForkJoinPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+
+    /**
+     * Render pool, configured by latke.properties "markdownRenderThreads" (default CPU cores, at least 2) and
+     * "markdownRenderQueueSize" (default 64). The caller renders by itself once the queue is full.
+     */
+    private static final ThreadPoolExecutor RENDER_POOL;
+
+    static {
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        final String threadsConf = Latkes.getLatkeProperty("markdownRenderThreads");
+        if (Strings.isNumeric(threadsConf)) {
+            threads = Math.max(1, Integer.parseInt(threadsConf));
+        }
+        int queueSize = 64;
+        final String queueSizeConf = Latkes.getLatkeProperty("markdownRenderQueueSize");
+        if (Strings.isNumeric(queueSizeConf)) {
+            queueSize = Math.max(1, Integer.parseInt(queueSizeConf));
+        }
+
+        final AtomicInteger threadNum = new AtomicInteger();
+        RENDER_POOL = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueSize), runnable -> {
+            final Thread ret = new Thread(runnable, "MarkdownRender-" + threadNum.incrementAndGet());
+            ret.setDaemon(true);
+
+            return ret;
+        });
+        RENDER_POOL.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Render count.
+     */
+    private static final LongAdder RENDER_CNT = new LongAdder();
+
+    /**
+     * Count of renders run in the caller thread because of small inputs.
+     */
+    private static final LongAdder CALLER_RUNS_CNT = new LongAdder();
+
+    /**
+     * Count of renders run in the caller thread because of the full queue.
+     */
+    private static final LongAdder REJECTED_CNT = new LongAdder();
+
+    /**
+     * Count of renders split into segments.
+     */
+    private static final LongAdder PARALLEL_CNT = new LongAdder();
+
+    /**
+     * Count of timed out renders.
+     */
+    private static final LongAdder TIMEOUT_CNT = new LongAdder();
+
+    /**
+     * Total queue wait time in nanoseconds.
+     */
+    private static final LongAdder QUEUE_WAIT_NANOS = new LongAdder();
+
+    /**
+     * Total render time in nanoseconds.
+     */
+    private static final LongAdder RENDER_NANOS = new LongAdder();
+
     /**
      * Built-in MD engine options.
      */
@@ -96,6 +178,28 @@ public final class Markdowns {
      */
     private static final HtmlRenderer RENDERER = HtmlRenderer.builder(OPTIONS).build();
 
+    /**
+     * Whitelist for {@link #clean(String)}.
+     */
+    private static final Whitelist WHITELIST = HtmlPipeline.newWhitelist();
+
+    /**
+     * Stage checking whether the current render is cancelled, runs on each node.
+     */
+    private static final HtmlPipeline.Stage CANCELLATION = (node, result) -> checkInterrupted();
+
+    /**
+     * Article HTML post-processing pipeline.
+     */
+    private static final HtmlPipeline ARTICLE_PIPELINE = new HtmlPipeline(CANCELLATION,
+            HtmlPipeline.LINK_TARGET, HtmlPipeline.EMOJI, HtmlPipeline.IMAGE);
+
+    /**
+     * Comment HTML post-processing pipeline, sanitizes the HTML additionally.
+     */
+    private static final HtmlPipeline COMMENT_PIPELINE = new HtmlPipeline(CANCELLATION,
+            HtmlPipeline.LINK_TARGET, HtmlPipeline.EMOJI, HtmlPipeline.IMAGE, HtmlPipeline.SANITIZE);
+
     /**
      * Lute engine serve path. https://github.com/88250/lute-http
      */
@@ -106,6 +210,12 @@ public final class Markdowns {
      */
     public static boolean LUTE_AVAILABLE;
 
+    /**
+     * Lute client, connect timeout 100ms, read timeout 3s, calls slower than 1s count as failures, 5 consecutive
+     * failures open the circuit for 30s, at most 5 concurrent connections (the JDK keep-alive cache size) per batch.
+     */
+    private static final LuteClient LUTE_CLIENT = new LuteClient(100, 3000, 1000, 5, 30000, 5);
+
     public static boolean SHOW_CODE_BLOCK_LN = false;
     public static boolean FOOTNOTES = false;
     public static boolean SHOW_TOC = false;
@@ -118,7 +228,42 @@ public final class Markdowns {
      * Clears cache.
      */
     public static void clearCache() {
-        MD_CACHE.clear();
+        ARTICLE_CACHE.clear();
+        COMMENT_CACHE.clear();
+    }
+
+    /**
+     * Gets the cache statistics.
+     *
+     * @return cache statistics, for example,
+     * <pre>
+     * {
+     *     "article": {
+     *         "size": int,
+     *         "bytes": long,
+     *         "capacity": long,
+     *         "hitCnt": long,
+     *         "missCnt": long,
+     *         "evictionCnt": long
+     *     },
+     *     "comment": {....}
+     * }
+     * </pre>
+     */
+    public static JSONObject getCacheStats() {
+        return new JSONObject().
+                put("article", ARTICLE_CACHE.getStats()).
+                put("comment", COMMENT_CACHE.getStats());
+    }
+
+    /**
+     * Gets the fingerprint of the current render options, HTML rendered with different options is cached separately.
+     *
+     * @return render options fingerprint
+     */
+    public static String getOptionsFingerprint() {
+        return (LUTE_AVAILABLE ? "L" : "F") + (SHOW_CODE_BLOCK_LN ? 1 : 0) + (FOOTNOTES ? 1 : 0) + (SHOW_TOC ? 1 : 0)
+                + (AUTO_SPACE ? 1 : 0) + (FIX_TERM_TYPO ? 1 : 0) + (CHINESE_PUNCT ? 1 : 0) + (IMADAOM ? 1 : 0);
     }
 
     /**
@@ -128,13 +273,7 @@ public final class Markdowns {
      * @return html
      */
     public static String clean(final String html) {
-        final Whitelist whitelist = Whitelist.relaxed();
-        // 允许代码块语言高亮信息
-        whitelist.addAttributes("pre", "class").
-                addAttributes("div", "class").
-                addAttributes("span", "class").
-                addAttributes("code", "class");
-        return Jsoup.clean(html, whitelist);
+        return Jsoup.clean(html, WHITELIST);
     }
 
     /**
@@ -145,25 +284,247 @@ public final class Markdowns {
      * 'markdownErrorLabel' if exception
      */
     public static String toHTML(final String markdownText) {
+        return toHTML(markdownText, ARTICLE_PIPELINE, ARTICLE_CACHE, null);
+    }
+
+    /**
+     * Converts the specified markdown text to HTML for saving, the same as {@link #toHTML(String)} except that a failed
+     * or timed out render returns {@code null} instead of 'contentRenderFailedLabel', which must not be saved.
+     *
+     * @param markdownText the specified markdown text
+     * @return converted HTML, returns an empty string "" if the specified markdown text is "" or {@code null}, returns
+     * {@code null} if failed
+     */
+    public static String tryToHTML(final String markdownText) {
+        return tryToHTML(markdownText, ARTICLE_PIPELINE, ARTICLE_CACHE, null);
+    }
+
+    /**
+     * Converts the specified markdown texts to HTML. The uncached ones are sent to Lute concurrently in one round if Lute
+     * is available, the others are the same as {@link #toHTML(String)}.
+     *
+     * @param markdownTexts the specified markdown texts
+     * @return converted HTML list in the same order
+     */
+    public static List<String> toHTMLs(final List<String> markdownTexts) {
+        return toHTMLs(markdownTexts, LUTE_CLIENT);
+    }
+
+    /**
+     * Converts the specified markdown texts to HTML with the specified Lute client.
+     *
+     * @param markdownTexts the specified markdown texts
+     * @param luteClient    the specified Lute client
+     * @return converted HTML list in the same order
+     */
+    static List<String> toHTMLs(final List<String> markdownTexts, final LuteClient luteClient) {
+        final Map<String, String> luteHTMLs = new HashMap<>();
+        if (LUTE_AVAILABLE && 1 < markdownTexts.size()) {
+            final String fingerprint = getOptionsFingerprint();
+            final List<String> misses = new ArrayList<>();
+            for (final String markdownText : markdownTexts) {
+                if (StringUtils.isNotBlank(markdownText) && !misses.contains(markdownText)
+                        && !ARTICLE_CACHE.contains(fingerprint + DigestUtils.md5Hex(markdownText))) {
+                    misses.add(markdownText);
+                }
+            }
+
+            // 熔断由 renderAll 逐个文档判断，这里不能预先占用半开状态的试探名额
+            if (1 < misses.size()) {
+                final List<String> htmls = luteClient.renderAll(LUTE_ENGINE_URL, misses, getLuteHeaders());
+                for (int i = 0; i < misses.size(); i++) {
+                    if (StringUtils.isNotBlank(htmls.get(i))) {
+                        luteHTMLs.put(misses.get(i), htmls.get(i));
+                    }
+                }
+            }
+        }
+
+        final List<String> ret = new ArrayList<>(markdownTexts.size());
+        for (final String markdownText : markdownTexts) {
+            ret.add(toHTML(markdownText, ARTICLE_PIPELINE, ARTICLE_CACHE, luteHTMLs.get(markdownText)));
+        }
+
+        return ret;
+    }
+
+    /**
+     * Converts the specified comment markdown text to sanitized HTML, the same as {@link #toHTML(String)} followed by
+     * {@link #clean(String)} but in one pass, and cached within the comment budget.
+     *
+     * @param markdownText the specified comment markdown text
+     * @return converted HTML, returns an empty string "" if the specified markdown text is "" or {@code null}, returns
+     * 'markdownErrorLabel' if exception
+     */
+    public static String commentToHTML(final String markdownText) {
+        return toHTML(markdownText, COMMENT_PIPELINE, COMMENT_CACHE, null);
+    }
+
+    /**
+     * Converts the specified comment markdown text to sanitized HTML for saving, the same as
+     * {@link #commentToHTML(String)} except that a failed or timed out render returns {@code null} instead of
+     * 'contentRenderFailedLabel', which must not be saved.
+     *
+     * @param markdownText the specified comment markdown text
+     * @return converted HTML, returns an empty string "" if the specified markdown text is "" or {@code null}, returns
+     * {@code null} if failed
+     */
+    public static String tryCommentToHTML(final String markdownText) {
+        return tryToHTML(markdownText, COMMENT_PIPELINE, COMMENT_CACHE, null);
+    }
+
+    /**
+     * Converts the specified markdown text to the engine HTML without the post-processing and caching, for the editor
+     * preview which post-processes the joined HTML of its blocks by {@link #postProcess(String)}.
+     *
+     * @param markdownText the specified markdown text
+     * @return engine HTML, returns an empty string "" if the specified markdown text is "" or {@code null}, returns
+     * {@code null} if failed
+     */
+    static String tryToEngineHTML(final String markdownText) {
+        return tryToHTML(markdownText, null, null, null);
+    }
+
+    /**
+     * Post-processes the specified engine HTML the same as the article render.
+     *
+     * @param html the specified engine HTML
+     * @return post-processed HTML
+     */
+    static String postProcess(final String html) {
+        return ARTICLE_PIPELINE.process(html).getHTML();
+    }
+
+    private static String toHTML(final String markdownText, final HtmlPipeline pipeline, final MarkdownCache cache, final String luteHTML) {
+        final String ret = tryToHTML(markdownText, pipeline, cache, luteHTML);
+        if (null == ret) {
+            final LangPropsService langPropsService = BeanManager.getInstance().getReference(LangPropsService.class);
+
+            return langPropsService.get("contentRenderFailedLabel");
+        }
+
+        return ret;
+    }
+
+    private static String tryToHTML(final String markdownText, final HtmlPipeline pipeline, final MarkdownCache cache, final String luteHTML) {
         if (StringUtils.isBlank(markdownText)) {
             return "";
         }
 
-        final String cachedHTML = getHTML(markdownText);
+        final String key = getOptionsFingerprint() + DigestUtils.md5Hex(markdownText);
+        final String cachedHTML = null == cache ? null : cache.get(key);
         if (null != cachedHTML) {
             return cachedHTML;
         }
 
-        final LangPropsService langPropsService = BeanManager.getInstance().getReference(LangPropsService.class);
+        Stopwatchs.start("Md to HTML");
+        try {
+            if (CALLER_RUNS_LENGTH > markdownText.length()) {
+                // 短文本直接在调用线程渲染，省去线程切换
+                CALLER_RUNS_CNT.increment();
 
-        final ExecutorService pool = Executors.newSingleThreadExecutor();
-        final long[] threadId = new long[1];
+                return render(markdownText, luteHTML, pipeline, cache, key, System.nanoTime());
+            }
 
-        final Callable<String> call = () -> {
-            threadId[0] = Thread.currentThread().getId();
+            final long submitted = System.nanoTime();
+            final Future<String> future;
+            try {
+                future = RENDER_POOL.submit(() -> render(markdownText, luteHTML, pipeline, cache, key, submitted));
+            } catch (final RejectedExecutionException e) {
+                // 队列已满时由调用线程渲染，请求线程被占用从而形成背压
+                REJECTED_CNT.increment();
 
-            String html = null;
-            if (LUTE_AVAILABLE) {
+                return render(markdownText, luteHTML, pipeline, cache, key, System.nanoTime());
+            }
+
+            try {
+                return future.get(MD_TIMEOUT, TimeUnit.MILLISECONDS);
+            } catch (final TimeoutException e) {
+                // 中断渲染线程，渲染过程在各阶段之间检查中断标识后退出
+                future.cancel(true);
+                TIMEOUT_CNT.increment();
+                LOGGER.log(Level.ERROR, "Markdown timeout [md=" + markdownText + "]");
+                Callstacks.printCallstack(Level.ERROR, new String[]{"org.b3log"}, null);
+            } catch (final InterruptedException e) {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+            }
+        } catch (final Exception e) {
+            LOGGER.log(Level.ERROR, "Markdown failed [md=" + markdownText + "]", e);
+        } finally {
+            Stopwatchs.end();
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the render statistics.
+     *
+     * @return render statistics, for example,
+     * <pre>
+     * {
+     *     "renderCnt": long,
+     *     "callerRunsCnt": long,
+     *     "rejectedCnt": long,
+     *     "timeoutCnt": long,
+     *     "parallelCnt": long,
+     *     "avgQueueWaitMillis": double,
+     *     "avgRenderMillis": double,
+     *     "queueSize": int,
+     *     "activeCnt": int,
+     *     "lute": {
+     *         "circuit": "closed",
+     *         ....
+     *     }
+     * }
+     * </pre>
+     */
+    public static JSONObject getRenderStats() {
+        final long renderCnt = RENDER_CNT.sum();
+        final double nanosPerMilli = TimeUnit.MILLISECONDS.toNanos(1);
+
+        return new JSONObject().
+                put("renderCnt", renderCnt).
+                put("callerRunsCnt", CALLER_RUNS_CNT.sum()).
+                put("rejectedCnt", REJECTED_CNT.sum()).
+                put("timeoutCnt", TIMEOUT_CNT.sum()).
+                put("parallelCnt", PARALLEL_CNT.sum()).
+                put("avgQueueWaitMillis", 0 == renderCnt ? 0 : QUEUE_WAIT_NANOS.sum() / nanosPerMilli / renderCnt).
+                put("avgRenderMillis", 0 == renderCnt ? 0 : RENDER_NANOS.sum() / nanosPerMilli / renderCnt).
+                put("queueSize", RENDER_POOL.getQueue().size()).
+                put("activeCnt", RENDER_POOL.getActiveCount()).
+                put("lute", LUTE_CLIENT.getStats());
+    }
+
+    /**
+     * Shutdowns the render pools and the Lute client.
+     */
+    public static void shutdown() {
+        RENDER_POOL.shutdownNow();
+        SEGMENT_POOL.shutdownNow();
+        LUTE_CLIENT.shutdown();
+    }
+
+    /**
+     * Renders the specified markdown text to HTML and caches it. Checks the interrupt flag between the render steps
+     * and on each node of the HTML post-processing walk, so that a timed out render stops soon.
+     *
+     * @param markdownText the specified markdown text
+     * @param luteHTML     the specified HTML already rendered by Lute, {@code null} if not rendered yet
+     * @param pipeline     the specified HTML post-processing pipeline, {@code null} to skip post-processing
+     * @param cache        the specified cache, {@code null} to skip caching
+     * @param key          the specified cache key
+     * @param submitted    the specified submitted time in nanoseconds
+     * @return HTML
+     */
+    private static String render(final String markdownText, final String luteHTML, final HtmlPipeline pipeline,
+                                 final MarkdownCache cache, final String key, final long submitted) {
+        final long start = System.nanoTime();
+        QUEUE_WAIT_NANOS.add(start - submitted);
+        try {
+            String html = luteHTML;
+            if (null == html && LUTE_AVAILABLE && LUTE_CLIENT.allowRequest()) {
                 try {
                     html = toHtmlByLute(markdownText);
                 } catch (final Exception e) {
@@ -172,158 +533,109 @@ public final class Markdowns {
             }
 
             if (StringUtils.isBlank(html)) {
+                checkInterrupted();
                 html = toHtmlByFlexmark(markdownText);
             }
 
-            final Document doc = Jsoup.parse(html);
-            doc.select("a").forEach(a -> {
-                final String src = a.attr("href");
-                if (!StringUtils.startsWithIgnoreCase(src, Latkes.getServePath()) && !StringUtils.startsWithIgnoreCase(src, "#")) {
-                    a.attr("target", "_blank");
-                }
-                a.removeAttr("id");
-            });
-
-
-            final List<Node> toRemove = new ArrayList<>();
-            doc.traverse(new NodeVisitor() {
-                @Override
-                public void head(final org.jsoup.nodes.Node node, int depth) {
-                    if (node instanceof org.jsoup.nodes.TextNode) {
-                        final org.jsoup.nodes.TextNode textNode = (org.jsoup.nodes.TextNode) node;
-                        final org.jsoup.nodes.Node parent = textNode.parent();
-
-                        if (parent instanceof Element) {
-                            final Element parentElem = (Element) parent;
-                            if (parentElem.tagName().equals("code") || parentElem.tagName().equals("pre")) {
-                                return;
-                            }
-
-                            if (parentElem.tagName().equals("span") && StringUtils.startsWithIgnoreCase(parentElem.attr("class"), "hljs")) {
-                                return;
-                            }
-
-                            String text = textNode.getWholeText();
-                            text = Emotions.convert(text);
-                            if (text.contains("@<a href=") || text.contains("<img")) {
-                                final List<org.jsoup.nodes.Node> nodes = Parser.parseFragment(text, parentElem, "");
-                                final int index = textNode.siblingIndex();
-                                parentElem.insertChildren(index, nodes);
-                                toRemove.add(node);
-                            } else {
-                                textNode.text(text);
-                            }
-                        }
-                    }
-                }
-
-                @Override
-                public void tail(org.jsoup.nodes.Node node, int depth) {
-                }
-            });
-
-            toRemove.forEach(Node::remove);
-
-            doc.outputSettings().prettyPrint(false);
-            Images.qiniuImgProcessing(doc);
-
-            String ret = doc.select("body").html();
-            ret = StringUtils.trim(ret);
+            checkInterrupted();
+            final String ret = null == pipeline ? html : pipeline.process(html).getHTML();
 
             // cache it
-            putHTML(markdownText, ret);
+            if (null != cache) {
+                cache.put(key, ret);
+            }
 
             return ret;
-        };
-
-        Stopwatchs.start("Md to HTML");
-        try {
-            final Future<String> future = pool.submit(call);
-
-            return future.get(MD_TIMEOUT, TimeUnit.MILLISECONDS);
-        } catch (final TimeoutException e) {
-            LOGGER.log(Level.ERROR, "Markdown timeout [md=" + markdownText + "]");
-            Callstacks.printCallstack(Level.ERROR, new String[]{"org.b3log"}, null);
-
-            final Set<Thread> threads = Thread.getAllStackTraces().keySet();
-            for (final Thread thread : threads) {
-                if (thread.getId() == threadId[0]) {
-                    thread.stop();
-                    break;
-                }
-            }
-        } catch (final Exception e) {
-            LOGGER.log(Level.ERROR, "Markdown failed [md=" + markdownText + "]", e);
         } finally {
-            pool.shutdownNow();
-
-            Stopwatchs.end();
+            RENDER_NANOS.add(System.nanoTime() - start);
+            RENDER_CNT.increment();
         }
-
-        return langPropsService.get("contentRenderFailedLabel");
     }
 
-    private static String toHtmlByLute(final String markdownText) throws Exception {
-        final URL url = new URL(LUTE_ENGINE_URL);
-        final HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-        conn.setRequestProperty("X-CodeSyntaxHighlightLineNum", String.valueOf(Markdowns.SHOW_CODE_BLOCK_LN));
-        conn.setRequestProperty("X-Footnotes", String.valueOf(Markdowns.FOOTNOTES));
-        conn.setRequestProperty("X-ToC", String.valueOf(Markdowns.SHOW_TOC));
-        conn.setRequestProperty("X-AutoSpace", String.valueOf(Markdowns.AUTO_SPACE));
-        conn.setRequestProperty("X-FixTermTypo", String.valueOf(Markdowns.FIX_TERM_TYPO));
-        conn.setRequestProperty("X-ChinesePunct", String.valueOf(Markdowns.CHINESE_PUNCT));
-        conn.setRequestProperty("X-IMADAOM", String.valueOf(Markdowns.IMADAOM));
-        conn.setConnectTimeout(100);
-        conn.setReadTimeout(3000);
-        conn.setDoOutput(true);
-
-        try (final OutputStream outputStream = conn.getOutputStream()) {
-            IOUtils.write(markdownText, outputStream, "UTF-8");
-        }
-
-        String ret;
-        try (final InputStream inputStream = conn.getInputStream()) {
-            ret = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+    /**
+     * Checks whether the current render is cancelled.
+     *
+     * @throws CancellationException if the current thread is interrupted
+     */
+    private static void checkInterrupted() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Markdown render cancelled");
         }
+    }
 
-        conn.disconnect();
-
-        return ret;
+    private static String toHtmlByLute(final String markdownText) throws Exception {
+        return LUTE_CLIENT.render(LUTE_ENGINE_URL, markdownText, getLuteHeaders());
     }
 
-    private static String toHtmlByFlexmark(final String markdownText) {
-        com.vladsch.flexmark.util.ast.Node document = PARSER.parse(markdownText);
+    private static Map<String, String> getLuteHeaders() {
+        final Map<String, String> ret = new HashMap<>();
+        ret.put("X-CodeSyntaxHighlightLineNum", String.valueOf(Markdowns.SHOW_CODE_BLOCK_LN));
+        ret.put("X-Footnotes", String.valueOf(Markdowns.FOOTNOTES));
+        ret.put("X-ToC", String.valueOf(Markdowns.SHOW_TOC));
+        ret.put("X-AutoSpace", String.valueOf(Markdowns.AUTO_SPACE));
+        ret.put("X-FixTermTypo", String.valueOf(Markdowns.FIX_TERM_TYPO));
+        ret.put("X-ChinesePunct", String.valueOf(Markdowns.CHINESE_PUNCT));
+        ret.put("X-IMADAOM", String.valueOf(Markdowns.IMADAOM));
 
-        return RENDERER.render(document);
+        return ret;
     }
 
     /**
-     * Gets HTML for the specified markdown text.
+     * Renders the specified markdown text by the built-in engine. Large text is split at the top level block
+     * boundaries by {@link MarkdownSplitter} and the segments are rendered in parallel, the concatenated HTML is the
+     * same as rendering the whole text.
      *
      * @param markdownText the specified markdown text
      * @return HTML
      */
-    private static String getHTML(final String markdownText) {
-        final String hash = DigestUtils.md5Hex(markdownText);
-        final JSONObject value = MD_CACHE.get(hash);
-        if (null == value) {
-            return null;
+    static String toHtmlByFlexmark(final String markdownText) {
+        if (PARALLEL_LENGTH > markdownText.length()) {
+            return toHtmlByFlexmarkSerial(markdownText);
+        }
+
+        final List<String> segments = MarkdownSplitter.split(markdownText, SEGMENT_LENGTH);
+        if (1 == segments.size()) {
+            return toHtmlByFlexmarkSerial(markdownText);
+        }
+
+        PARALLEL_CNT.increment();
+        final List<ForkJoinTask<String>> tasks = new ArrayList<>(segments.size());
+        for (final String segment : segments) {
+            tasks.add(SEGMENT_POOL.submit(() -> toHtmlByFlexmarkSerial(segment)));
+        }
+
+        final StringBuilder ret = new StringBuilder(markdownText.length() * 2);
+        try {
+            for (final ForkJoinTask<String> task : tasks) {
+                ret.append(task.get());
+            }
+        } catch (final InterruptedException e) {
+            tasks.forEach(task -> task.cancel(true));
+            Thread.currentThread().interrupt();
+
+            throw new CancellationException("Markdown render cancelled");
+        } catch (final ExecutionException e) {
+            tasks.forEach(task -> task.cancel(true));
+
+            throw new IllegalStateException("Renders markdown segment failed", e.getCause());
         }
 
-        return value.optString("data");
+        return ret.toString();
     }
 
-    /**
-     * Puts the specified HTML into cache.
-     *
-     * @param markdownText the specified markdown text
-     * @param html         the specified HTML
-     */
-    private static void putHTML(final String markdownText, final String html) {
-        final String hash = DigestUtils.md5Hex(markdownText);
-        final JSONObject value = new JSONObject();
-        value.put("data", html);
-        MD_CACHE.put(hash, value);
+    static String toHtmlByFlexmarkSerial(final String markdownText) {
+        com.vladsch.flexmark.util.ast.Node document = PARSER.parse(markdownText);
+
+        return RENDERER.render(document);
+    }
+
+    private static long getLongConf(final String name, final long defaultValue) {
+        final String value = Latkes.getLatkeProperty(name);
+        if (!Strings.isNumeric(value)) {
+            return defaultValue;
+        }
+
+        return Long.parseLong(value);
     }
 
     /**
@@ -26,7 +26,7 @@ import java.util.Map;
  * Mock utilities.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 1.0.0.1, Feb 28, 2020
+ * @version 1.0.1.0, Oct 16, 2026
  * @since 3.9.0
  */
 public final class Mocks {
@@ -36,16 +36,26 @@ public final class Mocks {
 
     public static String mockRequest(final String uri, final String scheme, final String host) {
         final Mocks.MockRequest request = Mocks.mockRequest0(uri, scheme, host);
-        if (StringUtils.contains(uri, "?")) {
-            final Map<String, String> params = new LinkedHashMap<>();
-            final String query = StringUtils.substringAfter(uri, "?");
-            String[] pairs = query.split("&");
-            for (String pair : pairs) {
-                int idx = pair.indexOf("=");
-                params.put(URLs.decode(pair.substring(0, idx)), URLs.decode(pair.substring(idx + 1)));
-            }
-            request.setParams(params);
-        }
+        mockParams(request, uri);
+
+        final Mocks.MockResponse response = Mocks.mockResponse();
+        Mocks.mockDispatcher(request, response);
+
+        return response.getString();
+    }
+
+    /**
+     * Mocks a GET request with the specified URI and headers, keeps the current serve scheme and host.
+     *
+     * @param uri     the specified URI, may contain query string
+     * @param headers the specified headers, for example User-Agent
+     * @return response content
+     */
+    public static String mockRequest(final String uri, final Map<String, String> headers) {
+        final FullHttpRequest req = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri);
+        headers.forEach((name, value) -> req.headers().set(name, value));
+        final Mocks.MockRequest request = new MockRequest(req);
+        mockParams(request, uri);
 
         final Mocks.MockResponse response = Mocks.mockResponse();
         Mocks.mockDispatcher(request, response);
@@ -53,6 +63,24 @@ public final class Mocks {
         return response.getString();
     }
 
+    private static void mockParams(final Request request, final String uri) {
+        if (!StringUtils.contains(uri, "?")) {
+            return;
+        }
+
+        final Map<String, String> params = new LinkedHashMap<>();
+        final String query = StringUtils.substringAfter(uri, "?");
+        String[] pairs = query.split("&");
+        for (String pair : pairs) {
+            int idx = pair.indexOf("=");
+            if (-1 == idx) {
+                continue;
+            }
+            params.put(URLs.decode(pair.substring(0, idx)), URLs.decode(pair.substring(idx + 1)));
+        }
+        request.setParams(params);
+    }
+
     private static void mockDispatcher(final Request request, final Response response) {
         new MockDispatcher().handle(request, response);
     }
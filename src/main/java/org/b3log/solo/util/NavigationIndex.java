@@ -0,0 +1,253 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.util;
+
+import org.b3log.latke.Keys;
+import org.b3log.solo.model.Article;
+import org.json.JSONObject;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory index of articles ordered by created time for previous and next article lookups.
+ * <p>
+ * Articles are kept in a skip list ordered by created time and then id, with the title, permalink and abstract needed
+ * by the navigation, so the neighbours of an article are found in O(log n). Reads are lock-free, writes are
+ * serialized.
+ * </p>
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.0, Oct 16, 2026
+ * @since 4.2.0
+ */
+public final class NavigationIndex {
+
+    /**
+     * Articles, key to navigation.
+     */
+    private final NavigableMap<Key, Node> articles = new ConcurrentSkipListMap<>();
+
+    /**
+     * Keys, article id to key.
+     */
+    private final Map<String, Key> keys = new ConcurrentHashMap<>();
+
+    /**
+     * Adds or replaces the article specified by the given id.
+     *
+     * @param id        the given id
+     * @param created   the specified created time
+     * @param title     the specified title
+     * @param permalink the specified permalink
+     * @param abstract_ the specified abstract
+     */
+    public synchronized void put(final String id, final long created, final String title, final String permalink, final String abstract_) {
+        final Key key = new Key(created, id);
+        final Key old = keys.put(id, key);
+        if (null != old && !old.equals(key)) {
+            articles.remove(old);
+        }
+
+        articles.put(key, new Node(title, permalink, abstract_));
+    }
+
+    /**
+     * Removes the article specified by the given id.
+     *
+     * @param id the given id
+     */
+    public synchronized void remove(final String id) {
+        final Key old = keys.remove(id);
+        if (null != old) {
+            articles.remove(old);
+        }
+    }
+
+    /**
+     * Removes all articles.
+     */
+    public synchronized void clear() {
+        articles.clear();
+        keys.clear();
+    }
+
+    /**
+     * Determines whether the article specified by the given id is in the index.
+     *
+     * @param id the given id
+     * @return {@code true} if it is in the index, returns {@code false} otherwise
+     */
+    public boolean contains(final String id) {
+        return keys.containsKey(id);
+    }
+
+    /**
+     * Gets the count of articles.
+     *
+     * @return count of articles
+     */
+    public int size() {
+        return keys.size();
+    }
+
+    /**
+     * Gets the previous (created earlier) article of the article specified by the given id.
+     *
+     * @param id the given id
+     * @return the previous article, for example,
+     * <pre>
+     * {
+     *     "oId": "",
+     *     "articleTitle": "",
+     *     "articlePermalink": "",
+     *     "articleAbstract": ""
+     * }
+     * </pre>
+     * returns {@code null} if not found or the specified article is not in the index
+     */
+    public JSONObject getPrevious(final String id) {
+        final Key key = keys.get(id);
+        if (null == key) {
+            return null;
+        }
+
+        return toJSONObject(articles.lowerEntry(key));
+    }
+
+    /**
+     * Gets the next (created later) article of the article specified by the given id.
+     *
+     * @param id the given id
+     * @return the next article, for example,
+     * <pre>
+     * {
+     *     "oId": "",
+     *     "articleTitle": "",
+     *     "articlePermalink": "",
+     *     "articleAbstract": ""
+     * }
+     * </pre>
+     * returns {@code null} if not found or the specified article is not in the index
+     */
+    public JSONObject getNext(final String id) {
+        final Key key = keys.get(id);
+        if (null == key) {
+            return null;
+        }
+
+        return toJSONObject(articles.higherEntry(key));
+    }
+
+    private static JSONObject toJSONObject(final Map.Entry<Key, Node> entry) {
+        if (null == entry) {
+            return null;
+        }
+
+        final Node node = entry.getValue();
+
+        return new JSONObject().
+                put(Keys.OBJECT_ID, entry.getKey().id).
+                put(Article.ARTICLE_TITLE, node.title).
+                put(Article.ARTICLE_PERMALINK, node.permalink).
+                put(Article.ARTICLE_ABSTRACT, node.abstract_);
+    }
+
+    /**
+     * Article node.
+     */
+    private static final class Node {
+
+        /**
+         * Title.
+         */
+        private final String title;
+
+        /**
+         * Permalink.
+         */
+        private final String permalink;
+
+        /**
+         * Abstract.
+         */
+        private final String abstract_;
+
+        /**
+         * Constructs a node with the specified title, permalink and abstract.
+         *
+         * @param title     the specified title
+         * @param permalink the specified permalink
+         * @param abstract_ the specified abstract
+         */
+        private Node(final String title, final String permalink, final String abstract_) {
+            this.title = title;
+            this.permalink = permalink;
+            this.abstract_ = abstract_;
+        }
+    }
+
+    /**
+     * Sort key, created time and then id.
+     */
+    private static final class Key implements Comparable<Key> {
+
+        /**
+         * Created time.
+         */
+        private final long created;
+
+        /**
+         * Article id.
+         */
+        private final String id;
+
+        /**
+         * Constructs a key with the specified created time and article id.
+         *
+         * @param created the specified created time
+         * @param id      the specified article id
+         */
+        private Key(final long created, final String id) {
+            this.created = created;
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(final Key other) {
+            final int ret = Long.compare(created, other.created);
+            if (0 != ret) {
+                return ret;
+            }
+
+            return id.compareTo(other.id);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+
+            final Key other = (Key) obj;
+
+            return created == other.created && id.equals(other.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(created) * 31 + id.hashCode();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.util;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory pool of ids for uniform random sampling without replacement.
+ * <p>
+ * Ids are kept in an array with their positions, so adding and removing (by swapping with the last one) are O(1), and
+ * sampling k ids with Floyd's algorithm is O(k).
+ * </p>
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.0, Oct 16, 2026
+ * @since 4.2.0
+ */
+public final class RandomSampler {
+
+    /**
+     * Ids.
+     */
+    private final List<String> ids = new ArrayList<>();
+
+    /**
+     * Positions, id to its index in {@link #ids}.
+     */
+    private final Map<String, Integer> positions = new HashMap<>();
+
+    /**
+     * Lock.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds the specified id.
+     *
+     * @param id the specified id
+     */
+    public void add(final String id) {
+        lock.writeLock().lock();
+        try {
+            if (positions.containsKey(id)) {
+                return;
+            }
+
+            positions.put(id, ids.size());
+            ids.add(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the specified id.
+     *
+     * @param id the specified id
+     */
+    public void remove(final String id) {
+        lock.writeLock().lock();
+        try {
+            final Integer position = positions.remove(id);
+            if (null == position) {
+                return;
+            }
+
+            final String last = ids.remove(ids.size() - 1);
+            if (position < ids.size()) {
+                ids.set(position, last);
+                positions.put(last, position);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces all ids with the specified ids.
+     *
+     * @param newIds the specified ids
+     */
+    public void reset(final Collection<String> newIds) {
+        lock.writeLock().lock();
+        try {
+            ids.clear();
+            positions.clear();
+            for (final String id : newIds) {
+                if (!positions.containsKey(id)) {
+                    positions.put(id, ids.size());
+                    ids.add(id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the count of ids.
+     *
+     * @return count of ids
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ids.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Samples the specified count of distinct ids uniformly.
+     *
+     * @param k the specified count
+     * @return ids in random order, all ids if the specified count is not less than the count of ids
+     */
+    public List<String> sample(final int k) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final List<String> ret = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            final int n = ids.size();
+            final int size = Math.min(Math.max(k, 0), n);
+            final Set<Integer> chosen = new HashSet<>();
+            for (int j = n - size; j < n; j++) {
+                final int t = random.nextInt(j + 1);
+                final int index = chosen.add(t) ? t : j;
+                chosen.add(index);
+                ret.add(ids.get(index));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // Floyd 算法选出的集合是均匀的，顺序不是，再打乱一次
+        Collections.shuffle(ret, random);
+
+        return ret;
+    }
+}
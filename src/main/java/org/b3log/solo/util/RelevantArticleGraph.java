@@ -0,0 +1,330 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.util;
+
+import org.b3log.latke.Keys;
+import org.b3log.solo.model.Article;
+import org.json.JSONObject;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory relevant articles graph by tag co-occurrence.
+ * <p>
+ * The relevance of two articles is the sum of the IDF (inverse document frequency) of their common tags, so a rare
+ * common tag counts more than a popular one. Each article keeps the ids of its top K relevant articles, which are
+ * recomputed for the articles sharing tags with an article when the article is put or removed.
+ * </p>
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.0, Oct 16, 2026
+ * @since 4.2.0
+ */
+public final class RelevantArticleGraph {
+
+    /**
+     * Max count of the relevant articles kept for an article.
+     */
+    private final int k;
+
+    /**
+     * Nodes, article id to node.
+     */
+    private final Map<String, Node> nodes = new HashMap<>();
+
+    /**
+     * Tag title to ids of the articles tagged with it.
+     */
+    private final Map<String, Set<String>> tagArticles = new HashMap<>();
+
+    /**
+     * Lock.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Constructs a graph keeps the specified max count of relevant articles for an article.
+     *
+     * @param k the specified max count
+     */
+    public RelevantArticleGraph(final int k) {
+        this.k = k;
+    }
+
+    /**
+     * Adds or replaces the article specified by the given id.
+     *
+     * @param id        the given id
+     * @param title     the specified title
+     * @param permalink the specified permalink
+     * @param tags      the specified tag titles
+     */
+    public void put(final String id, final String title, final String permalink, final Collection<String> tags) {
+        final String[] tagArray = new LinkedHashSet<>(tags).toArray(new String[0]);
+
+        lock.writeLock().lock();
+        try {
+            final Node old = nodes.get(id);
+            if (null != old && Arrays.equals(old.tags, tagArray)) {
+                // 标签未变，关系不变
+                nodes.put(id, new Node(title, permalink, tagArray, old.relevants));
+                return;
+            }
+
+            final Set<String> affected = new HashSet<>();
+            if (null != old) {
+                unlink(id, old.tags, affected);
+            }
+            nodes.put(id, new Node(title, permalink, tagArray, new String[0]));
+            for (final String tag : tagArray) {
+                final Set<String> ids = tagArticles.computeIfAbsent(tag, t -> new HashSet<>());
+                affected.addAll(ids);
+                ids.add(id);
+            }
+            affected.add(id);
+
+            for (final String affectedId : affected) {
+                nodes.get(affectedId).relevants = computeRelevants(affectedId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces all articles with the specified articles, computes the relevant articles once for all.
+     *
+     * @param articles the specified articles, for example,
+     *                 <pre>
+     *                 [{
+     *                     "oId": "",
+     *                     "articleTitle": "",
+     *                     "articlePermalink": "",
+     *                     "articleTagsRef": "tag1,tag2"
+     *                 }, ....]
+     *                 </pre>
+     */
+    public void putAll(final List<JSONObject> articles) {
+        lock.writeLock().lock();
+        try {
+            nodes.clear();
+            tagArticles.clear();
+            for (final JSONObject article : articles) {
+                final String id = article.optString(Keys.OBJECT_ID);
+                final String[] tags = splitTags(article.optString(Article.ARTICLE_TAGS_REF)).toArray(new String[0]);
+                nodes.put(id, new Node(article.optString(Article.ARTICLE_TITLE), article.optString(Article.ARTICLE_PERMALINK), tags, new String[0]));
+                for (final String tag : tags) {
+                    tagArticles.computeIfAbsent(tag, t -> new HashSet<>()).add(id);
+                }
+            }
+
+            for (final Map.Entry<String, Node> node : nodes.entrySet()) {
+                node.getValue().relevants = computeRelevants(node.getKey());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Splits the specified tags string.
+     *
+     * @param tagsRef the specified tags string, for example "tag1,tag2"
+     * @return tag titles, distinct and in order
+     */
+    public static Set<String> splitTags(final String tagsRef) {
+        final Set<String> ret = new LinkedHashSet<>();
+        for (final String tag : tagsRef.split(",")) {
+            if (!tag.trim().isEmpty()) {
+                ret.add(tag.trim());
+            }
+        }
+
+        return ret;
+    }
+
+    /**
+     * Removes the article specified by the given id.
+     *
+     * @param id the given id
+     */
+    public void remove(final String id) {
+        lock.writeLock().lock();
+        try {
+            final Node old = nodes.remove(id);
+            if (null == old) {
+                return;
+            }
+
+            final Set<String> affected = new HashSet<>();
+            unlink(id, old.tags, affected);
+            for (final String affectedId : affected) {
+                nodes.get(affectedId).relevants = computeRelevants(affectedId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all articles.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            nodes.clear();
+            tagArticles.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the count of articles.
+     *
+     * @return count of articles
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the relevant articles of the article specified by the given id.
+     *
+     * @param id   the given id
+     * @param size the specified max count of relevant articles
+     * @return relevant articles ordered by relevance descending, returns {@code null} if the article not found, for
+     * example,
+     * <pre>
+     * [{
+     *     "articleTitle": "",
+     *     "articlePermalink": ""
+     * }, ....]
+     * </pre>
+     */
+    public List<JSONObject> get(final String id, final int size) {
+        lock.readLock().lock();
+        try {
+            final Node node = nodes.get(id);
+            if (null == node) {
+                return null;
+            }
+
+            final List<JSONObject> ret = new ArrayList<>();
+            for (final String relevantId : node.relevants) {
+                if (size <= ret.size()) {
+                    break;
+                }
+
+                final Node relevant = nodes.get(relevantId);
+                ret.add(new JSONObject().
+                        put(Article.ARTICLE_TITLE, relevant.title).
+                        put(Article.ARTICLE_PERMALINK, relevant.permalink));
+            }
+
+            return ret;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void unlink(final String id, final String[] tags, final Set<String> affected) {
+        for (final String tag : tags) {
+            final Set<String> ids = tagArticles.get(tag);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                tagArticles.remove(tag);
+            } else {
+                affected.addAll(ids);
+            }
+        }
+    }
+
+    private String[] computeRelevants(final String id) {
+        final Map<String, Double> scores = new HashMap<>();
+        for (final String tag : nodes.get(id).tags) {
+            final Set<String> ids = tagArticles.get(tag);
+            final double idf = Math.log(1 + nodes.size() / (double) ids.size());
+            for (final String relevantId : ids) {
+                if (!relevantId.equals(id)) {
+                    scores.merge(relevantId, idf, Double::sum);
+                }
+            }
+        }
+
+        // 相关度相同时较新的文章在前
+        final List<Map.Entry<String, Double>> sorted = new ArrayList<>(scores.entrySet());
+        sorted.sort((e1, e2) -> {
+            final int ret = Double.compare(e2.getValue(), e1.getValue());
+            if (0 != ret) {
+                return ret;
+            }
+
+            return e2.getKey().compareTo(e1.getKey());
+        });
+
+        final String[] ret = new String[Math.min(k, sorted.size())];
+        for (int i = 0; i < ret.length; i++) {
+            ret[i] = sorted.get(i).getKey();
+        }
+
+        return ret;
+    }
+
+    /**
+     * Article node.
+     */
+    private static final class Node {
+
+        /**
+         * Title.
+         */
+        private final String title;
+
+        /**
+         * Permalink.
+         */
+        private final String permalink;
+
+        /**
+         * Tag titles.
+         */
+        private final String[] tags;
+
+        /**
+         * Ids of the top K relevant articles, ordered by relevance descending.
+         */
+        private String[] relevants;
+
+        /**
+         * Constructs a node with the specified title, permalink, tag titles and relevant article ids.
+         *
+         * @param title     the specified title
+         * @param permalink the specified permalink
+         * @param tags      the specified tag titles
+         * @param relevants the specified relevant article ids
+         */
+        private Node(final String title, final String permalink, final String[] tags, final String[] relevants) {
+            this.title = title;
+            this.permalink = permalink;
+            this.tags = tags;
+            this.relevants = relevants;
+        }
+    }
+}
@@ -0,0 +1,384 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.util;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index of articles for full-text search.
+ * <p>
+ * Latin letters and digits are tokenized into lower case words, CJK (Chinese, Japanese and Korean) text is tokenized
+ * into bigrams and unigrams. A document has three fields, title, tags and content, a term's frequency in a document
+ * is the sum of its frequencies in the fields weighted by the field boosts, and documents are ranked by BM25 over the
+ * weighted frequencies. All the terms of a query must match, the last Latin word of a query also matches as a prefix.
+ * </p>
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.1, Oct 16, 2026
+ * @since 4.2.0
+ */
+public final class SearchIndex {
+
+    /**
+     * Title boost.
+     */
+    static final float TITLE_BOOST = 3F;
+
+    /**
+     * Tags boost.
+     */
+    static final float TAGS_BOOST = 2F;
+
+    /**
+     * BM25 k1.
+     */
+    private static final float K1 = 1.2F;
+
+    /**
+     * BM25 b.
+     */
+    private static final float B = 0.75F;
+
+    /**
+     * Weight of the terms matched by prefix only.
+     */
+    private static final float PREFIX_WEIGHT = 0.5F;
+
+    /**
+     * Max terms a prefix of a query expands to, the terms contained in the most documents are kept.
+     */
+    private static final int MAX_PREFIX_EXPANSIONS = 32;
+
+    /**
+     * Max length of a word.
+     */
+    private static final int MAX_WORD_LENGTH = 64;
+
+    /**
+     * Documents, document id to document.
+     */
+    private final Map<String, Doc> docs = new HashMap<>();
+
+    /**
+     * Postings, term to ids of the documents containing the term.
+     */
+    private final NavigableMap<String, Set<String>> postings = new TreeMap<>();
+
+    /**
+     * Sum of the weighted lengths of all documents.
+     */
+    private double totalLength;
+
+    /**
+     * Lock.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds or replaces the document specified by the given id. A document updated later than the specified updated
+     * time is kept.
+     *
+     * @param id      the given id
+     * @param title   the specified title
+     * @param tags    the specified tags, separated by comma
+     * @param content the specified content
+     * @param updated the specified updated time
+     * @return {@code true} if added or replaced, returns {@code false} otherwise
+     */
+    public boolean put(final String id, final String title, final String tags, final String content, final long updated) {
+        final Map<String, Float> tfs = new HashMap<>();
+        float length = countTerms(title, TITLE_BOOST, tfs);
+        length += countTerms(tags, TAGS_BOOST, tfs);
+        length += countTerms(content, 1F, tfs);
+        final Doc doc = new Doc(tfs, length, updated);
+
+        lock.writeLock().lock();
+        try {
+            final Doc old = docs.get(id);
+            if (null != old && old.updated > updated) {
+                return false;
+            }
+
+            removeDoc(id);
+            docs.put(id, doc);
+            totalLength += length;
+            for (final String term : tfs.keySet()) {
+                postings.computeIfAbsent(term, t -> new HashSet<>()).add(id);
+            }
+
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the document specified by the given id.
+     *
+     * @param id the given id
+     */
+    public void remove(final String id) {
+        lock.writeLock().lock();
+        try {
+            removeDoc(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all documents.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            docs.clear();
+            postings.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the count of documents.
+     *
+     * @return count of documents
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Searches the specified query.
+     *
+     * @param query the specified query
+     * @return ids of the matched documents, ordered by score descending and then updated time descending, returns
+     * {@code null} if the query contains no searchable term (for example "++"), the caller should fall back to other ways
+     */
+    public List<String> search(final String query) {
+        final List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query, true)));
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        final Map<String, Float> scores = new HashMap<>();
+        final Map<String, Long> updateds = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            final double avgLength = docs.isEmpty() ? 1 : totalLength / docs.size();
+            for (int i = 0; i < terms.size(); i++) {
+                final String term = terms.get(i);
+                final Collection<String> variants = i == terms.size() - 1 && !isCJK(term.codePointAt(0)) ? expand(term) : Collections.singletonList(term);
+                final Map<String, Float> termScores = new HashMap<>();
+                for (final String variant : variants) {
+                    final Set<String> ids = postings.get(variant);
+                    if (null == ids) {
+                        continue;
+                    }
+
+                    final double idf = Math.log(1 + (docs.size() - ids.size() + 0.5) / (ids.size() + 0.5));
+                    for (final String id : ids) {
+                        if (0 < i && !scores.containsKey(id)) {
+                            continue;
+                        }
+
+                        final Doc doc = docs.get(id);
+                        final float tf = doc.tfs.get(variant);
+                        float score = (float) (idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * doc.length / avgLength)));
+                        if (!variant.equals(term)) {
+                            score *= PREFIX_WEIGHT;
+                        }
+                        termScores.merge(id, score, Math::max);
+                    }
+                }
+
+                // 所有词都需要命中
+                scores.keySet().retainAll(termScores.keySet());
+                for (final Map.Entry<String, Float> termScore : termScores.entrySet()) {
+                    scores.merge(termScore.getKey(), termScore.getValue(), Float::sum);
+                }
+                if (scores.isEmpty()) {
+                    return Collections.emptyList();
+                }
+            }
+
+            for (final String id : scores.keySet()) {
+                updateds.put(id, docs.get(id).updated);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        final List<String> ret = new ArrayList<>(scores.keySet());
+        ret.sort((id1, id2) -> {
+            final int ret1 = Float.compare(scores.get(id2), scores.get(id1));
+            if (0 != ret1) {
+                return ret1;
+            }
+
+            return Long.compare(updateds.get(id2), updateds.get(id1));
+        });
+
+        return ret;
+    }
+
+    /**
+     * Tokenizes the specified text.
+     *
+     * @param text  the specified text
+     * @param query whether the specified text is a query, a CJK run of a query is tokenized into bigrams only unless
+     *              it has only one character
+     * @return terms
+     */
+    static List<String> tokenize(final String text, final boolean query) {
+        final List<String> ret = new ArrayList<>();
+        if (null == text) {
+            return ret;
+        }
+
+        final String lowerCase = text.toLowerCase(Locale.ROOT);
+        final StringBuilder word = new StringBuilder();
+        final List<String> cjkRun = new ArrayList<>();
+        int i = 0;
+        while (i <= lowerCase.length()) {
+            final int codePoint = i < lowerCase.length() ? lowerCase.codePointAt(i) : ' ';
+            if (isCJK(codePoint)) {
+                addWord(word, ret);
+                cjkRun.add(new String(Character.toChars(codePoint)));
+            } else {
+                addCJKRun(cjkRun, query, ret);
+                if (Character.isLetterOrDigit(codePoint)) {
+                    word.appendCodePoint(codePoint);
+                } else {
+                    addWord(word, ret);
+                }
+            }
+            i += Character.charCount(codePoint);
+        }
+
+        return ret;
+    }
+
+    private static void addWord(final StringBuilder word, final List<String> terms) {
+        if (0 < word.length() && MAX_WORD_LENGTH >= word.length()) {
+            terms.add(word.toString());
+        }
+        word.setLength(0);
+    }
+
+    private static void addCJKRun(final List<String> cjkRun, final boolean query, final List<String> terms) {
+        if (cjkRun.isEmpty()) {
+            return;
+        }
+
+        if (!query || 1 == cjkRun.size()) {
+            terms.addAll(cjkRun);
+        }
+        for (int i = 0; i < cjkRun.size() - 1; i++) {
+            terms.add(cjkRun.get(i) + cjkRun.get(i + 1));
+        }
+        cjkRun.clear();
+    }
+
+    private static boolean isCJK(final int codePoint) {
+        final Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+
+        return Character.UnicodeScript.HAN == script || Character.UnicodeScript.HIRAGANA == script
+                || Character.UnicodeScript.KATAKANA == script || Character.UnicodeScript.HANGUL == script;
+    }
+
+    private static float countTerms(final String text, final float boost, final Map<String, Float> tfs) {
+        final List<String> terms = tokenize(text, false);
+        for (final String term : terms) {
+            tfs.merge(term, boost, Float::sum);
+        }
+
+        return terms.size() * boost;
+    }
+
+    private Collection<String> expand(final String prefix) {
+        // 按文档频率保留前缀扩展词，避免短前缀只取到字典序靠前的冷门词
+        final Comparator<String> byFrequency = Comparator.comparingInt(term -> postings.get(term).size());
+        final PriorityQueue<String> top = new PriorityQueue<>(MAX_PREFIX_EXPANSIONS + 1, byFrequency);
+        for (final String term : postings.subMap(prefix, false, prefix + Character.MAX_VALUE, false).keySet()) {
+            top.offer(term);
+            if (MAX_PREFIX_EXPANSIONS - 1 < top.size()) {
+                top.poll();
+            }
+        }
+
+        final List<String> ret = new ArrayList<>(top);
+        if (postings.containsKey(prefix)) {
+            ret.add(prefix);
+        }
+
+        return ret;
+    }
+
+    private void removeDoc(final String id) {
+        final Doc doc = docs.remove(id);
+        if (null == doc) {
+            return;
+        }
+
+        totalLength -= doc.length;
+        for (final String term : doc.tfs.keySet()) {
+            final Set<String> ids = postings.get(term);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    /**
+     * Indexed document.
+     */
+    private static final class Doc {
+
+        /**
+         * Weighted term frequencies, term to frequency.
+         */
+        private final Map<String, Float> tfs;
+
+        /**
+         * Weighted length.
+         */
+        private final float length;
+
+        /**
+         * Updated time.
+         */
+        private final long updated;
+
+        /**
+         * Constructs a document with the specified weighted term frequencies, weighted length and updated time.
+         *
+         * @param tfs     the specified weighted term frequencies
+         * @param length  the specified weighted length
+         * @param updated the specified updated time
+         */
+        private Doc(final Map<String, Float> tfs, final float length, final long updated) {
+            this.tfs = tfs;
+            this.length = length;
+            this.updated = updated;
+        }
+    }
+}
@@ -19,8 +19,11 @@ import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.b3log.latke.Keys;
+import org.b3log.latke.Latkes;
 import org.b3log.latke.http.RequestContext;
+import org.b3log.latke.http.Response;
 import org.b3log.latke.util.Requests;
+import org.b3log.latke.util.Stopwatchs;
 import org.b3log.latke.util.Strings;
 import org.b3log.solo.model.Article;
 import org.b3log.solo.processor.SkinRenderer;
@@ -30,12 +33,14 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Arrays;
-import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.TimeUnit;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -43,7 +48,7 @@ import java.util.zip.GZIPOutputStream;
  * Static utilities. 页面静态化 https://github.com/88250/solo/issues/107
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 1.0.1.1, May 23, 2020
+ * @version 1.2.2.9, Oct 16, 2026
  * @since 4.1.0
  */
 public final class Statics {
@@ -60,6 +65,179 @@ public final class Statics {
 
     private static File DIR;
 
+    /**
+     * In-memory tier in front of the cache dir, holds gzipped HTML, in access order.
+     */
+    private static final Map<String, Entry> MEMORY = new LinkedHashMap<>(256, 0.75f, true);
+
+    /**
+     * Max total bytes of the in-memory tier, configured by latke.properties "staticCacheMemoryBytes", default is 32MB.
+     */
+    private static final long MEMORY_CAPACITY;
+
+    /**
+     * Current total bytes of the in-memory tier.
+     */
+    private static long memoryBytes;
+
+    /**
+     * Dependency of all pages, evicts it equals to {@link #clear()}.
+     */
+    public static final String DEP_ALL = "*";
+
+    /**
+     * Dependency of index pages and other whole-blog article listings.
+     */
+    public static final String DEP_INDEX = "index";
+
+    /**
+     * Dependency of the site-wide data rendered into every page (header, side and footer), for example statistic,
+     * most used tags, archive dates and recent articles.
+     */
+    public static final String DEP_SITE = "site";
+
+    /**
+     * Dependency of search result pages, which may match any published article.
+     */
+    public static final String DEP_SEARCH = "search";
+
+    /**
+     * Dependency prefix of an article, for example "article:1589865200000".
+     */
+    public static final String DEP_ARTICLE = "article:";
+
+    /**
+     * Dependency prefix of a tag.
+     */
+    public static final String DEP_TAG = "tag:";
+
+    /**
+     * Dependency prefix of a category.
+     */
+    public static final String DEP_CATEGORY = "category:";
+
+    /**
+     * Dependency prefix of an archive month, for example "archive:2020/05".
+     */
+    public static final String DEP_ARCHIVE = "archive:";
+
+    /**
+     * Request context attribute name of the dependencies collected while rendering.
+     */
+    private static final String DEPENDENCIES = "staticDependencies";
+
+    /**
+     * Dependency graph, &lt;dependency, keys&gt;.
+     */
+    private static final Map<String, Set<String>> DEPENDENCY_KEYS = new HashMap<>();
+
+    /**
+     * Dependency graph, &lt;key, dependencies&gt;.
+     */
+    private static final Map<String, Set<String>> KEY_DEPENDENCIES = new HashMap<>();
+
+    /**
+     * Time of the latest eviction, pages rendered by requests started before it will not be cached. It is also the
+     * time rendering inputs changed lastly, so it starts with the startup time.
+     */
+    private static volatile long lastEvicted = System.currentTimeMillis();
+
+    /**
+     * Generation of the site-wide rendering inputs, increases once the cache cleared or {@link #DEP_SITE} evicted, data
+     * derived from the inputs (site snapshot for example) should be rebuilt once it changed.
+     */
+    private static final AtomicLong GENERATION = new AtomicLong();
+
+    /**
+     * Max time to serve an expired page while revalidating it in background, configured by latke.properties
+     * "staticCacheMaxStaleMillis", default is 1 day.
+     */
+    private static final long MAX_STALE;
+
+    /**
+     * Background revalidation executor.
+     */
+    private static final ThreadPoolExecutor REVALIDATOR;
+
+    /**
+     * Keys being revalidated.
+     */
+    private static final Set<String> REVALIDATING_KEYS = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Whether the current thread is revalidating.
+     */
+    private static final ThreadLocal<Boolean> REVALIDATING = new ThreadLocal<>();
+
+    /**
+     * Pages being rendered, &lt;key, latch&gt;.
+     */
+    private static final Map<String, CountDownLatch> RENDERING = new ConcurrentHashMap<>();
+
+    /**
+     * Request context attribute name of the key of the page being rendered.
+     */
+    private static final String RENDERING_KEY = "staticRenderingKey";
+
+    /**
+     * Request context attribute name of the latch of the page being rendered.
+     */
+    private static final String RENDERING_LATCH = "staticRenderingLatch";
+
+    /**
+     * Max time to wait for the page being rendered by another request, falls back to rendering it after that.
+     */
+    private static final long COALESCE_TIMEOUT = 500;
+
+    /**
+     * Request context attribute name of the flag indicating the page is rendered by a route which stores its pages.
+     */
+    private static final String RENDERING_STORABLE = "staticRenderingStorable";
+
+    /**
+     * Keys of the pages rendered without storing (feeds and sitemap for example), misses of them are not coalesced.
+     * Removed once stored, cleared once full.
+     */
+    private static final Set<String> UNSTORED_KEYS = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Max count of {@link #UNSTORED_KEYS}.
+     */
+    private static final int UNSTORED_KEYS_CAPACITY = 1024;
+
+    /**
+     * Listeners invoked after the cache cleared or the index or site-wide pages evicted.
+     */
+    private static final List<Runnable> EVICT_LISTENERS = new CopyOnWriteArrayList<>();
+
+    static {
+        final AtomicInteger threadNum = new AtomicInteger();
+        REVALIDATOR = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(128), runnable -> {
+            final Thread ret = new Thread(runnable, "StaticRevalidate-" + threadNum.incrementAndGet());
+            ret.setDaemon(true);
+
+            return ret;
+        });
+    }
+
+    static {
+        long maxStale = TimeUnit.DAYS.toMillis(1);
+        final String maxStaleConf = Latkes.getLatkeProperty("staticCacheMaxStaleMillis");
+        if (Strings.isNumeric(maxStaleConf)) {
+            maxStale = Long.parseLong(maxStaleConf);
+        }
+        MAX_STALE = maxStale;
+    }
+
+    static {
+        long memoryCapacity = 32 * 1024 * 1024;
+        final String memoryCapacityConf = Latkes.getLatkeProperty("staticCacheMemoryBytes");
+        if (Strings.isNumeric(memoryCapacityConf)) {
+            memoryCapacity = Long.parseLong(memoryCapacityConf);
+        }
+        MEMORY_CAPACITY = memoryCapacity;
+    }
+
     static {
         final String userHome = System.getProperty("user.home");
         final Path staticCache = Paths.get(userHome, ".solo", "static-cache");
@@ -68,6 +246,8 @@ public final class Statics {
             try {
                 FileUtils.forceMkdir(new File(staticDir));
                 DIR = new File(staticDir);
+                // 依赖关系仅保存在内存中，无法选择性失效上次运行遗留的文件
+                FileUtils.cleanDirectory(DIR);
             } catch (final Exception e) {
                 LOGGER.log(Level.ERROR, "Creates static cache dir failed", e);
             }
@@ -75,46 +255,180 @@ public final class Statics {
     }
 
     /**
-     * Gets static HTML.
+     * Gets static page. An expired page is still returned within the max stale time and it will be revalidated in
+     * background.
      *
      * @param context the specified context
-     * @return HTML, returns {@code null} if not found
+     * @return page, returns {@code null} if not found
      */
-    public static String get(final RequestContext context) {
-        if (Solos.GEN_STATIC_SITE) {
-            // 生成静态站点时不走缓存
+    public static Entry get(final RequestContext context) {
+        final String key = cacheableKey(context);
+        if (null == key) {
             return null;
         }
 
-        if (Solos.isLoggedIn(context)) {
-            // 登录用户不走缓存
-            return null;
+        Entry ret = getMemory(key);
+        if (null == ret) {
+            final File file = Paths.get(DIR.getAbsolutePath(), key).toFile();
+            if (!file.exists()) {
+                return null;
+            }
+
+            ret = readFile(file, file.lastModified());
+            if (null == ret) {
+                return null;
+            }
+            putMemory(key, ret);
         }
 
-        final String remoteAddr = Requests.getRemoteAddr(context.getRequest());
-        if (Strings.isIPv4(remoteAddr)) {
-            // 直接用 IP 访问不走缓存
+        final long age = System.currentTimeMillis() - ret.created;
+        if (EXPIRED > age) {
+            return ret;
+        }
+
+        if (EXPIRED + MAX_STALE <= age) {
+            removeMemory(key);
             return null;
         }
 
-        final String key = key(context);
-        if (null == key) {
+        // 过期后继续返回旧页面，同时在后台重新生成
+        revalidate(context, key);
+
+        return ret;
+    }
+
+    /**
+     * Waits for the page of the specified context being rendered by another request, should be called after
+     * {@link #get(RequestContext)} missed. If no other request is rendering it, the current request becomes the
+     * renderer and other requests for the same page will wait for it until {@link #release(RequestContext) released}.
+     * Misses of the pages rendered without storing are not coalesced.
+     *
+     * @param context the specified context
+     * @return page rendered by another request, returns {@code null} if the current request should render it
+     */
+    public static Entry await(final RequestContext context) {
+        final String key = cacheableKey(context);
+        if (null == key || UNSTORED_KEYS.contains(key)) {
             return null;
         }
 
-        final Path path = Paths.get(DIR.getAbsolutePath(), key);
-        final File file = path.toFile();
-        if (!file.exists()) {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final CountDownLatch rendering = RENDERING.putIfAbsent(key, latch);
+        if (null == rendering) {
+            context.attr(RENDERING_KEY, key);
+            context.attr(RENDERING_LATCH, latch);
             return null;
         }
 
-        final long now = System.currentTimeMillis();
-        final long lastModified = file.lastModified();
-        if (EXPIRED <= now - lastModified) {
+        try {
+            if (!rendering.await(COALESCE_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                LOGGER.log(Level.DEBUG, "Waits for static page [uri={}] rendering timeout", context.requestURI());
+                return null;
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
             return null;
         }
 
-        return readFile(file);
+        return get(context);
+    }
+
+    /**
+     * Wakes up the requests waiting for the page rendered by the specified context, it is safe to call more than once.
+     *
+     * @param context the specified context
+     */
+    public static void release(final RequestContext context) {
+        final String key = (String) context.attr(RENDERING_KEY);
+        final CountDownLatch latch = (CountDownLatch) context.attr(RENDERING_LATCH);
+        if (null == key || null == latch) {
+            return;
+        }
+
+        if (RENDERING.remove(key, latch) && null == context.attr(RENDERING_STORABLE)) {
+            // 该路由不写入缓存（比如 Feed），等待其渲染结果没有意义
+            if (UNSTORED_KEYS.size() >= UNSTORED_KEYS_CAPACITY) {
+                UNSTORED_KEYS.clear();
+            }
+            UNSTORED_KEYS.add(key);
+        }
+        latch.countDown();
+    }
+
+    /**
+     * Re-renders the page of the specified context in background, the new page replaces the stale one after rendered.
+     *
+     * @param context the specified context
+     * @param key     the specified key
+     */
+    private static void revalidate(final RequestContext context, final String key) {
+        if (!REVALIDATING_KEYS.add(key)) {
+            return;
+        }
+
+        String uri = context.requestURI();
+        final String queryStr = context.requestQueryStr();
+        if (StringUtils.isNotBlank(queryStr)) {
+            uri += "?" + queryStr;
+        }
+        final Map<String, String> headers = new HashMap<>();
+        final String userAgent = context.header("User-Agent");
+        if (StringUtils.isNotBlank(userAgent)) {
+            // 移动端页面需要通过 User-Agent 识别
+            headers.put("User-Agent", userAgent);
+        }
+
+        final String requestURI = uri;
+        try {
+            REVALIDATOR.execute(() -> {
+                REVALIDATING.set(true);
+                try {
+                    Mocks.mockRequest(requestURI, headers);
+                    LOGGER.log(Level.DEBUG, "Revalidated static page [uri={}]", requestURI);
+                } catch (final Exception e) {
+                    LOGGER.log(Level.ERROR, "Revalidates static page [uri=" + requestURI + "] failed", e);
+                } finally {
+                    REVALIDATING.remove();
+                    REVALIDATING_KEYS.remove(key);
+                    Stopwatchs.release();
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            // 队列已满，下次访问时再重新生成
+            REVALIDATING_KEYS.remove(key);
+        }
+    }
+
+    /**
+     * Shutdowns background revalidation.
+     */
+    public static void shutdown() {
+        REVALIDATOR.shutdownNow();
+    }
+
+    /**
+     * Sends the specified cached page. Answers 304 if the client's copy is still fresh, sends the gzipped bytes as-is
+     * if the client accepts gzip, otherwise sends the decompressed HTML.
+     *
+     * @param context the specified context
+     * @param page    the specified cached page
+     */
+    public static void send(final RequestContext context, final Entry page) {
+        if (Conditionals.isNotModified(context, page.etag, page.created)) {
+            Conditionals.sendNotModified(context);
+            return;
+        }
+
+        final Response response = context.getResponse();
+        response.setContentType("text/html; charset=utf-8");
+        response.setHeader("Vary", "Accept-Encoding");
+        if (StringUtils.containsIgnoreCase(context.header("Accept-Encoding"), "gzip")) {
+            response.setHeader("Content-Encoding", "gzip");
+            response.sendBytes(page.data);
+        } else {
+            context.sendString(toHTML(page));
+        }
+        context.abort();
     }
 
     /**
@@ -122,6 +436,7 @@ public final class Statics {
      *
      * @param context the specified context
      */
+    @SuppressWarnings("unchecked")
     public static void put(final RequestContext context) {
         if (Solos.GEN_STATIC_SITE) {
             // 生成静态站点时不走缓存
@@ -137,11 +452,24 @@ public final class Statics {
         if (null == key) {
             return;
         }
+        context.attr(RENDERING_STORABLE, true);
+        UNSTORED_KEYS.remove(key);
+
+        final Long startTime = (Long) context.attr(Keys.HttpRequest.START_TIME_MILLIS);
+        if (null != startTime && startTime <= lastEvicted) {
+            // 渲染期间发生了失效，内容可能已经过时
+            return;
+        }
+
+        final long now = System.currentTimeMillis();
+        final Entry cached = getMemory(key);
+        if (null != cached && EXPIRED > now - cached.created) {
+            return;
+        }
 
         final Path path = Paths.get(DIR.getAbsolutePath(), key);
         final File file = path.toFile();
-        if (file.exists()) {
-            final long now = System.currentTimeMillis();
+        if (null == cached && file.exists()) {
             final long lastModified = file.lastModified();
             if (EXPIRED > now - lastModified) {
                 return;
@@ -150,42 +478,154 @@ public final class Statics {
 
         try {
             final byte[] html = context.getResponse().getBytes();
-            byte[] commpressed = gzip(html);
+            final byte[] commpressed = gzip(html);
             if (null == commpressed) {
-                commpressed = html;
+                return;
             }
-            FileUtils.writeByteArrayToFile(path.toFile(), commpressed);
+            final String etag = Conditionals.etag(new String(html, StandardCharsets.UTF_8));
+            putMemory(key, new Entry(commpressed, etag, now));
+            // 先写临时文件再替换，避免并发读到写了一半的文件
+            final File tmp = Paths.get(DIR.getAbsolutePath(), key + "." + Thread.currentThread().getId() + ".tmp").toFile();
+            FileUtils.writeByteArrayToFile(tmp, commpressed);
+            Files.move(tmp.toPath(), path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            link(key, (Set<String>) context.attr(DEPENDENCIES));
         } catch (final Exception e) {
             LOGGER.log(Level.ERROR, "Writes static file failed", e);
         }
     }
 
     /**
-     * Clears all files under ~/.solo/static-cache.
+     * Records the specified dependencies of the page being rendered with the specified context.
+     *
+     * @param context      the specified context
+     * @param dependencies the specified dependencies, for example {@link #DEP_INDEX}, {@link #DEP_ARTICLE} + articleId
+     */
+    @SuppressWarnings("unchecked")
+    public static void depend(final RequestContext context, final String... dependencies) {
+        Set<String> deps = (Set<String>) context.attr(DEPENDENCIES);
+        if (null == deps) {
+            deps = new HashSet<>();
+            context.attr(DEPENDENCIES, deps);
+        }
+        deps.addAll(Arrays.asList(dependencies));
+    }
+
+    /**
+     * Evicts the pages depend on any of the specified dependencies, then notifies the
+     * {@link #addEvictListener(Runnable) evict listeners} if {@link #DEP_INDEX} or {@link #DEP_SITE} evicted.
+     *
+     * @param dependencies the specified dependencies
+     */
+    public static void evict(final Collection<String> dependencies) {
+        if (dependencies.contains(DEP_ALL)) {
+            clear();
+            return;
+        }
+
+        lastEvicted = System.currentTimeMillis();
+        if (dependencies.contains(DEP_SITE)) {
+            GENERATION.incrementAndGet();
+        }
+
+        final Set<String> keys = new HashSet<>();
+        synchronized (DEPENDENCY_KEYS) {
+            for (final String dependency : dependencies) {
+                final Set<String> dependents = DEPENDENCY_KEYS.get(dependency);
+                if (null != dependents) {
+                    keys.addAll(dependents);
+                }
+            }
+            keys.forEach(Statics::unlink);
+        }
+
+        for (final String key : keys) {
+            removeMemory(key);
+            if (null != DIR) {
+                FileUtils.deleteQuietly(Paths.get(DIR.getAbsolutePath(), key).toFile());
+            }
+        }
+        LOGGER.log(Level.DEBUG, "Evicted [{}] static pages by dependencies {}", keys.size(), dependencies);
+
+        if (dependencies.contains(DEP_INDEX) || dependencies.contains(DEP_SITE)) {
+            // 首页或者全站页面失效后大部分热点页面都需要重新渲染
+            notifyEvictListeners();
+        }
+    }
+
+    /**
+     * Gets the time of the latest eviction, the startup time if no eviction happened.
+     *
+     * @return time of the latest eviction
+     */
+    public static long getLastEvicted() {
+        return lastEvicted;
+    }
+
+    /**
+     * Gets the generation of the site-wide rendering inputs.
+     *
+     * @return generation
+     */
+    public static long getGeneration() {
+        return GENERATION.get();
+    }
+
+    /**
+     * Adds the specified listener invoked after the cache cleared or {@link #DEP_INDEX} or {@link #DEP_SITE} evicted,
+     * for example to warm up the cache again.
+     *
+     * @param listener the specified listener
+     */
+    public static void addEvictListener(final Runnable listener) {
+        EVICT_LISTENERS.add(listener);
+    }
+
+    /**
+     * Clears the in-memory tier and all files under ~/.solo/static-cache, then notifies the
+     * {@link #addEvictListener(Runnable) evict listeners}.
      */
     public static void clear() {
+        lastEvicted = System.currentTimeMillis();
+        GENERATION.incrementAndGet();
+
+        synchronized (DEPENDENCY_KEYS) {
+            DEPENDENCY_KEYS.clear();
+            KEY_DEPENDENCIES.clear();
+        }
+
+        synchronized (MEMORY) {
+            MEMORY.clear();
+            memoryBytes = 0;
+        }
+
         try {
             FileUtils.cleanDirectory(DIR);
         } catch (final Exception e) {
             LOGGER.log(Level.ERROR, "Clears static cached files failed", e);
         }
+
+        notifyEvictListeners();
     }
 
-    private static String readFile(final File file) {
+    private static void notifyEvictListeners() {
+        for (final Runnable listener : EVICT_LISTENERS) {
+            listener.run();
+        }
+    }
+
+    private static Entry readFile(final File file, final long lastModified) {
         try {
             final byte[] compressed = FileUtils.readFileToByteArray(file);
-            byte[] html = unGzip(compressed);
+            if (!isGzip(compressed)) {
+                return null;
+            }
+
+            final byte[] html = unGzip(compressed);
             if (null == html) {
-                html = compressed;
+                return null;
             }
-            final String content = new String(html, StandardCharsets.UTF_8);
-            final List<String> lines = Arrays.asList(content.split("\n"));
-            final long elapsed = ThreadLocalRandom.current().nextLong(64, 128);
-            final String dateString = DateFormatUtils.format(System.currentTimeMillis(), "yyyy/MM/dd HH:mm:ss");
-            final String lastLine = String.format(SkinRenderer.LATKE_INFO, elapsed, dateString);
-            lines.set(lines.size() - 1, lastLine);
-
-            return StringUtils.join(lines, "\n");
+
+            return new Entry(compressed, Conditionals.etag(new String(html, StandardCharsets.UTF_8)), lastModified);
         } catch (final Exception e) {
             LOGGER.log(Level.ERROR, "Reads static file failed", e);
         }
@@ -193,6 +633,131 @@ public final class Statics {
         return null;
     }
 
+    /**
+     * Decompresses the specified page and refreshes its last line (Latke generation info).
+     *
+     * @param page the specified page
+     * @return HTML
+     */
+    private static String toHTML(final Entry page) {
+        final byte[] html = unGzip(page.data);
+        if (null == html) {
+            return "";
+        }
+
+        final String content = new String(html, StandardCharsets.UTF_8);
+        final List<String> lines = Arrays.asList(content.split("\n"));
+        final long elapsed = ThreadLocalRandom.current().nextLong(64, 128);
+        final String dateString = DateFormatUtils.format(System.currentTimeMillis(), "yyyy/MM/dd HH:mm:ss");
+        final String lastLine = String.format(SkinRenderer.LATKE_INFO, elapsed, dateString);
+        lines.set(lines.size() - 1, lastLine);
+
+        return StringUtils.join(lines, "\n");
+    }
+
+    private static void link(final String key, final Set<String> dependencies) {
+        synchronized (DEPENDENCY_KEYS) {
+            unlink(key);
+            if (null == dependencies || dependencies.isEmpty()) {
+                return;
+            }
+
+            final Set<String> deps = new HashSet<>(dependencies);
+            KEY_DEPENDENCIES.put(key, deps);
+            for (final String dependency : deps) {
+                DEPENDENCY_KEYS.computeIfAbsent(dependency, d -> new HashSet<>()).add(key);
+            }
+        }
+    }
+
+    private static void unlink(final String key) {
+        final Set<String> deps = KEY_DEPENDENCIES.remove(key);
+        if (null == deps) {
+            return;
+        }
+
+        for (final String dependency : deps) {
+            final Set<String> keys = DEPENDENCY_KEYS.get(dependency);
+            if (null != keys) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    DEPENDENCY_KEYS.remove(dependency);
+                }
+            }
+        }
+    }
+
+    private static Entry getMemory(final String key) {
+        synchronized (MEMORY) {
+            return MEMORY.get(key);
+        }
+    }
+
+    private static void putMemory(final String key, final Entry page) {
+        final int size = page.data.length;
+        if (size > MEMORY_CAPACITY) {
+            return;
+        }
+
+        synchronized (MEMORY) {
+            final Entry old = MEMORY.put(key, page);
+            if (null != old) {
+                memoryBytes -= old.data.length;
+            }
+            memoryBytes += size;
+
+            final Iterator<Entry> eldest = MEMORY.values().iterator();
+            while (memoryBytes > MEMORY_CAPACITY && eldest.hasNext()) {
+                memoryBytes -= eldest.next().data.length;
+                eldest.remove();
+            }
+        }
+    }
+
+    private static void removeMemory(final String key) {
+        synchronized (MEMORY) {
+            final Entry old = MEMORY.remove(key);
+            if (null != old) {
+                memoryBytes -= old.data.length;
+            }
+        }
+    }
+
+    private static boolean isGzip(final byte[] data) {
+        return 2 <= data.length && (byte) 0x1f == data[0] && (byte) 0x8b == data[1];
+    }
+
+    /**
+     * Calculates key of the specified context if its page could be served from cache.
+     *
+     * @param context the specified context
+     * @return key, returns {@code null} if can not be served from cache
+     */
+    private static String cacheableKey(final RequestContext context) {
+        if (Solos.GEN_STATIC_SITE) {
+            // 生成静态站点时不走缓存
+            return null;
+        }
+
+        if (Solos.isLoggedIn(context)) {
+            // 登录用户不走缓存
+            return null;
+        }
+
+        final String remoteAddr = Requests.getRemoteAddr(context.getRequest());
+        if (Strings.isIPv4(remoteAddr)) {
+            // 直接用 IP 访问不走缓存
+            return null;
+        }
+
+        if (Boolean.TRUE.equals(REVALIDATING.get())) {
+            // 后台重新生成时不走缓存
+            return null;
+        }
+
+        return key(context);
+    }
+
     /**
      * Calculates key of the specified context.
      *
@@ -265,4 +830,42 @@ public final class Statics {
 
     private Statics() {
     }
+
+    /**
+     * Cached page.
+     *
+     * @author <a href="http://88250.b3log.org">Liang Ding</a>
+     * @version 1.0.1.0, Oct 16, 2026
+     * @since 4.2.0
+     */
+    public static final class Entry {
+
+        /**
+         * Gzipped HTML.
+         */
+        private final byte[] data;
+
+        /**
+         * ETag of the HTML.
+         */
+        private final String etag;
+
+        /**
+         * Created time.
+         */
+        private final long created;
+
+        /**
+         * Constructs a cached page with the specified gzipped HTML, ETag and created time.
+         *
+         * @param data    the specified gzipped HTML
+         * @param etag    the specified ETag
+         * @param created the specified created time
+         */
+        private Entry(final byte[] data, final String etag, final long created) {
+            this.data = data;
+            this.etag = etag;
+            this.created = created;
+        }
+    }
 }
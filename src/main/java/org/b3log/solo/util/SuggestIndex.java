@@ -0,0 +1,330 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.util;
+
+import org.b3log.latke.Keys;
+import org.json.JSONObject;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory prefix index for search suggestions.
+ * <p>
+ * Each entry, for example an article title or a tag title, is indexed under its lower case text and the suffixes of
+ * the text starting at word boundaries (every CJK character is a boundary) in a sorted map, so a query matches an
+ * entry if it is a prefix of the entry or of a word in the entry. All matched entries are ranked by weight in a heap
+ * bounded by the suggestion count. Reads are lock-free, writes are serialized.
+ * </p>
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.1, Oct 16, 2026
+ * @since 4.2.0
+ */
+public final class SuggestIndex {
+
+    /**
+     * Max length of the indexed text of an entry.
+     */
+    private static final int MAX_TEXT_LENGTH = 128;
+
+    /**
+     * Separator of the text and the entry id in a key, sorts before any character.
+     */
+    private static final char SEPARATOR = '\u0000';
+
+    /**
+     * Keys, suffix + separator + entry id to entry.
+     */
+    private final NavigableMap<String, Entry> keys = new ConcurrentSkipListMap<>();
+
+    /**
+     * Entries, entry id to entry.
+     */
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Estimated bytes of the keys and entries.
+     */
+    private volatile long bytes;
+
+    /**
+     * Adds or replaces the entry specified by the given id.
+     *
+     * @param id     the given id
+     * @param type   the specified type, for example "article"
+     * @param title  the specified title
+     * @param url    the specified url
+     * @param weight the specified weight
+     */
+    public synchronized void put(final String id, final String type, final String title, final String url, final long weight) {
+        final String text = normalize(title);
+        if (text.isEmpty()) {
+            remove(id);
+            return;
+        }
+
+        final Entry entry = new Entry(type, title, url, weight);
+        final Entry old = entries.put(id, entry);
+        if (null != old && old.title.equals(title)) {
+            // 只是权重变化，替换值即可
+            for (final String suffix : suffixes(text)) {
+                keys.put(suffix + SEPARATOR + id, entry);
+            }
+            bytes += sizeOf(entry) - sizeOf(old);
+            return;
+        }
+
+        if (null != old) {
+            removeKeys(id, old);
+        }
+        bytes += sizeOf(entry);
+        for (final String suffix : suffixes(text)) {
+            final String key = suffix + SEPARATOR + id;
+            keys.put(key, entry);
+            bytes += sizeOf(key);
+        }
+    }
+
+    /**
+     * Removes the entry specified by the given id.
+     *
+     * @param id the given id
+     */
+    public synchronized void remove(final String id) {
+        final Entry old = entries.remove(id);
+        if (null != old) {
+            removeKeys(id, old);
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public synchronized void clear() {
+        keys.clear();
+        entries.clear();
+        bytes = 0;
+    }
+
+    /**
+     * Gets the count of entries.
+     *
+     * @return count of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the count of keys.
+     *
+     * @return count of keys
+     */
+    public int keyCount() {
+        return keys.size();
+    }
+
+    /**
+     * Gets the estimated memory footprint in bytes.
+     *
+     * @return estimated bytes
+     */
+    public long memoryBytes() {
+        return bytes;
+    }
+
+    /**
+     * Suggests entries for the specified query.
+     *
+     * @param query the specified query
+     * @param size  the specified max count of suggestions
+     * @return suggestions ordered by weight descending, for example,
+     * <pre>
+     * [{
+     *     "oId": "",
+     *     "type": "",
+     *     "title": "",
+     *     "url": ""
+     * }, ....]
+     * </pre>
+     */
+    public List<JSONObject> suggest(final String query, final int size) {
+        final String prefix = normalize(query);
+        if (prefix.isEmpty() || 1 > size) {
+            return Collections.emptyList();
+        }
+
+        // 扫描全部匹配的键，用容量为 size 的小顶堆保留排名最前的条目
+        final Comparator<Map.Entry<String, Entry>> rank = SuggestIndex::compare;
+        final PriorityQueue<Map.Entry<String, Entry>> top = new PriorityQueue<>(size + 1, rank.reversed());
+        final Set<String> seen = new HashSet<>();
+        for (final Map.Entry<String, Entry> key : keys.subMap(prefix, true, prefix + Character.MAX_VALUE, false).entrySet()) {
+            final String k = key.getKey();
+            final String id = k.substring(k.lastIndexOf(SEPARATOR) + 1);
+            if (!seen.add(id)) {
+                continue;
+            }
+
+            top.offer(new AbstractMap.SimpleImmutableEntry<>(id, key.getValue()));
+            if (size < top.size()) {
+                top.poll();
+            }
+        }
+
+        final List<Map.Entry<String, Entry>> sorted = new ArrayList<>(top);
+        sorted.sort(rank);
+
+        final List<JSONObject> ret = new ArrayList<>();
+        for (final Map.Entry<String, Entry> e : sorted) {
+            final Entry entry = e.getValue();
+            ret.add(new JSONObject().
+                    put(Keys.OBJECT_ID, e.getKey()).
+                    put("type", entry.type).
+                    put("title", entry.title).
+                    put("url", entry.url));
+        }
+
+        return ret;
+    }
+
+    /**
+     * Compares the specified matched entries by rank, weight descending, then shorter title first, then id.
+     *
+     * @param e1 the specified matched entry 1
+     * @param e2 the specified matched entry 2
+     * @return a negative integer if e1 ranks before e2, zero if equal, a positive integer otherwise
+     */
+    private static int compare(final Map.Entry<String, Entry> e1, final Map.Entry<String, Entry> e2) {
+        int ret = Long.compare(e2.getValue().weight, e1.getValue().weight);
+        if (0 != ret) {
+            return ret;
+        }
+
+        ret = Integer.compare(e1.getValue().title.length(), e2.getValue().title.length());
+        if (0 != ret) {
+            return ret;
+        }
+
+        return e1.getKey().compareTo(e2.getKey());
+    }
+
+    /**
+     * Gets the suffixes of the specified normalized text starting at word boundaries.
+     *
+     * @param text the specified normalized text
+     * @return suffixes
+     */
+    static Set<String> suffixes(final String text) {
+        final Set<String> ret = new LinkedHashSet<>();
+        int prev = 0;
+        int i = 0;
+        while (i < text.length()) {
+            final int codePoint = text.codePointAt(i);
+            if (0 == i || (Character.isLetterOrDigit(codePoint)
+                    && (!Character.isLetterOrDigit(prev) || isCJK(prev) || isCJK(codePoint)))) {
+                ret.add(text.substring(i));
+            }
+            prev = codePoint;
+            i += Character.charCount(codePoint);
+        }
+
+        return ret;
+    }
+
+    /**
+     * Normalizes the specified text, lower case and collapses whitespaces.
+     *
+     * @param text the specified text
+     * @return normalized text
+     */
+    static String normalize(final String text) {
+        if (null == text) {
+            return "";
+        }
+
+        String ret = text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT).replace(SEPARATOR, ' ');
+        if (MAX_TEXT_LENGTH < ret.length()) {
+            ret = ret.substring(0, MAX_TEXT_LENGTH);
+        }
+
+        return ret;
+    }
+
+    private static boolean isCJK(final int codePoint) {
+        final Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+
+        return Character.UnicodeScript.HAN == script || Character.UnicodeScript.HIRAGANA == script
+                || Character.UnicodeScript.KATAKANA == script || Character.UnicodeScript.HANGUL == script;
+    }
+
+    private void removeKeys(final String id, final Entry old) {
+        bytes -= sizeOf(old);
+        for (final String suffix : suffixes(normalize(old.title))) {
+            final String key = suffix + SEPARATOR + id;
+            keys.remove(key);
+            bytes -= sizeOf(key);
+        }
+    }
+
+    private static long sizeOf(final String key) {
+        // 字符串对象 + 字符数组 + 跳表节点及索引
+        return 40 + 2L * key.length() + 48;
+    }
+
+    private static long sizeOf(final Entry entry) {
+        // 条目对象 + 标题、链接字符串 + 散列表节点
+        return 32 + 40 + 2L * entry.title.length() + 40 + 2L * entry.url.length() + 48;
+    }
+
+    /**
+     * Suggestion entry.
+     */
+    private static final class Entry {
+
+        /**
+         * Type.
+         */
+        private final String type;
+
+        /**
+         * Title.
+         */
+        private final String title;
+
+        /**
+         * URL.
+         */
+        private final String url;
+
+        /**
+         * Weight.
+         */
+        private final long weight;
+
+        /**
+         * Constructs an entry with the specified type, title, url and weight.
+         *
+         * @param type   the specified type
+         * @param title  the specified title
+         * @param url    the specified url
+         * @param weight the specified weight
+         */
+        private Entry(final String type, final String title, final String url, final long weight) {
+            this.type = type;
+            this.title = title;
+            this.url = url;
+            this.weight = weight;
+        }
+    }
+}
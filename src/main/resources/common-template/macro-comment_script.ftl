@@ -37,7 +37,9 @@
         "oId": "${oId}",
         "blogHost": "${blogHost}",
         "randomArticles1Label": "${randomArticles1Label}",
-        "externalRelevantArticles1Label": "${externalRelevantArticles1Label}"
+        "externalRelevantArticles1Label": "${externalRelevantArticles1Label}",
+        "moreCommentsLabel": "${moreCommentsLabel}",
+        "commentCursor": "${commentCursor!}"
     });
     $(document).ready(function () {
         page.load();
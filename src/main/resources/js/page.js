@@ -14,7 +14,7 @@
  *
  * @author <a href="http://vanessa.b3log.org">Liyuan Li</a>
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 2.8.0.1, Apr 30, 2020
+ * @version 2.9.0.0, Oct 16, 2026
  */
 window.Page = function (tips) {
   this.currentCommentId = ''
@@ -123,6 +123,48 @@ $.extend(Page.prototype, {
       that.submitComment()
     })
     that.vcomment()
+
+    // 第一页之后的评论按需加载
+    if (that.tips.commentCursor) {
+      $('#comments').after('<div id="soloCommentsMore" style="text-align: center;margin: 15px 0;cursor: pointer">' +
+        that.tips.moreCommentsLabel + '</div>')
+      $('#soloCommentsMore').click(function () {
+        that.loadMoreComments()
+      })
+    }
+  },
+  /*
+   * @description 加载下一页评论
+   */
+  loadMoreComments: function () {
+    var that = this,
+      $more = $('#soloCommentsMore')
+    if ($more.data('loading')) {
+      return
+    }
+
+    $more.data('loading', true)
+    $.ajax({
+      url: Label.servePath + '/article/id/' + that.tips.oId + '/comments?cursor=' +
+        encodeURIComponent(that.tips.commentCursor),
+      type: 'GET',
+      cache: false,
+      success: function (result) {
+        $more.data('loading', false)
+        if (!result.sc) {
+          return
+        }
+        $('#comments').append(result.cmtTpls.join(''))
+        Util.parseMarkdown()
+        that.tips.commentCursor = result.commentCursor
+        if (!that.tips.commentCursor) {
+          $more.remove()
+        }
+      },
+      error: function () {
+        $more.data('loading', false)
+      },
+    })
   },
   toggleEditor: function (commentId, name) {
     var $editor = $('#soloEditor')
@@ -25,11 +25,15 @@ import org.json.JSONObject;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * {@link UserRepository} test case.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 1.1.0.3, Feb 8, 2019
+ * @version 1.1.0.4, Oct 16, 2026
  */
 @Test(suiteName = "repository")
 public final class UserRepositoryImplTestCase extends AbstractTestCase {
@@ -70,5 +74,13 @@ public final class UserRepositoryImplTestCase extends AbstractTestCase {
         final JSONObject found = userRepository.getByUserName("test1");
         Assert.assertNotNull(found);
         Assert.assertEquals(found.getString(User.USER_NAME), "test1");
+
+        final String adminId = userRepository.getAdmin().getString(Keys.OBJECT_ID);
+        final String anotherId = found.getString(Keys.OBJECT_ID);
+        userRepository.get(adminId); // 一个命中缓存，一个查询
+        final Map<String, JSONObject> byIds = userRepository.getByIds(Arrays.asList(adminId, anotherId, "not.found"));
+        Assert.assertEquals(byIds.size(), 2);
+        Assert.assertEquals(byIds.get(anotherId).getString(User.USER_NAME), "test1");
+        Assert.assertTrue(userRepository.getByIds(Collections.emptyList()).isEmpty());
     }
 }
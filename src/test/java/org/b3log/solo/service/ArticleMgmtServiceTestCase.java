@@ -27,7 +27,7 @@ import java.util.List;
  * {@link ArticleMgmtService} test case.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 1.0.0.6, Sep 16, 2018
+ * @version 1.0.0.9, Oct 16, 2026
  */
 @Test(suiteName = "service")
 public class ArticleMgmtServiceTestCase extends AbstractTestCase {
@@ -62,6 +62,12 @@ public class ArticleMgmtServiceTestCase extends AbstractTestCase {
         final String articleId = articleMgmtService.addArticle(requestJSONObject);
 
         Assert.assertNotNull(articleId);
+
+        final JSONObject added = getArticleRepository().get(articleId);
+        Assert.assertEquals(added.optString(Article.ARTICLE_CONTENT_HTML), "<p>article1 content</p>");
+        Assert.assertEquals(added.optString(Article.ARTICLE_CONTENT_TOC), "[]");
+        Assert.assertEquals(added.optString(Article.ARTICLE_ABSTRACT_HTML), "<p>article1 abstract</p>");
+        Assert.assertEquals(added.optString(Article.ARTICLE_META_DESCRIPTION), "article1 abstract");
     }
 
     /**
@@ -237,26 +243,4 @@ public class ArticleMgmtServiceTestCase extends AbstractTestCase {
         articles = articleQueryService.getArticles(paginationRequest).optJSONArray(Article.ARTICLES);
         Assert.assertEquals(articles.length(), articleCount - 1);
     }
-
-    /**
-     * Update Articles Random Value.
-     *
-     * @throws Exception exception
-     */
-    @Test(dependsOnMethods = "addArticle")
-    public void updateArticlesRandomValue() throws Exception {
-        final ArticleMgmtService articleMgmtService = getArticleMgmtService();
-        final ArticleQueryService articleQueryService = getArticleQueryService();
-
-        List<JSONObject> articles = articleQueryService.getRecentArticles(10);
-        Assert.assertNotEquals(articles.size(), 0);
-
-        final JSONObject article = articles.get(0);
-        final String articleId = article.getString(Keys.OBJECT_ID);
-        double randomValue = article.getDouble(Article.ARTICLE_RANDOM_DOUBLE);
-        articleMgmtService.updateArticlesRandomValue(Integer.MAX_VALUE);
-
-        //Assert.assertNotEquals(articleQueryService.getArticleById(articleId).
-        //        getDouble(Article.ARTICLE_RANDOM_DOUBLE), randomValue);
-    }
 }
@@ -27,7 +27,7 @@ import java.util.List;
  * {@link CommentMgmtService} test case.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 1.0.0.4, Apr 18, 2019
+ * @version 1.0.0.5, Oct 16, 2026
  */
 @Test(suiteName = "service")
 public class CommentMgmtServiceTestCase extends AbstractTestCase {
@@ -66,6 +66,11 @@ public class CommentMgmtServiceTestCase extends AbstractTestCase {
         Assert.assertNotNull(addResult.getString(Comment.COMMENT_T_DATE));
         Assert.assertNotNull(addResult.getString(Comment.COMMENT_THUMBNAIL_URL));
         Assert.assertNotNull(addResult.getString(Comment.COMMENT_SHARP_URL));
+        Assert.assertEquals(addResult.getString(Comment.COMMENT_CONTENT), "<p>comment content</p>");
+
+        final JSONObject added = getCommentRepository().get(addResult.getString(Keys.OBJECT_ID));
+        Assert.assertEquals(added.optString(Comment.COMMENT_CONTENT_HTML), "<p>comment content</p>");
+        Assert.assertEquals(added.optString(Comment.COMMENT_NAME_HTML), "Solo");
 
         result = commentQueryService.getComments(paginationRequest);
 
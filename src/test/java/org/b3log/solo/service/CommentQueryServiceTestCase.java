@@ -19,18 +19,20 @@ import org.b3log.latke.Keys;
 import org.b3log.solo.AbstractTestCase;
 import org.b3log.solo.model.Article;
 import org.b3log.solo.model.Comment;
+import org.b3log.solo.model.Common;
 import org.b3log.solo.util.Solos;
 import org.json.JSONObject;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * {@link CommentQueryService} test case.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 1.0.0.1, Sep 11, 2012
+ * @version 1.0.1.0, Oct 16, 2026
  */
 @Test(suiteName = "service")
 public class CommentQueryServiceTestCase extends AbstractTestCase {
@@ -71,4 +73,36 @@ public class CommentQueryServiceTestCase extends AbstractTestCase {
         Assert.assertNotNull(comments);
         Assert.assertEquals(comments.size(), 1);
     }
+
+    /**
+     * Get Comment on id by cursor.
+     *
+     * @throws Exception exception
+     */
+    @Test(dependsOnMethods = "getCommentsOnId")
+    public void getCommentsByCursor() throws Exception {
+        final ArticleQueryService articleQueryService = getArticleQueryService();
+        final JSONObject article = articleQueryService.getArticles(Solos.buildPaginationRequest("1/10/20")).
+                getJSONArray(Article.ARTICLES).getJSONObject(0);
+        final String articleId = article.getString(Keys.OBJECT_ID);
+
+        final CommentQueryService commentQueryService = getCommentQueryService();
+        final List<String> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            final JSONObject result = commentQueryService.getComments(articleId, cursor, 1);
+            final List<JSONObject> comments = (List<JSONObject>) result.opt(Comment.COMMENTS);
+            Assert.assertTrue(1 >= comments.size());
+            for (final JSONObject comment : comments) {
+                ids.add(comment.getString(Keys.OBJECT_ID));
+            }
+            cursor = result.optString(Common.COMMENT_CURSOR);
+        } while (!cursor.isEmpty());
+
+        final List<String> expected = new ArrayList<>();
+        for (final JSONObject comment : commentQueryService.getComments(articleId)) {
+            expected.add(comment.getString(Keys.OBJECT_ID));
+        }
+        Assert.assertEquals(ids, expected);
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * {@link org.b3log.solo.util.Conditionals} test case.
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.0, Oct 16, 2026
+ * @since 4.2.0
+ */
+public final class ConditionalsTestCase {
+
+    /**
+     * Test method for {@linkplain Conditionals#etag(java.lang.String)}.
+     */
+    @Test
+    public void etag() {
+        final String html = "<html></html>";
+        final String etag = Conditionals.etag(html);
+        Assert.assertTrue(etag.startsWith("W/\""));
+        Assert.assertEquals(Conditionals.etag(html + "\n<!-- Generated by Latke (https://github.com/88250/latke) in 64ms, 2026/10/16 08:00:00 -->"), etag);
+        Assert.assertEquals(Conditionals.etag(html + "\n<!-- Generated by Latke (https://github.com/88250/latke) in 99ms, 2026/10/16 09:00:00 -->"), etag);
+        Assert.assertNotEquals(Conditionals.etag("<html> </html>"), etag);
+    }
+
+    /**
+     * Test method for {@linkplain Conditionals#matches(java.lang.String, java.lang.String)}.
+     */
+    @Test
+    public void matches() {
+        final String etag = Conditionals.etag(1602806400000L);
+        Assert.assertTrue(Conditionals.matches(etag, etag));
+        Assert.assertTrue(Conditionals.matches("\"a\", " + etag, etag));
+        Assert.assertTrue(Conditionals.matches(etag.substring(2), etag));
+        Assert.assertTrue(Conditionals.matches("*", etag));
+        Assert.assertFalse(Conditionals.matches("W/\"a\"", etag));
+        Assert.assertFalse(Conditionals.matches("", etag));
+        Assert.assertFalse(Conditionals.matches(etag, null));
+    }
+}
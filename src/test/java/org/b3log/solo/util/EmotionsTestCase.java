@@ -0,0 +1,48 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * {@link org.b3log.solo.util.Emotions} test case.
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.0, Oct 16, 2026
+ * @since 4.2.0
+ */
+public final class EmotionsTestCase {
+
+    /**
+     * Test method for {@linkplain Emotions#convert(String)}.
+     */
+    @Test
+    public void convert() {
+        Assert.assertEquals(Emotions.convert("Solo"), "Solo");
+        Assert.assertEquals(Emotions.convert("12:30:00"), "12:30:00");
+        Assert.assertEquals(Emotions.convert("::"), "::");
+
+        Assert.assertEquals(Emotions.convert(":huaji:"), img("huaji", ".gif"));
+        Assert.assertEquals(Emotions.convert("a:b3log:b:huaji::b3log:"),
+                "a" + img("b3log", ".png") + "b" + img("huaji", ".gif") + img("b3log", ".png"));
+
+        // 未知的表情码保持原样，其结束冒号可以作为下一个表情码的开始冒号
+        Assert.assertEquals(Emotions.convert(":unknown:b3log:"), ":unknown" + img("b3log", ".png"));
+        Assert.assertEquals(Emotions.convert("time 10:b3log: done:"), "time 10" + img("b3log", ".png") + " done:");
+    }
+
+    private static String img(final String emojiCode, final String suffix) {
+        return "<img alt=\"" + emojiCode + "\" class=\"emoji\" src=\"https://cdn.jsdelivr.net/npm/vditor/dist/images/emoji/"
+                + emojiCode + suffix + "\" title=\"" + emojiCode + "\" />";
+    }
+}
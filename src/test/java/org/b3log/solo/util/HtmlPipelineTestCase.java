@@ -0,0 +1,70 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.util;
+
+import org.b3log.latke.Latkes;
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * {@link org.b3log.solo.util.HtmlPipeline} test case.
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.0, Oct 16, 2026
+ * @since 4.2.0
+ */
+public final class HtmlPipelineTestCase {
+
+    @BeforeClass
+    public void beforeClass() {
+        Latkes.init();
+    }
+
+    /**
+     * Test method for {@linkplain HtmlPipeline#process(String)}.
+     */
+    @Test
+    public void process() {
+        final HtmlPipeline pipeline = new HtmlPipeline(HtmlPipeline.LINK_TARGET, HtmlPipeline.EMOJI, HtmlPipeline.TOC);
+        final HtmlPipeline.Result result = pipeline.process("<h2>Solo</h2><p><a id=\"x\" href=\"https://b3log.org\">B3log</a> <a href=\"#solo\">ToC</a> :huaji:</p><h3 id=\"#lute\">Lute</h3><p><code>:huaji:</code></p>");
+
+        final String html = result.getHTML();
+        Assert.assertTrue(html.contains("<a href=\"https://b3log.org\" target=\"_blank\">B3log</a>"));
+        Assert.assertTrue(html.contains("<a href=\"#solo\">ToC</a>"));
+        Assert.assertTrue(html.contains("<img alt=\"huaji\""));
+        Assert.assertTrue(html.contains("<code>:huaji:</code>"));
+        Assert.assertTrue(html.startsWith("<h2 id=\"toc_h2_0\">Solo</h2>"));
+
+        final List<JSONObject> toc = result.getToC();
+        Assert.assertEquals(toc.size(), 2);
+        Assert.assertEquals(toc.get(0).optString("className"), "toc__h2");
+        Assert.assertEquals(toc.get(1).optString("id"), "lute");
+        Assert.assertEquals(toc.get(1).optString("text"), "Lute");
+    }
+
+    /**
+     * Test method for {@linkplain HtmlPipeline#SANITIZE}.
+     */
+    @Test
+    public void sanitize() {
+        final HtmlPipeline pipeline = new HtmlPipeline(HtmlPipeline.SANITIZE);
+        final String html = pipeline.process("<p onclick=\"alert(1)\">Solo</p><script>alert(1)</script><pre class=\"language-java\"><code class=\"hljs\">Lute</code></pre>").getHTML();
+        Assert.assertFalse(html.contains("script"));
+        Assert.assertFalse(html.contains("onclick"));
+        Assert.assertTrue(html.contains("<code class=\"hljs\">Lute</code>"));
+        Assert.assertTrue(pipeline.process("Solo").getToC().isEmpty());
+    }
+}
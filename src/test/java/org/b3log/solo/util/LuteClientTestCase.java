@@ -0,0 +1,145 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.util;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.io.IOUtils;
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * {@link org.b3log.solo.util.LuteClient} test case, runs against a stub Lute HTTP server which wraps the markdown in
+ * a paragraph, or responds 500 when the markdown is "fail".
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.0, Oct 16, 2026
+ * @since 4.2.0
+ */
+public final class LuteClientTestCase {
+
+    /**
+     * Stub Lute HTTP server.
+     */
+    private HttpServer server;
+
+    /**
+     * Stub Lute HTTP URL.
+     */
+    private String url;
+
+    /**
+     * Remote ports of the received requests.
+     */
+    private final List<Integer> remotePorts = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeClass
+    public void beforeClass() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            remotePorts.add(exchange.getRemoteAddress().getPort());
+            final String markdown = IOUtils.toString(exchange.getRequestBody(), StandardCharsets.UTF_8);
+            final boolean fail = "fail".equals(markdown);
+            final byte[] body = (fail ? "error" : "<p>" + markdown + "</p>" + exchange.getRequestHeaders().getFirst("X-ToC")).getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(fail ? 500 : 200, body.length);
+            try (final OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterClass
+    public void afterClass() {
+        server.stop(0);
+    }
+
+    /**
+     * Test method for {@linkplain LuteClient#render(String, String, Map)}.
+     *
+     * @throws Exception exception
+     */
+    @Test
+    public void render() throws Exception {
+        final LuteClient client = new LuteClient(1000, 3000, 3000, 3, 60000, 2);
+        remotePorts.clear();
+        Assert.assertEquals(client.render(url, "Solo", headers()), "<p>Solo</p>false");
+        Assert.assertEquals(client.render(url, "Lute", headers()), "<p>Lute</p>false");
+
+        // 第二次请求复用了第一次的连接
+        Assert.assertEquals(remotePorts.size(), 2);
+        Assert.assertEquals(remotePorts.get(1), remotePorts.get(0));
+
+        final JSONObject stats = client.getStats();
+        Assert.assertEquals(stats.optLong("successCnt"), 2);
+        Assert.assertEquals(stats.optString("circuit"), "closed");
+        client.shutdown();
+    }
+
+    /**
+     * Test method for {@linkplain LuteClient#renderAll(String, List, Map)}.
+     */
+    @Test
+    public void renderAll() {
+        final LuteClient client = new LuteClient(1000, 3000, 3000, 10, 60000, 2);
+        final List<String> htmls = client.renderAll(url, Arrays.asList("a", "fail", "b", "c"), headers());
+        Assert.assertEquals(htmls, Arrays.asList("<p>a</p>false", null, "<p>b</p>false", "<p>c</p>false"));
+        client.shutdown();
+    }
+
+    /**
+     * Test method for {@linkplain LuteClient#allowRequest()}.
+     *
+     * @throws Exception exception
+     */
+    @Test
+    public void circuit() throws Exception {
+        final LuteClient client = new LuteClient(1000, 3000, 3000, 2, 200, 2);
+        for (int i = 0; i < 2; i++) {
+            Assert.assertTrue(client.allowRequest());
+            try {
+                client.render(url, "fail", headers());
+                Assert.fail();
+            } catch (final IOException e) {
+                // expected
+            }
+        }
+        Assert.assertFalse(client.allowRequest());
+        Assert.assertEquals(client.getStats().optString("circuit"), "open");
+
+        // 冷却结束后只放行一个试探请求，成功后关闭熔断
+        Thread.sleep(300);
+        Assert.assertTrue(client.allowRequest());
+        Assert.assertFalse(client.allowRequest());
+        client.render(url, "Solo", headers());
+        Assert.assertTrue(client.allowRequest());
+        Assert.assertEquals(client.getStats().optString("circuit"), "closed");
+        Assert.assertEquals(client.getStats().optLong("shortCircuitCnt"), 2);
+        client.shutdown();
+    }
+
+    private static Map<String, String> headers() {
+        final Map<String, String> ret = new HashMap<>();
+        ret.put("X-ToC", "false");
+
+        return ret;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.util;
+
+import org.apache.commons.lang.StringUtils;
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * {@link org.b3log.solo.util.MarkdownCache} test case.
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.0, Oct 16, 2026
+ * @since 4.2.0
+ */
+public final class MarkdownCacheTestCase {
+
+    /**
+     * Test method for {@linkplain MarkdownCache#put(String, String)}.
+     */
+    @Test
+    public void put() {
+        // 每个条目约 2 * (2 + 100) + 96 = 300 字节
+        final MarkdownCache cache = new MarkdownCache(1000);
+        final String html = StringUtils.repeat("a", 100);
+        for (int i = 0; i < 10; i++) {
+            cache.put("k" + i, html);
+        }
+
+        final JSONObject stats = cache.getStats();
+        Assert.assertEquals(stats.optInt("size"), 3);
+        Assert.assertTrue(stats.optLong("bytes") <= 1000);
+        Assert.assertEquals(stats.optLong("evictionCnt"), 7);
+        Assert.assertNull(cache.get("k0"));
+        Assert.assertEquals(cache.get("k9"), html);
+
+        cache.put("big", StringUtils.repeat("a", 1000));
+        Assert.assertNull(cache.get("big"));
+    }
+
+    /**
+     * Test method for {@linkplain MarkdownCache#get(String)}.
+     */
+    @Test
+    public void get() {
+        final MarkdownCache cache = new MarkdownCache(1000);
+        final String html = StringUtils.repeat("a", 100);
+        cache.put("hot", html);
+        Assert.assertEquals(cache.get("hot"), html);
+
+        // 只访问过一次的条目不会挤掉访问过两次的条目
+        for (int i = 0; i < 10; i++) {
+            cache.put("k" + i, html);
+        }
+        Assert.assertEquals(cache.get("hot"), html);
+
+        final JSONObject stats = cache.getStats();
+        Assert.assertEquals(stats.optLong("hitCnt"), 2);
+        Assert.assertEquals(stats.optLong("missCnt"), 0);
+
+        cache.clear();
+        Assert.assertNull(cache.get("hot"));
+        Assert.assertEquals(cache.getStats().optLong("bytes"), 0);
+    }
+}
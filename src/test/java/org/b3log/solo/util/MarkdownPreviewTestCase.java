@@ -0,0 +1,87 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.util;
+
+import org.apache.commons.lang.StringUtils;
+import org.b3log.latke.Latkes;
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * {@link org.b3log.solo.util.MarkdownPreview} test case.
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.2, Oct 16, 2026
+ * @since 4.2.0
+ */
+public final class MarkdownPreviewTestCase {
+
+    @BeforeClass
+    public void beforeClass() {
+        Latkes.init();
+    }
+
+    /**
+     * Test method for {@linkplain MarkdownPreview#render(String, String)}.
+     */
+    @Test
+    public void render() {
+        final String paragraph = StringUtils.repeat("Solo ", 1024);
+        final String draft = "# Section 1\n\n" + paragraph + "\n\n# Section 2\n\n" + paragraph + "\n\n# Section 3\n\n" + paragraph + "\n";
+
+        JSONObject result = MarkdownPreview.render("test", draft);
+        Assert.assertEquals(result.optJSONArray("hashes").length(), 3);
+        Assert.assertEquals(result.optJSONObject("blocks").length(), 3);
+        Assert.assertEquals(result.optString("html"), Markdowns.toHTML(draft));
+
+        // 只重新渲染修改过的块
+        result = MarkdownPreview.render("test", draft.replace("# Section 2", "# Section 2 edited"));
+        Assert.assertEquals(result.optJSONArray("hashes").length(), 3);
+        Assert.assertEquals(result.optJSONObject("blocks").length(), 1);
+        Assert.assertTrue(result.optString("html").contains("<h1>Section 2 edited</h1>"));
+        Assert.assertTrue(result.optString("html").startsWith("<h1>Section 1</h1>"));
+
+        // 会话之间互不影响
+        result = MarkdownPreview.render("another", draft);
+        Assert.assertEquals(result.optJSONObject("blocks").length(), 3);
+    }
+
+    /**
+     * Test method for {@linkplain MarkdownPreview#isClosed(String)}.
+     */
+    @Test
+    public void isClosed() {
+        Assert.assertTrue(MarkdownPreview.isClosed("<h1>Solo</h1>\n<p>Solo <b>Solo</b></p>\n"));
+        Assert.assertTrue(MarkdownPreview.isClosed(""));
+        Assert.assertFalse(MarkdownPreview.isClosed("<div>\n<h1>Solo</h1>\n"));
+        Assert.assertFalse(MarkdownPreview.isClosed("<p><b>Solo</p>\n"));
+        Assert.assertFalse(MarkdownPreview.isClosed("<table><tr><td>Solo</td></tr>\n"));
+    }
+
+    /**
+     * Test method for {@linkplain MarkdownPreview#render(String, String)} with a raw HTML element spanning blocks.
+     */
+    @Test
+    public void renderHTMLSpanningBlocks() {
+        final String paragraph = StringUtils.repeat("Solo ", 1024);
+        final String draft = "<div>\n\n# Section 1\n\n" + paragraph + "\n\n# Section 2\n\n" + paragraph + "\n\n</div>\n";
+
+        // 和保存时的渲染一致，补丁退化为整篇一块
+        final JSONObject result = MarkdownPreview.render("spanning", draft);
+        Assert.assertEquals(result.optString("html"), Markdowns.toHTML(draft));
+        Assert.assertTrue(result.optString("html").endsWith("</div>"));
+        Assert.assertEquals(result.optJSONArray("hashes").length(), 1);
+        Assert.assertEquals(result.optJSONObject("blocks").optString(result.optJSONArray("hashes").optString(0)), result.optString("html"));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.util;
+
+import org.b3log.latke.Latkes;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * {@link org.b3log.solo.util.MarkdownSplitter} test case.
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.0, Oct 16, 2026
+ * @since 4.2.0
+ */
+public final class MarkdownSplitterTestCase {
+
+    /**
+     * Test corpus.
+     */
+    private static final String[] CORPUS = {
+            "intro with [a link][ref] and [another][Other]\n\n# Heading 1\n\nparagraph\nlazy line\n\n",
+            "## List\n\n- item 1\n- item 2\n\n  continued item 2\n\n1. one\n2. two\n\n",
+            "### Code\n\n```java\n\n# not a heading\n\n```\n\n~~~~\n```\n\n# still code\n~~~~\n\n    indented code\n\n    # indented\n\n",
+            "#### Table\n\n| a | b |\n| - | - |\n| 1 | 2 |\n\n> quote\n> [not a definition]\n\n",
+            "# HTML\n\n<pre>\n\n# inside pre\n</pre>\n\n<!-- comment\n\n# inside comment\n-->\n\n<div>\n\n*emphasis*\n\n</div>\n\n",
+            "#hashtag paragraph\n\n[ref]: https://b3log.org \"B3log\"\n[other]: <https://ld246.com>\n\n",
+            "# CRLF\r\n\r\nline 1\r\nline 2\r\n\r\n- [ ] task\r\n- [x] ~~done~~ https://b3log.org\r\n\r\n",
+    };
+
+    @BeforeClass
+    public void beforeClass() {
+        Latkes.init();
+    }
+
+    /**
+     * Test method for {@linkplain MarkdownSplitter#split(String, int)}.
+     */
+    @Test
+    public void split() {
+        final String markdownText = String.join("", CORPUS);
+        final List<String> segments = MarkdownSplitter.split(markdownText, 1);
+        Assert.assertTrue(5 < segments.size());
+        final String definitions = "[ref]: https://b3log.org \"B3log\"\n[other]: <https://ld246.com>\n\n";
+        for (final String segment : segments) {
+            Assert.assertTrue(segment.startsWith(definitions));
+            final String content = segment.substring(definitions.length());
+            Assert.assertFalse(content.startsWith("# not a heading"));
+            Assert.assertFalse(content.startsWith("# still code"));
+            Assert.assertFalse(content.startsWith("# inside"));
+        }
+
+        // 渲染结果与整篇渲染逐字节一致
+        final StringBuilder html = new StringBuilder();
+        for (final String segment : segments) {
+            html.append(Markdowns.toHtmlByFlexmarkSerial(segment));
+        }
+        Assert.assertEquals(html.toString(), Markdowns.toHtmlByFlexmarkSerial(markdownText));
+
+        // 定义可能延续到下一行或嵌套在容器中时不拆分
+        Assert.assertEquals(MarkdownSplitter.split("a\n\n[ref]: /url\n\"title\"\n\n# b\n", 1).size(), 1);
+        Assert.assertEquals(MarkdownSplitter.split("a\n\n> [ref]: /url\n\n# b\n", 1).size(), 1);
+        Assert.assertEquals(MarkdownSplitter.split("a\n\n# b\n", 1024).size(), 1);
+    }
+
+    /**
+     * Test method for {@linkplain Markdowns#toHtmlByFlexmark(String)}.
+     */
+    @Test
+    public void toHtmlByFlexmark() {
+        final StringBuilder markdownText = new StringBuilder();
+        while (128 * 1024 > markdownText.length()) {
+            for (final String part : CORPUS) {
+                markdownText.append(part);
+            }
+        }
+
+        Assert.assertEquals(Markdowns.toHtmlByFlexmark(markdownText.toString()), Markdowns.toHtmlByFlexmarkSerial(markdownText.toString()));
+        Assert.assertTrue(0 < Markdowns.getRenderStats().optLong("parallelCnt"));
+    }
+}
@@ -11,16 +11,26 @@
  */
 package org.b3log.solo.util;
 
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.io.IOUtils;
 import org.b3log.latke.Latkes;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * {@link org.b3log.solo.util.Markdowns} test case.
  *
  * @author <a href="http://88250.b3log.org">Liang Ding</a>
- * @version 1.0.1.5, Feb 11, 2019
+ * @version 1.0.2.1, Oct 16, 2026
  * @since 0.4.5
  */
 public final class MarkdownsTestCase {
@@ -47,4 +57,68 @@ public final class MarkdownsTestCase {
 
         Assert.assertEquals(html, "<p>Solo Markdown</p>");
     }
+
+    /**
+     * Test method for {@linkplain Markdowns#toHTML(java.lang.String)} with a long markdown rendered in the pool.
+     */
+    @Test
+    public void toHTMLInPool() {
+        final StringBuilder markdownTextBuilder = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            markdownTextBuilder.append("Solo Markdown ").append(i).append("\n\n");
+        }
+        final long renderCnt = Markdowns.getRenderStats().optLong("renderCnt");
+        final String html = Markdowns.toHTML(markdownTextBuilder.toString());
+
+        Assert.assertTrue(html.startsWith("<p>Solo Markdown 0</p>"));
+        Assert.assertTrue(html.endsWith("<p>Solo Markdown 99</p>"));
+        Assert.assertEquals(Markdowns.getRenderStats().optLong("renderCnt"), renderCnt + 1);
+    }
+
+    /**
+     * Test method for {@linkplain Markdowns#toHTMLs(List, LuteClient)}, a batch render after the cool-down probes and
+     * closes the circuit.
+     *
+     * @throws Exception exception
+     */
+    @Test
+    public void toHTMLsClosesCircuit() throws Exception {
+        final HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            final String markdown = IOUtils.toString(exchange.getRequestBody(), StandardCharsets.UTF_8);
+            final boolean fail = "fail".equals(markdown);
+            final byte[] body = (fail ? "error" : "<p>" + markdown + "</p>").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(fail ? 500 : 200, body.length);
+            try (final OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+        final boolean luteAvailable = Markdowns.LUTE_AVAILABLE;
+        final String luteEngineURL = Markdowns.LUTE_ENGINE_URL;
+        Markdowns.LUTE_AVAILABLE = true;
+        Markdowns.LUTE_ENGINE_URL = "http://127.0.0.1:" + server.getAddress().getPort();
+        final LuteClient client = new LuteClient(1000, 3000, 3000, 1, 200, 2);
+        try {
+            try {
+                client.render(Markdowns.LUTE_ENGINE_URL, "fail", Collections.emptyMap());
+                Assert.fail();
+            } catch (final IOException e) {
+                // expected
+            }
+            Assert.assertEquals(client.getStats().optString("circuit"), "open");
+
+            Thread.sleep(300);
+            final long nonce = System.nanoTime();
+            final List<String> htmls = Markdowns.toHTMLs(Arrays.asList("Solo " + nonce, "Lute " + nonce), client);
+            Assert.assertEquals(htmls, Arrays.asList("<p>Solo " + nonce + "</p>", "<p>Lute " + nonce + "</p>"));
+            Assert.assertEquals(client.getStats().optString("circuit"), "closed");
+            Assert.assertTrue(client.allowRequest());
+        } finally {
+            Markdowns.LUTE_AVAILABLE = luteAvailable;
+            Markdowns.LUTE_ENGINE_URL = luteEngineURL;
+            client.shutdown();
+            server.stop(0);
+        }
+    }
 }
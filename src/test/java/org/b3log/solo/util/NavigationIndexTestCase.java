@@ -0,0 +1,65 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * {@link org.b3log.solo.util.NavigationIndex} test case.
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.0, Oct 16, 2026
+ * @since 4.2.0
+ */
+public final class NavigationIndexTestCase {
+
+    /**
+     * Test method for {@linkplain NavigationIndex#getPrevious(String)} and {@linkplain NavigationIndex#getNext(String)}.
+     */
+    @Test
+    public void navigate() {
+        final NavigationIndex index = new NavigationIndex();
+        index.put("1", 100, "第一篇", "/articles/1", "摘要 1");
+        index.put("3", 300, "第三篇", "/articles/3", "摘要 3");
+        index.put("2", 200, "第二篇", "/articles/2", "摘要 2");
+        Assert.assertEquals(index.size(), 3);
+
+        Assert.assertNull(index.getPrevious("1"));
+        Assert.assertEquals(index.getNext("1").optString("oId"), "2");
+        Assert.assertEquals(index.getPrevious("3").optString("articleTitle"), "第二篇");
+        Assert.assertEquals(index.getPrevious("3").optString("articleAbstract"), "摘要 2");
+        Assert.assertNull(index.getNext("3"));
+        Assert.assertNull(index.getNext("4"));
+
+        // 创建时间相同时按 id 排序
+        index.put("4", 200, "第四篇", "/articles/4", "摘要 4");
+        Assert.assertEquals(index.getNext("2").optString("oId"), "4");
+        Assert.assertEquals(index.getPrevious("3").optString("oId"), "4");
+
+        // 更新后替换原位置
+        index.put("1", 400, "第一篇（更新）", "/articles/1", "摘要 1");
+        Assert.assertEquals(index.size(), 4);
+        Assert.assertNull(index.getPrevious("2"));
+        Assert.assertEquals(index.getNext("3").optString("articlePermalink"), "/articles/1");
+
+        // 取消发布
+        index.remove("3");
+        Assert.assertFalse(index.contains("3"));
+        Assert.assertNull(index.getNext("3"));
+        Assert.assertEquals(index.getNext("4").optString("oId"), "1");
+        Assert.assertEquals(index.size(), 3);
+
+        index.clear();
+        Assert.assertEquals(index.size(), 0);
+    }
+}
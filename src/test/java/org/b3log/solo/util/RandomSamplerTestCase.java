@@ -0,0 +1,62 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * {@link org.b3log.solo.util.RandomSampler} test case.
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.0, Oct 16, 2026
+ * @since 4.2.0
+ */
+public final class RandomSamplerTestCase {
+
+    /**
+     * Test method for {@linkplain RandomSampler#sample(int)}.
+     */
+    @Test
+    public void sample() {
+        final RandomSampler sampler = new RandomSampler();
+        sampler.reset(Arrays.asList("1", "2", "3", "4", "5"));
+        sampler.add("6");
+        sampler.add("6");
+        sampler.remove("2");
+        sampler.remove("7");
+        Assert.assertEquals(sampler.size(), 5);
+
+        // 不放回抽样
+        final List<String> ids = sampler.sample(3);
+        Assert.assertEquals(ids.size(), 3);
+        Assert.assertEquals(new HashSet<>(ids).size(), 3);
+        Assert.assertFalse(ids.contains("2"));
+        Assert.assertEquals(new HashSet<>(sampler.sample(10)), new HashSet<>(Arrays.asList("1", "3", "4", "5", "6")));
+        Assert.assertTrue(sampler.sample(0).isEmpty());
+
+        // 每个 id 被抽中的概率相同
+        final int[] counts = new int[7];
+        for (int i = 0; i < 10000; i++) {
+            for (final String id : sampler.sample(2)) {
+                counts[Integer.parseInt(id)]++;
+            }
+        }
+        for (final String id : Arrays.asList("1", "3", "4", "5", "6")) {
+            Assert.assertTrue(3500 < counts[Integer.parseInt(id)] && 4500 > counts[Integer.parseInt(id)]);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.util;
+
+import org.b3log.latke.Keys;
+import org.b3log.solo.model.Article;
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link org.b3log.solo.util.RelevantArticleGraph} test case.
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.0, Oct 16, 2026
+ * @since 4.2.0
+ */
+public final class RelevantArticleGraphTestCase {
+
+    /**
+     * Test method for {@linkplain RelevantArticleGraph#get(String, int)}.
+     */
+    @Test
+    public void get() {
+        final RelevantArticleGraph graph = new RelevantArticleGraph(2);
+        graph.putAll(Arrays.asList(
+                article("1", "Solo,Java,博客"),
+                article("2", "Java,博客"),
+                article("3", "Java"),
+                article("4", "Lute")));
+
+        // 共同标签越多、越稀有越相关，只保留前 K 篇
+        List<JSONObject> relevants = graph.get("1", 10);
+        Assert.assertEquals(relevants.size(), 2);
+        Assert.assertEquals(relevants.get(0).optString(Article.ARTICLE_TITLE), "Title 2");
+        Assert.assertEquals(relevants.get(1).optString(Article.ARTICLE_TITLE), "Title 3");
+        Assert.assertEquals(graph.get("1", 1).size(), 1);
+        Assert.assertTrue(graph.get("4", 10).isEmpty());
+        Assert.assertNull(graph.get("5", 10));
+
+        // 标签变化时增量更新
+        graph.put("4", "Title 4", "/4", Arrays.asList("Solo", "Java", "博客"));
+        relevants = graph.get("1", 10);
+        Assert.assertEquals(relevants.get(0).optString(Article.ARTICLE_PERMALINK), "/4");
+        Assert.assertEquals(graph.get("4", 10).get(0).optString(Article.ARTICLE_PERMALINK), "/1");
+
+        graph.remove("4");
+        Assert.assertEquals(graph.get("1", 10).get(0).optString(Article.ARTICLE_TITLE), "Title 2");
+        graph.put("2", "Title 2", "/2", Collections.singletonList("Lute"));
+        Assert.assertEquals(graph.get("1", 10).size(), 1);
+        Assert.assertEquals(graph.size(), 3);
+    }
+
+    private static JSONObject article(final String id, final String tags) {
+        return new JSONObject().
+                put(Keys.OBJECT_ID, id).
+                put(Article.ARTICLE_TITLE, "Title " + id).
+                put(Article.ARTICLE_PERMALINK, "/" + id).
+                put(Article.ARTICLE_TAGS_REF, tags);
+    }
+}
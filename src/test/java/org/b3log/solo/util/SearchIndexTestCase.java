@@ -0,0 +1,88 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link org.b3log.solo.util.SearchIndex} test case.
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.1, Oct 16, 2026
+ * @since 4.2.0
+ */
+public final class SearchIndexTestCase {
+
+    /**
+     * Test method for {@linkplain SearchIndex#tokenize(String, boolean)}.
+     */
+    @Test
+    public void tokenize() {
+        Assert.assertEquals(SearchIndex.tokenize("Hello, Solo 4.1", false), Arrays.asList("hello", "solo", "4", "1"));
+        Assert.assertEquals(SearchIndex.tokenize("博客系统", false), Arrays.asList("博", "客", "系", "统", "博客", "客系", "系统"));
+        Assert.assertEquals(SearchIndex.tokenize("博客系统", true), Arrays.asList("博客", "客系", "系统"));
+        Assert.assertEquals(SearchIndex.tokenize("博", true), Collections.singletonList("博"));
+    }
+
+    /**
+     * Test method for {@linkplain SearchIndex#search(String)}.
+     */
+    @Test
+    public void search() {
+        final SearchIndex index = new SearchIndex();
+        index.put("1", "Solo 博客系统", "Java,博客", "一个小而美的博客系统，使用 Java 编写", 1);
+        index.put("2", "Lute 引擎", "Markdown,Go", "Markdown 引擎，solo 也在使用", 2);
+        index.put("3", "随笔", "生活", "今天天气不错，solos", 3);
+
+        // 标题命中排在最前，最后一个词按前缀匹配
+        final List<String> ids = index.search("Solo");
+        Assert.assertEquals(ids.size(), 3);
+        Assert.assertEquals(ids.get(0), "1");
+        Assert.assertEquals(index.search("博客"), Collections.singletonList("1"));
+        Assert.assertEquals(index.search("markdown 引擎"), Collections.singletonList("2"));
+        Assert.assertTrue(index.search("java 天气").isEmpty());
+        // 没有可检索的词时交给调用方回退到 LIKE
+        Assert.assertNull(index.search(""));
+        Assert.assertNull(index.search("++"));
+
+        // 旧数据不覆盖新数据
+        Assert.assertFalse(index.put("2", "Lute", "", "", 1));
+        Assert.assertEquals(index.search("引擎"), Collections.singletonList("2"));
+
+        index.remove("2");
+        Assert.assertTrue(index.search("markdown").isEmpty());
+        Assert.assertEquals(index.size(), 2);
+    }
+
+    /**
+     * Test method for {@linkplain SearchIndex#search(String)} with a short prefix.
+     */
+    @Test
+    public void searchShortPrefix() {
+        final SearchIndex index = new SearchIndex();
+        for (int i = 0; i < 40; i++) {
+            index.put("a" + i, "sa" + (char) ('a' + i / 26) + (char) ('a' + i % 26), "", "", i);
+        }
+        index.put("1", "Spring", "", "", 100);
+        index.put("2", "Spring Boot", "", "", 101);
+
+        // 字典序靠前的冷门词不会挤掉文档频率高的扩展词
+        final List<String> ids = index.search("s");
+        Assert.assertTrue(ids.contains("1"));
+        Assert.assertTrue(ids.contains("2"));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Solo - A small and beautiful blogging system written in Java.
+ * Copyright (c) 2010-present, b3log.org
+ *
+ * Solo is licensed under Mulan PSL v2.
+ * You can use this software according to the terms and conditions of the Mulan PSL v2.
+ * You may obtain a copy of Mulan PSL v2 at:
+ *         http://license.coscl.org.cn/MulanPSL2
+ * THIS SOFTWARE IS PROVIDED ON AN "AS IS" BASIS, WITHOUT WARRANTIES OF ANY KIND, EITHER EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO NON-INFRINGEMENT, MERCHANTABILITY OR FIT FOR A PARTICULAR PURPOSE.
+ * See the Mulan PSL v2 for more details.
+ */
+package org.b3log.solo.util;
+
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link org.b3log.solo.util.SuggestIndex} test case.
+ *
+ * @author <a href="http://88250.b3log.org">Liang Ding</a>
+ * @version 1.0.0.1, Oct 16, 2026
+ * @since 4.2.0
+ */
+public final class SuggestIndexTestCase {
+
+    /**
+     * Test method for {@linkplain SuggestIndex#suffixes(String)}.
+     */
+    @Test
+    public void suffixes() {
+        final Set<String> suffixes = SuggestIndex.suffixes(SuggestIndex.normalize("  Hello  Solo博客 "));
+        Assert.assertEquals(suffixes, new LinkedHashSet<>(Arrays.asList("hello solo博客", "solo博客", "博客", "客")));
+    }
+
+    /**
+     * Test method for {@linkplain SuggestIndex#suggest(String, int)}.
+     */
+    @Test
+    public void suggest() {
+        final SuggestIndex index = new SuggestIndex();
+        index.put("article:1", "article", "Solo 使用指南", "/articles/1", 10);
+        index.put("article:2", "article", "Hello Solo", "/articles/2", 100);
+        index.put("tag:Solo", "tag", "Solo", "/tags/Solo", 2);
+
+        // 按热度排序，匹配词首
+        List<JSONObject> suggestions = index.suggest("so", 10);
+        Assert.assertEquals(suggestions.size(), 3);
+        Assert.assertEquals(suggestions.get(0).optString("oId"), "article:2");
+        Assert.assertEquals(suggestions.get(2).optString("type"), "tag");
+        Assert.assertEquals(index.suggest("指南", 10).size(), 1);
+        Assert.assertEquals(index.suggest("olo", 10).size(), 0);
+        Assert.assertEquals(index.suggest("so", 1).size(), 1);
+        Assert.assertTrue(index.suggest(" ", 10).isEmpty());
+
+        // 只更新权重
+        index.put("tag:Solo", "tag", "Solo", "/tags/Solo", 1000);
+        suggestions = index.suggest("solo", 10);
+        Assert.assertEquals(suggestions.get(0).optString("oId"), "tag:Solo");
+
+        // 更新标题后旧标题不再匹配
+        final long bytes = index.memoryBytes();
+        index.put("article:1", "article", "Lute 使用指南", "/articles/1", 10);
+        Assert.assertEquals(index.suggest("solo", 10).size(), 2);
+        Assert.assertEquals(index.suggest("lute", 10).size(), 1);
+        Assert.assertEquals(index.memoryBytes(), bytes);
+
+        index.remove("article:1");
+        index.remove("article:2");
+        index.remove("tag:Solo");
+        Assert.assertEquals(index.size(), 0);
+        Assert.assertEquals(index.keyCount(), 0);
+        Assert.assertEquals(index.memoryBytes(), 0);
+    }
+
+    /**
+     * Test method for {@linkplain SuggestIndex#suggest(String, int)} with more matches than the suggestions.
+     */
+    @Test
+    public void suggestRanksAllMatches() {
+        final SuggestIndex index = new SuggestIndex();
+        for (int i = 0; i < 2000; i++) {
+            index.put("article:" + i, "article", String.format("Solo %04d", i), "/articles/" + i, i % 10);
+        }
+        // 按字典序排在最后的条目热度最高
+        index.put("tag:Solo", "tag", "Solo zzz", "/tags/Solo", 100);
+
+        final List<JSONObject> suggestions = index.suggest("solo", 3);
+        Assert.assertEquals(suggestions.size(), 3);
+        Assert.assertEquals(suggestions.get(0).optString("oId"), "tag:Solo");
+        Assert.assertEquals(suggestions.get(1).optString("oId"), "article:1009");
+        Assert.assertEquals(suggestions.get(2).optString("oId"), "article:1019");
+    }
+}